@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.bytes;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.DeadOutput;
+import org.cactoos.io.DeadOutputStream;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.TeeInput;
+import org.cactoos.scalar.LengthOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of {@link BytesOf} and {@link TeeInput}, copying
+ * bytes from an {@link org.cactoos.Input}, compared with
+ * plain JDK stream loops.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BytesBench {
+
+    /**
+     * Amount of bytes.
+     */
+    @Param({"1024", "1048576"})
+    public int size;
+
+    /**
+     * Source bytes.
+     */
+    private byte[] source;
+
+    @Setup
+    public void setup() {
+        this.source = new byte[this.size];
+        new SecureRandom().nextBytes(this.source);
+    }
+
+    @Benchmark
+    public byte[] bytesOf() throws Exception {
+        return new BytesOf(new InputOf(this.source)).asBytes();
+    }
+
+    @Benchmark
+    public byte[] bytesOfWithLoop() throws IOException {
+        try (InputStream input = new ByteArrayInputStream(this.source)) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[16 << 10];
+            while (true) {
+                final int len = input.read(buffer);
+                if (len < 0) {
+                    break;
+                }
+                output.write(buffer, 0, len);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public long teeInput() throws Exception {
+        return new LengthOf(
+            new TeeInput(new InputOf(this.source), new DeadOutput())
+        ).value();
+    }
+
+    @Benchmark
+    public long teeInputWithLoop() throws IOException {
+        try (
+            InputStream input = new ByteArrayInputStream(this.source);
+            OutputStream output = new DeadOutputStream()
+        ) {
+            final byte[] buffer = new byte[16 << 10];
+            long total = 0L;
+            while (true) {
+                final int len = input.read(buffer);
+                if (len < 0) {
+                    break;
+                }
+                output.write(buffer, 0, len);
+                total += (long) len;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.bytes;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.InputOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark of {@link InputAsBytes} against
+ * {@code InputStream.readAllBytes()} of Java 9.
+ *
+ * <p>The file is the case where the size is known upfront. The
+ * sequence of two streams is the case where it is not, because
+ * {@link SequenceInputStream#available()} only shows the first one.
+ * {@code readAllBytes()} is called through a {@link MethodHandle},
+ * since the library is built for Java 8; the benchmark has to run on
+ * Java 9 or later.</p>
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InputAsBytesBench {
+
+    /**
+     * Amount of bytes.
+     */
+    @Param({"1024", "1048576", "104857600"})
+    public int size;
+
+    /**
+     * Source bytes.
+     */
+    private byte[] source;
+
+    /**
+     * The file with the source bytes.
+     */
+    private Path file;
+
+    /**
+     * The InputStream.readAllBytes() method.
+     */
+    private MethodHandle all;
+
+    @Setup
+    public void setup() throws Exception {
+        this.source = new byte[this.size];
+        new Random(0L).nextBytes(this.source);
+        this.file = Files.createTempFile("cactoos-bench", ".bin");
+        Files.write(this.file, this.source);
+        this.all = MethodHandles.publicLookup().findVirtual(
+            InputStream.class, "readAllBytes",
+            MethodType.methodType(byte[].class)
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(this.file);
+    }
+
+    @Benchmark
+    public byte[] fileAsBytes() throws Exception {
+        return new InputAsBytes(new InputOf(this.file)).asBytes();
+    }
+
+    @Benchmark
+    public byte[] fileReadAllBytes() throws Throwable {
+        try (InputStream stream = new FileInputStream(this.file.toFile())) {
+            return (byte[]) this.all.invoke(stream);
+        }
+    }
+
+    @Benchmark
+    public byte[] streamAsBytes() throws Exception {
+        return new InputAsBytes(new InputOf(this.stream())).asBytes();
+    }
+
+    @Benchmark
+    public byte[] streamReadAllBytes() throws Throwable {
+        try (InputStream stream = this.stream()) {
+            return (byte[]) this.all.invoke(stream);
+        }
+    }
+
+    /**
+     * Stream of the source bytes, of unknown size.
+     * @return Stream
+     */
+    private InputStream stream() {
+        final int half = this.size / 2;
+        return new SequenceInputStream(
+            new ByteArrayInputStream(this.source, 0, half),
+            new ByteArrayInputStream(this.source, half, this.size - half)
+        );
+    }
+}
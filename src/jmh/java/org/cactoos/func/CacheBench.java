@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of {@link StickyFunc} and {@link SolidFunc}, compared
+ * with plain JDK maps, with a mix of hits and misses.
+ *
+ * <p>The cache is smaller than the amount of keys, in order to
+ * measure the eviction too.</p>
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheBench {
+
+    /**
+     * Amount of keys.
+     */
+    @Param({"1000"})
+    public int keys;
+
+    /**
+     * Maximum cache size.
+     */
+    @Param({"100", "10000"})
+    public int max;
+
+    /**
+     * Next key to ask for.
+     */
+    private int next;
+
+    /**
+     * Sticky func.
+     */
+    private Func<Integer, Integer> sticky;
+
+    /**
+     * Solid func.
+     */
+    private Func<Integer, Integer> solid;
+
+    /**
+     * Plain map.
+     */
+    private Map<Integer, Integer> map;
+
+    /**
+     * Concurrent map.
+     */
+    private Map<Integer, Integer> concurrent;
+
+    @Setup
+    public void setup() {
+        this.sticky = new StickyFunc<>(x -> x * 2, this.max);
+        this.solid = new SolidFunc<>(x -> x * 2, this.max);
+        this.map = new HashMap<>(0);
+        this.concurrent = new ConcurrentHashMap<>(0);
+    }
+
+    @Benchmark
+    public Integer stickyFunc() throws Exception {
+        return this.sticky.apply(this.key());
+    }
+
+    @Benchmark
+    public Integer solidFunc() throws Exception {
+        return this.solid.apply(this.key());
+    }
+
+    @Benchmark
+    public Integer hashMap() {
+        return this.map.computeIfAbsent(this.key(), x -> x * 2);
+    }
+
+    @Benchmark
+    public Integer concurrentHashMap() {
+        return this.concurrent.computeIfAbsent(this.key(), x -> x * 2);
+    }
+
+    /**
+     * Next key, from zero to the amount of keys, in a loop.
+     * @return The key
+     */
+    private Integer key() {
+        this.next = (this.next + 1) % this.keys;
+        return this.next;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark of {@link RateLimitedFunc} with a rate much higher than
+ * the rate of calls, compared with the same func without a limit,
+ * in 1 and 8 threads, to see the overhead of {@link TokenBucket}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RateLimitedFuncBench {
+
+    /**
+     * The func without a limit.
+     */
+    private Func<Integer, Integer> plain;
+
+    /**
+     * The func with a limit.
+     */
+    private Func<Integer, Integer> limited;
+
+    /**
+     * The bucket of the non-blocking check.
+     */
+    private TokenBucket bucket;
+
+    @Setup
+    public void setup() {
+        this.plain = x -> x * 2;
+        this.limited = new RateLimitedFunc<>(
+            this.plain, new TokenBucket(1.0e12d, 1_000_000)
+        );
+        this.bucket = new TokenBucket(1.0e12d, 1_000_000);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer plainInOneThread() throws Exception {
+        return this.plain.apply(42);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer limitedInOneThread() throws Exception {
+        return this.limited.apply(42);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer limitedInEightThreads() throws Exception {
+        return this.limited.apply(42);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean tryAcquireInOneThread() {
+        return this.bucket.tryAcquire();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Benchmark of {@link SolidFunc}, compared with {@link StickyFunc}
+ * decorated by {@link SyncFunc}, which is how {@link SolidFunc}
+ * used to be implemented, in 1, 8 and 64 threads.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SolidFuncBench {
+
+    /**
+     * Amount of keys.
+     */
+    @Param({"1000"})
+    public int keys;
+
+    /**
+     * Maximum cache size.
+     */
+    @Param({"100", "10000"})
+    public int max;
+
+    /**
+     * Solid func.
+     */
+    private Func<Integer, Integer> solid;
+
+    /**
+     * Synchronized sticky func.
+     */
+    private Func<Integer, Integer> synced;
+
+    @Setup
+    public void setup() {
+        this.solid = new SolidFunc<>(x -> x * 2, this.max);
+        this.synced = new SyncFunc<>(new StickyFunc<>(x -> x * 2, this.max));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer solidInOneThread() throws Exception {
+        return this.solid.apply(this.key());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer solidInEightThreads() throws Exception {
+        return this.solid.apply(this.key());
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer solidInSixtyFourThreads() throws Exception {
+        return this.solid.apply(this.key());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer syncedInOneThread() throws Exception {
+        return this.synced.apply(this.key());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer syncedInEightThreads() throws Exception {
+        return this.synced.apply(this.key());
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Integer syncedInSixtyFourThreads() throws Exception {
+        return this.synced.apply(this.key());
+    }
+
+    /**
+     * Random key, from zero to the amount of keys.
+     * @return The key
+     */
+    private Integer key() {
+        return ThreadLocalRandom.current().nextInt(this.keys);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.LengthOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of {@link Buffers} against plain allocation of a 16KB
+ * buffer, and of {@link LengthOf} of a small input, which borrows its
+ * buffer from the shared pool.
+ *
+ * <p>With the GC profiler, "gc.alloc.rate.norm" of the pooled
+ * benchmarks must stay far below 16KB per operation.</p>
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BuffersBench {
+
+    /**
+     * The pool.
+     */
+    private Buffers buffers;
+
+    /**
+     * Small content.
+     */
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        this.buffers = new Buffers();
+        this.content = new byte[100];
+    }
+
+    @Benchmark
+    public byte[] allocated() {
+        return new byte[16 << 10];
+    }
+
+    @Benchmark
+    public int pooled() {
+        final byte[] array = this.buffers.array(16 << 10);
+        final int length = array.length;
+        this.buffers.release(array);
+        return length;
+    }
+
+    @Benchmark
+    public Long lengthOfSmallInput() throws Exception {
+        return new LengthOf(new InputOf(this.content)).value();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.Sha256DigestOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark of {@link MappedInput} against {@link InputOf}, on a file.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MappedInputBench {
+
+    /**
+     * Size of the file, in megabytes.
+     */
+    @Param({"64"})
+    public int megabytes;
+
+    /**
+     * The file.
+     */
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = Files.createTempFile("cactoos-bench", ".bin");
+        final byte[] content = new byte[this.megabytes << 20];
+        new Random(0L).nextBytes(content);
+        Files.write(this.file, content);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(this.file);
+    }
+
+    @Benchmark
+    public byte[] digestOfStream() throws Exception {
+        return new Sha256DigestOf(new InputOf(this.file)).asBytes();
+    }
+
+    @Benchmark
+    public byte[] digestOfMapped() throws Exception {
+        return new Sha256DigestOf(new MappedInput(this.file)).asBytes();
+    }
+
+    @Benchmark
+    public byte[] bytesOfStream() throws Exception {
+        return new BytesOf(new InputOf(this.file)).asBytes();
+    }
+
+    @Benchmark
+    public byte[] bytesOfMapped() throws Exception {
+        return new BytesOf(new MappedInput(this.file)).asBytes();
+    }
+}
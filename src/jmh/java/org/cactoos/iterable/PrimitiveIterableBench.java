@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.Folded;
+import org.cactoos.scalar.FoldedInts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of a numeric pipeline over {@link IterableOfInts}, built
+ * of {@link Mapped} and {@link Filtered} with boxing, and of
+ * {@link MappedInts} and {@link FilteredInts} without it.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrimitiveIterableBench {
+
+    /**
+     * Amount of elements.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * Source elements.
+     */
+    private Iterable<Integer> source;
+
+    @Setup
+    public void setup() {
+        final int[] items = new int[this.size];
+        for (int idx = 0; idx < items.length; ++idx) {
+            items[idx] = idx;
+        }
+        this.source = new IterableOfInts(items);
+    }
+
+    @Benchmark
+    public Integer boxed() throws Exception {
+        return new Folded<>(
+            0,
+            (Integer acc, Integer x) -> acc + x,
+            new Filtered<>(
+                x -> x % 3 == 0,
+                new Mapped<>(x -> x * 7, this.source)
+            )
+        ).value();
+    }
+
+    @Benchmark
+    public int primitive() {
+        return new FoldedInts(
+            0,
+            (acc, x) -> acc + x,
+            new FilteredInts(
+                x -> x % 3 == 0,
+                new MappedInts(x -> x * 7, this.source)
+            )
+        ).asInt();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the steady-state allocations of {@link Mapped} and
+ * {@link Filtered}, one element per operation.
+ *
+ * <p>The iterators are endless and built once, the functions return
+ * cached objects, so the "gc.alloc.rate.norm" metric of the GC profiler
+ * must stay near zero bytes per operation. If it grows, some decorator
+ * on the path of {@code next()} or {@code hasNext()} started to
+ * allocate again.</p>
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IteratorAllocationBench {
+
+    /**
+     * Mapped iterator.
+     */
+    private Iterator<Integer> mapped;
+
+    /**
+     * Filtered iterator.
+     */
+    private Iterator<Integer> filtered;
+
+    /**
+     * Filtered iterator over a mapped one.
+     */
+    private Iterator<Integer> chained;
+
+    @Setup
+    public void setup() {
+        this.mapped = new Mapped<>(x -> x + 1, new Endless<>(7));
+        this.filtered = new Filtered<>(x -> x > 0, new Endless<>(7));
+        this.chained = new Filtered<>(
+            x -> x % 2 == 0,
+            new Mapped<>(x -> x + 1, new Endless<>(7))
+        );
+    }
+
+    @Benchmark
+    public Integer mappedNext() {
+        return this.mapped.next();
+    }
+
+    @Benchmark
+    public Integer filteredNext() {
+        return this.filtered.next();
+    }
+
+    @Benchmark
+    public Integer mappedAndFilteredNext() {
+        return this.chained.next();
+    }
+}
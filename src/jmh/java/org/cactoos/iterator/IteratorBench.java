@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of {@link Mapped} and {@link Filtered}, compared with
+ * plain JDK streams and loops over the same list.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public class IteratorBench {
+
+    /**
+     * Amount of elements.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * Source elements.
+     */
+    private List<Integer> source;
+
+    @Setup
+    public void setup() {
+        this.source = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.source.add(idx);
+        }
+    }
+
+    @Benchmark
+    public void mapped(final Blackhole hole) {
+        final Iterator<Integer> items = new Mapped<>(
+            x -> x * 2, this.source.iterator()
+        );
+        while (items.hasNext()) {
+            hole.consume(items.next());
+        }
+    }
+
+    @Benchmark
+    public void mappedWithStream(final Blackhole hole) {
+        this.source.stream().map(x -> x * 2).forEach(hole::consume);
+    }
+
+    @Benchmark
+    public void mappedWithLoop(final Blackhole hole) {
+        for (final Integer item : this.source) {
+            hole.consume(item * 2);
+        }
+    }
+
+    @Benchmark
+    public void filtered(final Blackhole hole) {
+        final Iterator<Integer> items = new Filtered<>(
+            x -> x % 2 == 0, this.source.iterator()
+        );
+        while (items.hasNext()) {
+            hole.consume(items.next());
+        }
+    }
+
+    @Benchmark
+    public void filteredWithStream(final Blackhole hole) {
+        this.source.stream().filter(x -> x % 2 == 0).forEach(hole::consume);
+    }
+
+    @Benchmark
+    public void filteredWithLoop(final Blackhole hole) {
+        for (final Integer item : this.source) {
+            if (item % 2 == 0) {
+                hole.consume(item);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Integer> mappedAndFiltered() {
+        final Iterator<Integer> items = new Filtered<>(
+            x -> x % 3 == 0,
+            new Mapped<>(x -> x + 1, this.source.iterator())
+        );
+        final List<Integer> result = new ArrayList<>(this.size);
+        while (items.hasNext()) {
+            result.add(items.next());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> mappedAndFilteredWithStream() {
+        return this.source.stream()
+            .map(x -> x + 1)
+            .filter(x -> x % 3 == 0)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.IterableOfInts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the exact {@link SumOf}, compared with {@link LongSumOf}
+ * and {@link DoubleSumOf} over boxed and primitive iterables.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SumOfBench {
+
+    /**
+     * Amount of numbers.
+     */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /**
+     * Boxed numbers.
+     */
+    private List<Integer> boxed;
+
+    /**
+     * Primitive numbers.
+     */
+    private Iterable<Integer> primitive;
+
+    @Setup
+    public void setup() {
+        final int[] items = new int[this.size];
+        this.boxed = new ArrayList<>(this.size);
+        for (int idx = 0; idx < items.length; ++idx) {
+            items[idx] = idx;
+            this.boxed.add(idx);
+        }
+        this.primitive = new IterableOfInts(items);
+    }
+
+    @Benchmark
+    public long exact() {
+        return new SumOf(this.boxed).longValue();
+    }
+
+    @Benchmark
+    public long longsOfBoxed() {
+        return new LongSumOf(this.boxed).longValue();
+    }
+
+    @Benchmark
+    public long longsOfPrimitives() {
+        return new LongSumOf(this.primitive).longValue();
+    }
+
+    @Benchmark
+    public double doublesOfPrimitives() {
+        return new DoubleSumOf(this.primitive).doubleValue();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of {@link Text} composition, with {@link Joined},
+ * {@link Concatenated} and {@link Upper}, compared with
+ * plain JDK strings.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextBench {
+
+    /**
+     * Amount of strings.
+     */
+    @Param({"10", "1000"})
+    public int size;
+
+    /**
+     * Source strings.
+     */
+    private List<String> source;
+
+    @Setup
+    public void setup() {
+        this.source = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.source.add(String.format("line number %d", idx));
+        }
+    }
+
+    @Benchmark
+    public String joined() throws Exception {
+        return new Joined(", ", this.source).asString();
+    }
+
+    @Benchmark
+    public String joinedWithString() {
+        return String.join(", ", this.source);
+    }
+
+    @Benchmark
+    public String joinedWithStream() {
+        return this.source.stream().collect(Collectors.joining(", "));
+    }
+
+    @Benchmark
+    public String concatenatedAndUpper() throws Exception {
+        return new Upper(
+            new Concatenated(this.source.toArray(new String[0]))
+        ).asString();
+    }
+
+    @Benchmark
+    public String concatenatedAndUpperWithBuilder() {
+        final StringBuilder builder = new StringBuilder();
+        for (final String line : this.source) {
+            builder.append(line);
+        }
+        return builder.toString().toUpperCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos;
+
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Input, readable through a channel.
+ *
+ * <p>It is the NIO counterpart of {@link Input}. The bytes are read into
+ * {@link java.nio.ByteBuffer}s, which may be direct, so they don't have
+ * to be copied into the heap on their way from a file or a socket:</p>
+ *
+ * <pre> byte[] md5 = new Md5DigestOf(
+ *   new InputOf(
+ *     new HeadOf(new InputOf(new File("/tmp/names.txt")), 1024)
+ *   )
+ * ).asBytes();</pre>
+ *
+ * <p>Use {@link org.cactoos.io.ChannelInputOf} to make a channel input
+ * out of an {@link Input}, and {@link org.cactoos.io.InputOf} to make
+ * an {@link Input} out of a channel input.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see org.cactoos.io.ChannelInputOf
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ChannelInput {
+
+    /**
+     * Get read access to it.
+     * @return Channel to read from
+     * @throws Exception If something goes wrong
+     */
+    ReadableByteChannel channel() throws Exception;
+
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos;
+
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Output, writable through a channel.
+ *
+ * <p>It is the NIO counterpart of {@link Output}. Use
+ * {@link org.cactoos.io.ChannelOutputTo} to make a channel output out
+ * of an {@link Output}, and {@link org.cactoos.io.OutputTo} to make
+ * an {@link Output} out of a channel output.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see org.cactoos.io.ChannelOutputTo
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ChannelOutput {
+
+    /**
+     * Get write access to it.
+     * @return Channel to write to
+     * @throws Exception If something goes wrong
+     */
+    WritableByteChannel channel() throws Exception;
+
+}
@@ -6,14 +6,25 @@ package org.cactoos.bytes;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import org.cactoos.Bytes;
+import org.cactoos.ChannelInput;
 import org.cactoos.Input;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.ChannelInputStream;
 
 /**
  * Digest Envelope.
  *
+ * <p>A {@link ChannelInput}, like {@link org.cactoos.io.MappedInput} or
+ * {@link org.cactoos.io.HeadOf} of it, and a stream that is
+ * a {@link ChannelInputStream}, for example from
+ * {@link org.cactoos.io.InputOf} made of a channel input, are digested
+ * by reading the channel into a direct buffer.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.29
@@ -65,19 +76,60 @@ public abstract class DigestEnvelope implements Bytes {
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (InputStream stream = this.source.stream()) {
-            final MessageDigest msg = MessageDigest.getInstance(this.algorithm);
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                final int len = stream.read(buf);
-                if (len < 0) {
-                    break;
-                }
-                msg.update(buf, 0, len);
-            }
-            return msg.digest();
+        final MessageDigest msg;
+        try {
+            msg = MessageDigest.getInstance(this.algorithm);
         } catch (final NoSuchAlgorithmException ex) {
             throw new IOException(ex);
         }
+        if (this.source instanceof ChannelInput) {
+            try (ReadableByteChannel channel =
+                ((ChannelInput) this.source).channel()) {
+                this.digest(msg, channel);
+            }
+        } else {
+            try (InputStream stream = this.source.stream()) {
+                if (stream instanceof ChannelInputStream) {
+                    this.digest(msg, ((ChannelInputStream) stream).channel());
+                } else {
+                    final Buffers buffers = new Buffers();
+                    final byte[] buf = buffers.array(this.size);
+                    try {
+                        while (true) {
+                            final int len = stream.read(buf, 0, this.size);
+                            if (len < 0) {
+                                break;
+                            }
+                            msg.update(buf, 0, len);
+                        }
+                    } finally {
+                        buffers.release(buf);
+                    }
+                }
+            }
+        }
+        return msg.digest();
+    }
+
+    /**
+     * Digest the channel, reading it into a direct buffer.
+     * @param msg The digest
+     * @param channel The channel
+     * @throws IOException If fails
+     */
+    private void digest(final MessageDigest msg,
+        final ReadableByteChannel channel) throws IOException {
+        final Buffers buffers = new Buffers();
+        final ByteBuffer buf = buffers.buffer(this.size);
+        try {
+            while (channel.read(buf) >= 0) {
+                buf.flip();
+                msg.update(buf);
+                buf.clear();
+                buf.limit(this.size);
+            }
+        } finally {
+            buffers.release(buf);
+        }
     }
 }
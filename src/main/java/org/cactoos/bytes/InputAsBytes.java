@@ -4,12 +4,11 @@
  */
 package org.cactoos.bytes;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
-import org.cactoos.io.OutputTo;
-import org.cactoos.io.TeeInput;
 
 /**
  * Input as Byte Array.
@@ -21,6 +20,11 @@ import org.cactoos.io.TeeInput;
  */
 public final class InputAsBytes implements Bytes {
 
+    /**
+     * The largest array the JVM can allocate.
+     */
+    private static final int LIMIT = Integer.MAX_VALUE - 8;
+
     /**
      * The input.
      */
@@ -51,20 +55,104 @@ public final class InputAsBytes implements Bytes {
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            InputStream stream = new TeeInput(
-                this.source,
-                new OutputTo(baos)
-            ).stream()
-        ) {
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                if (stream.read(buf) < 0) {
+        if (this.size <= 0) {
+            throw new IllegalArgumentException(
+                "Cannot use a buffer limited to zero size"
+            );
+        }
+        try (InputStream stream = this.source.stream()) {
+            return InputAsBytes.read(stream, this.size);
+        }
+    }
+
+    /**
+     * Read the stream into an array.
+     *
+     * <p>The array is pre-sized by {@link InputStream#available()}, which
+     * is the size of the rest of the file for a
+     * {@link java.io.FileInputStream} or a stream of a seekable channel,
+     * like the one of {@link org.cactoos.io.MappedInput}, and the whole
+     * content for a {@link java.io.ByteArrayInputStream}. If the size is
+     * right, the array is returned as is. Otherwise it grows as needed
+     * and is trimmed in the end. A single available byte is only a hint that
+     * the stream is not at its end, as in
+     * {@link java.util.zip.InflaterInputStream}, so it is ignored.</p>
+     *
+     * @param stream The stream
+     * @param max Max length of the buffer for reading
+     * @return Bytes
+     * @throws IOException If fails
+     */
+    private static byte[] read(final InputStream stream, final int max)
+        throws IOException {
+        final int available = stream.available();
+        byte[] bytes;
+        if (available > 1) {
+            bytes = new byte[Math.min(available, InputAsBytes.LIMIT)];
+        } else {
+            bytes = new byte[max];
+        }
+        int count = 0;
+        while (true) {
+            if (count == bytes.length) {
+                final int next = stream.read();
+                if (next < 0) {
                     break;
                 }
+                bytes = InputAsBytes.grown(
+                    bytes, stream.available(), max
+                );
+                bytes[count] = (byte) next;
+                count += 1;
+            }
+            final int len = stream.read(
+                bytes, count, Math.min(max, bytes.length - count)
+            );
+            if (len < 0) {
+                break;
             }
-            return baos.toByteArray();
+            count += len;
+        }
+        if (count < bytes.length) {
+            bytes = Arrays.copyOf(bytes, count);
+        }
+        return bytes;
+    }
+
+    /**
+     * Make the array larger.
+     *
+     * <p>It grows at least twice, so reading stays linear even when
+     * the stream says there is little available, and at least by the size
+     * of a read. If the stream says there is more available, plus the
+     * byte that was read to find out that the array is too small, it
+     * grows by that.</p>
+     *
+     * @param bytes The array
+     * @param available How many bytes the stream says are available
+     * @param min Minimum growth
+     * @return Larger array with the same bytes in the beginning
+     * @throws IOException If the array can't grow any more
+     */
+    private static byte[] grown(final byte[] bytes, final int available,
+        final int min) throws IOException {
+        if (bytes.length == InputAsBytes.LIMIT) {
+            throw new IOException(
+                String.format(
+                    "The input is larger than %d bytes, it doesn't fit",
+                    InputAsBytes.LIMIT
+                )
+            );
         }
+        final long extra = Math.max(
+            Math.max((long) bytes.length, (long) available + 1L),
+            (long) min
+        );
+        return Arrays.copyOf(
+            bytes,
+            (int) Math.min(
+                (long) bytes.length + extra, (long) InputAsBytes.LIMIT
+            )
+        );
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator of futures of tasks, in the order they finish.
+ *
+ * <p>All tasks are submitted when the iterator is created, and each
+ * call to {@link #next()} waits for the next task to finish. When
+ * the timeout is over, all unfinished tasks are cancelled and returned
+ * as they are.</p>
+ *
+ * <p>This class is for internal use only. Use {@link Finished}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> The type of task result
+ * @since 1.0
+ */
+final class Completions<T> implements Iterator<Future<T>> {
+
+    /**
+     * The queue of finished tasks.
+     */
+    private final CompletionService<T> completion;
+
+    /**
+     * Futures of all tasks submitted.
+     */
+    private final Collection<Future<T>> futures;
+
+    /**
+     * The moment of time, in nanos, when the timeout is over.
+     */
+    private final long deadline;
+
+    /**
+     * Amount of futures not returned yet.
+     */
+    private int remaining;
+
+    /**
+     * Ctor.
+     * @param svc The executor
+     * @param timeout The maximum time to wait
+     * @param tasks The tasks
+     */
+    Completions(final ExecutorService svc, final Duration timeout,
+        final Iterable<? extends Callable<T>> tasks) {
+        this.completion = new ExecutorCompletionService<>(svc);
+        this.futures = new LinkedList<>();
+        for (final Callable<T> task : tasks) {
+            this.futures.add(this.completion.submit(task));
+        }
+        this.remaining = this.futures.size();
+        this.deadline = System.nanoTime() + timeout.toNanos();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.remaining > 0;
+    }
+
+    @Override
+    public Future<T> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "There are no more finished tasks"
+            );
+        }
+        final Future<T> next = new Unchecked<>(this::take).value();
+        this.remaining -= 1;
+        return next;
+    }
+
+    /**
+     * Wait for the next task to finish or for the timeout.
+     * @return The future of the task
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private Future<T> take() throws InterruptedException {
+        Future<T> next = this.completion.poll(
+            this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS
+        );
+        if (next == null) {
+            for (final Future<T> future : this.futures) {
+                future.cancel(true);
+            }
+            next = this.completion.take();
+        }
+        return next;
+    }
+}
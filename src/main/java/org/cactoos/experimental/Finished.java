@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.cactoos.Scalar;
+import org.cactoos.func.SharedThreads;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.scalar.CallableOf;
+
+/**
+ * Executes the tasks concurrently and returns their results in the order
+ * they finish, optionally within given timeout.
+ *
+ * <p>Unlike {@link Threads}, which waits for all tasks before returning
+ * the first result, this iterable returns each result as soon as its task
+ * is finished, so the fastest task is seen first.</p>
+ *
+ * <p>The tasks are submitted every time {@link #iterator()} is called,
+ * into the same executor, which is never shut down here. Without
+ * an explicit executor the tasks run in {@link SharedThreads}, in virtual
+ * threads if the JVM supports them. When the timeout is over, all
+ * unfinished tasks are cancelled and their results are not available.</p>
+ *
+ * <pre>{@code
+ * final ExecutorService svc = Executors.newFixedThreadPool(8);
+ * for (final String page : new Finished<>(svc, fetch1, fetch2, fetch3)) {
+ *     System.out.println(page); // the fastest page comes first
+ * }
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> The type of task result item.
+ * @since 1.0
+ */
+public final class Finished<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    @SafeVarargs
+    public Finished(final Scalar<? extends T>... tasks) {
+        this(new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Finished(final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(new SharedThreads(), tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    @SafeVarargs
+    public Finished(final ExecutorService exc, final Scalar<? extends T>... tasks) {
+        this(exc, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Finished(final ExecutorService exc,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(exc, Duration.ofNanos(Long.MAX_VALUE), tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor.
+     * @param timeout The maximum time to wait.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    @SafeVarargs
+    public Finished(
+        final ExecutorService exc,
+        final Duration timeout,
+        final Scalar<? extends T>... tasks
+    ) {
+        this(exc, timeout, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor.
+     * @param timeout The maximum time to wait.
+     * @param tasks The tasks to be executed concurrently.
+     */
+    public Finished(
+        final ExecutorService exc,
+        final Duration timeout,
+        final Iterable<? extends Scalar<? extends T>> tasks
+    ) {
+        super(
+            () -> new Mapped<>(
+                Future::get,
+                () -> new Completions<>(
+                    exc,
+                    timeout,
+                    new Mapped<Callable<T>>(CallableOf::new, tasks)
+                )
+            ).iterator()
+        );
+    }
+}
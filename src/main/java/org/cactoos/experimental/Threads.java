@@ -12,6 +12,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
+import org.cactoos.func.SharedThreads;
 import org.cactoos.func.UncheckedFunc;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.IterableOf;
@@ -22,11 +23,40 @@ import org.cactoos.scalar.CallableOf;
 /**
  * Allows to execute the tasks concurrently, optionally within given timeout.
  *
+ * <p>Without an explicit executor or amount of threads, the tasks run in
+ * {@link SharedThreads}, in virtual threads if the JVM supports them.
+ * With an amount of threads, a new pool is created and shut down every
+ * time {@link #iterator()} is called, while an explicit executor is reused
+ * by all iterations and is never shut down here.</p>
+ *
+ * <p>The results are returned in the order of the tasks, after all of them
+ * are finished. Use {@link Finished} to get each result as soon as its
+ * task is finished.</p>
+ *
  * @param <T> The type of task result item.
  * @since 1.0.0
  */
 public final class Threads<T> extends IterableEnvelope<T> {
 
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently.
+     * @see SharedThreads
+     */
+    @SafeVarargs
+    public Threads(final Scalar<? extends T>... tasks) {
+        this(new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently.
+     * @see SharedThreads
+     */
+    public Threads(final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(new SharedThreads(), tasks);
+    }
+
     /**
      * Ctor.
      * @param exc The executor.
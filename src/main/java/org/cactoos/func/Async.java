@@ -21,6 +21,11 @@ import org.cactoos.Proc;
  *   input -&gt; input.length()
  * ).apply("Hello, world!").get();</pre>
  *
+ * <p>By default, the func runs in {@link SharedThreads}, in a virtual
+ * thread if the JVM supports them. Give it an {@link ExecutorService}
+ * to run it elsewhere. To compose the result without blocking
+ * a thread in {@link Future#get()}, use {@link Completable}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
@@ -44,7 +49,7 @@ public final class Async<X, Y> implements Func<X, Future<Y>>, Proc<X> {
      * @param fnc The func
      */
     public Async(final Func<X, Y> fnc) {
-        this(fnc, Executors.defaultThreadFactory());
+        this(fnc, new SharedThreads());
     }
 
     /**
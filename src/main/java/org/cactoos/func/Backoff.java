@@ -0,0 +1,154 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delays between attempts of {@link Retry} and {@link CompletableRetry}.
+ *
+ * <p>Each delay is calculated from the previous one, which is
+ * {@link Duration#ZERO} before the first retry, so implementations
+ * don't need to keep any state and may be shared by many threads.</p>
+ *
+ * @since 1.0
+ */
+public interface Backoff {
+
+    /**
+     * Calculate the delay before the next attempt.
+     * @param previous The previous delay, or zero before the first retry
+     * @return The delay
+     */
+    Duration delay(Duration previous);
+
+    /**
+     * The same delay every time.
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Fixed implements Backoff {
+
+        /**
+         * The delay.
+         */
+        private final Duration wait;
+
+        /**
+         * Ctor.
+         * @param wait The delay
+         */
+        public Fixed(final Duration wait) {
+            this.wait = wait;
+        }
+
+        @Override
+        public Duration delay(final Duration previous) {
+            return this.wait;
+        }
+    }
+
+    /**
+     * Delay that doubles every time, from the base up to the cap.
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Exponential implements Backoff {
+
+        /**
+         * The first delay.
+         */
+        private final Duration base;
+
+        /**
+         * The longest delay.
+         */
+        private final Duration cap;
+
+        /**
+         * Ctor.
+         * @param base The first delay
+         * @param cap The longest delay
+         */
+        public Exponential(final Duration base, final Duration cap) {
+            this.base = base;
+            this.cap = cap;
+        }
+
+        @Override
+        public Duration delay(final Duration previous) {
+            final Duration next;
+            if (previous.isZero()) {
+                next = this.base;
+            } else if (previous.compareTo(this.cap.dividedBy(2L)) >= 0) {
+                next = this.cap;
+            } else {
+                next = previous.multipliedBy(2L);
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Exponential delay with "decorrelated jitter": a random delay between
+     * the base and three times the previous delay, up to the cap.
+     *
+     * <p>Unlike {@link Exponential}, many clients which failed at the same
+     * moment don't retry at the same moments again, and the load of their
+     * retries is spread evenly in time.</p>
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @see <a href="https://aws.amazon.com/blogs/architecture/exponential-backoff-and-jitter/">Exponential Backoff And Jitter</a>
+     * @since 1.0
+     */
+    final class Decorrelated implements Backoff {
+
+        /**
+         * The shortest delay.
+         */
+        private final Duration base;
+
+        /**
+         * The longest delay.
+         */
+        private final Duration cap;
+
+        /**
+         * Ctor.
+         * @param base The shortest delay
+         * @param cap The longest delay, shorter than 292 years
+         */
+        public Decorrelated(final Duration base, final Duration cap) {
+            this.base = base;
+            this.cap = cap;
+        }
+
+        @Override
+        public Duration delay(final Duration previous) {
+            final long low = this.base.toNanos();
+            final long high = Math.min(
+                this.cap.toNanos(),
+                Math.max(
+                    low, Math.min(previous.toNanos(), Long.MAX_VALUE / 3L)
+                ) * 3L
+            );
+            final Duration next;
+            if (high <= low) {
+                next = Duration.ofNanos(high);
+            } else {
+                next = Duration.ofNanos(
+                    ThreadLocalRandom.current().nextLong(low, high + 1L)
+                );
+            }
+            return next;
+        }
+    }
+}
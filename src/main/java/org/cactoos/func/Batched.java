@@ -0,0 +1,243 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
+
+/**
+ * Func that groups concurrent calls into calls of a bulk func.
+ *
+ * <p>The inputs of concurrent calls are collected into a batch, until
+ * there are the given amount of different inputs in it, or until the given
+ * time passes since the first input came. Then the bulk func is called
+ * once with all of them, and each call gets its own result from
+ * the map, returned by the bulk func, or the exception of the bulk func.
+ * Equal inputs in one batch are given to the bulk func only once:</p>
+ *
+ * <pre>{@code
+ * final Func<String, User> users = new Batched<>(
+ *     ids -> backend.users(ids),
+ *     100,
+ *     Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(500L))
+ * );
+ * }</pre>
+ *
+ * <p>No extra threads are used: the bulk func is called by the thread
+ * which fills up the batch, or by the thread which started it, when
+ * the time is over. If the map doesn't have an input, its call fails
+ * with {@link NoSuchElementException}.</p>
+ *
+ * <p>The same object must be used for all calls, since it keeps
+ * the batch which is being collected.</p>
+ *
+ * <p>Objects of this class are thread safe, if the bulk func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class Batched<X, Y> implements Func<X, Y> {
+
+    /**
+     * The bulk func.
+     */
+    private final Func<? super Collection<X>, ? extends Map<X, Y>> bulk;
+
+    /**
+     * Maximum amount of inputs in a batch.
+     */
+    private final int size;
+
+    /**
+     * Maximum time to collect a batch, in nanos.
+     */
+    private final long linger;
+
+    /**
+     * The batch which is being collected, or NULL.
+     */
+    private final AtomicReference<Batched.Batch<X, Y>> current;
+
+    /**
+     * Ctor.
+     * @param fnc The bulk func
+     * @param max Maximum amount of inputs in a batch
+     * @param time Maximum time to collect a batch
+     */
+    public Batched(final Func<? super Collection<X>, ? extends Map<X, Y>> fnc,
+        final int max, final Duration time) {
+        this.bulk = fnc;
+        this.size = max;
+        this.linger = time.toNanos();
+        this.current = new AtomicReference<>();
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final CompletableFuture<Y> future = new CompletableFuture<>();
+        final boolean leader;
+        final boolean full;
+        final Batched.Batch<X, Y> batch;
+        synchronized (this.current) {
+            leader = this.current.get() == null;
+            if (leader) {
+                this.current.set(new Batched.Batch<>());
+            }
+            batch = this.current.get();
+            batch.add(input, future);
+            full = batch.size() >= this.size;
+            if (full) {
+                this.current.set(null);
+            }
+        }
+        if (full) {
+            batch.dispatch(this.bulk);
+        } else if (leader) {
+            this.lead(batch, future);
+        }
+        try {
+            return future.get();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Wait for the batch to be filled up by others, or dispatch it
+     * when the time is over.
+     *
+     * <p>If the leader is interrupted while waiting, the batch is
+     * dispatched at once, so that the others don't wait for it
+     * forever, and then the interruption is thrown.</p>
+     *
+     * @param batch The batch
+     * @param future The future of the leader
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private void lead(final Batched.Batch<X, Y> batch,
+        final CompletableFuture<Y> future) throws InterruptedException {
+        try {
+            future.get(this.linger, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException ex) {
+            this.release(batch);
+        } catch (final InterruptedException ex) {
+            this.release(batch);
+            Thread.currentThread().interrupt();
+            throw ex;
+        } catch (final ExecutionException ex) {
+            // The failure is thrown by the caller
+        }
+    }
+
+    /**
+     * Dispatch the batch, unless it is already taken by another thread.
+     * @param batch The batch
+     */
+    private void release(final Batched.Batch<X, Y> batch) {
+        final boolean mine;
+        synchronized (this.current) {
+            mine = this.current.compareAndSet(batch, null);
+        }
+        if (mine) {
+            batch.dispatch(this.bulk);
+        }
+    }
+
+    /**
+     * Batch of inputs.
+     *
+     * @param <X> Type of input
+     * @param <Y> Type of output
+     * @since 1.0
+     */
+    private static final class Batch<X, Y> {
+
+        /**
+         * Futures of calls, by inputs.
+         */
+        private final Map<X, List<CompletableFuture<Y>>> calls;
+
+        /**
+         * Ctor.
+         */
+        Batch() {
+            this.calls = new LinkedHashMap<>(0);
+        }
+
+        /**
+         * Add a call.
+         * @param input The input
+         * @param future The future of the call
+         */
+        void add(final X input, final CompletableFuture<Y> future) {
+            this.calls.computeIfAbsent(input, key -> new ArrayList<>(1))
+                .add(future);
+        }
+
+        /**
+         * Amount of different inputs.
+         * @return The size
+         */
+        int size() {
+            return this.calls.size();
+        }
+
+        /**
+         * Call the bulk func and complete all calls.
+         *
+         * <p>Any failure of the bulk func, even an {@link Error}, fails
+         * all calls, which are not completed yet.</p>
+         *
+         * @param bulk The bulk func
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        void dispatch(final Func<? super Collection<X>, ? extends Map<X, Y>> bulk) {
+            try {
+                final Map<X, Y> results = bulk.apply(
+                    new ArrayList<>(this.calls.keySet())
+                );
+                for (final Map.Entry<X, List<CompletableFuture<Y>>> call
+                    : this.calls.entrySet()) {
+                    for (final CompletableFuture<Y> future : call.getValue()) {
+                        if (results.containsKey(call.getKey())) {
+                            future.complete(results.get(call.getKey()));
+                        } else {
+                            future.completeExceptionally(
+                                new NoSuchElementException(
+                                    new StringBuilder("No result for ")
+                                        .append(call.getKey())
+                                        .toString()
+                                )
+                            );
+                        }
+                    }
+                }
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Throwable ex) {
+                for (final List<CompletableFuture<Y>> futures
+                    : this.calls.values()) {
+                    for (final CompletableFuture<Y> future : futures) {
+                        future.completeExceptionally(ex);
+                    }
+                }
+            }
+        }
+    }
+}
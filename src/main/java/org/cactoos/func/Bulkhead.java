@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+
+/**
+ * Func that limits the amount of its concurrent calls.
+ *
+ * <p>When the limit is reached, a new call fails at once with
+ * {@link RejectedExecutionException}, or after waiting for a free slot
+ * not longer than the given time, instead of piling up threads
+ * on a slow dependency. Rejected calls can be recovered with
+ * {@link FuncWithFallback} and {@link org.cactoos.Fallback.From}.</p>
+ *
+ * <pre>{@code
+ * final Func<String, Product> products = new Bulkhead<>(
+ *     id -> new SqlProduct().apply(id),
+ *     10
+ * );
+ * }</pre>
+ *
+ * <p>The same object must be used for all calls, since it keeps
+ * the amount of calls in progress.</p>
+ *
+ * <p>A {@link org.cactoos.Scalar} is protected the same way, when it
+ * is turned into a func with {@link FuncOf}.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class Bulkhead<X, Y> implements Func<X, Y> {
+
+    /**
+     * The original func.
+     */
+    private final Func<? super X, ? extends Y> origin;
+
+    /**
+     * Free slots.
+     */
+    private final Semaphore slots;
+
+    /**
+     * Maximum time to wait for a free slot, in nanos.
+     */
+    private final long wait;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param max Maximum amount of concurrent calls
+     */
+    public Bulkhead(final Func<? super X, ? extends Y> fnc, final int max) {
+        this(fnc, max, Duration.ZERO);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param max Maximum amount of concurrent calls
+     * @param timeout Maximum time to wait for a free slot
+     */
+    public Bulkhead(final Func<? super X, ? extends Y> fnc, final int max,
+        final Duration timeout) {
+        this.origin = fnc;
+        this.slots = new Semaphore(max);
+        this.wait = timeout.toNanos();
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final boolean free;
+        if (this.wait > 0L) {
+            free = this.slots.tryAcquire(this.wait, TimeUnit.NANOSECONDS);
+        } else {
+            free = this.slots.tryAcquire();
+        }
+        if (!free) {
+            throw new RejectedExecutionException(
+                "Too many concurrent calls, the call is rejected"
+            );
+        }
+        try {
+            return this.origin.apply(input);
+        } finally {
+            this.slots.release();
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.Scalar;
+
+/**
+ * Statistics of a cache, such as {@link StickyFunc}, {@link SolidFunc}
+ * or {@link org.cactoos.scalar.Sticky}.
+ *
+ * <p>Caches report to {@link CacheStats.None} by default, which records
+ * nothing and costs nothing. In order to see how a cache behaves,
+ * give it {@link CacheStats.Counting} and read its
+ * {@link #snapshot()}, or register {@link JmxCacheStats} in
+ * an MBean server:</p>
+ *
+ * <pre>{@code
+ * final CacheStats stats = new CacheStats.Counting();
+ * final Func<String, Tree> parser = new SolidFunc<>(
+ *     text -> new Tree(text), 10_000, stats
+ * );
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(
+ *     new JmxCacheStats(stats),
+ *     new ObjectName("org.cactoos:type=Cache,name=parser")
+ * );
+ * }</pre>
+ *
+ * @since 1.0
+ */
+public interface CacheStats {
+
+    /**
+     * Record a hit, when a value is found in the cache.
+     */
+    void hit();
+
+    /**
+     * Record a miss, calculating the missing value.
+     * @param value The calculation of the missing value
+     * @param <T> Type of value
+     * @return The value
+     * @throws Exception If the calculation fails
+     */
+    <T> T miss(Scalar<T> value) throws Exception;
+
+    /**
+     * Record an eviction of a value from the cache.
+     */
+    void eviction();
+
+    /**
+     * Record the current size of the cache.
+     * @param size The amount of values in the cache
+     */
+    void size(long size);
+
+    /**
+     * Statistics recorded so far.
+     * @return Snapshot of the statistics
+     */
+    Snapshot snapshot();
+
+    /**
+     * Statistics that record nothing.
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class None implements CacheStats {
+
+        @Override
+        public void hit() {
+            // Nothing to record
+        }
+
+        @Override
+        public <T> T miss(final Scalar<T> value) throws Exception {
+            return value.value();
+        }
+
+        @Override
+        public void eviction() {
+            // Nothing to record
+        }
+
+        @Override
+        public void size(final long size) {
+            // Nothing to record
+        }
+
+        @Override
+        public Snapshot snapshot() {
+            return new Snapshot(0L, 0L, 0L, 0L, 0L);
+        }
+    }
+
+    /**
+     * Statistics that count everything.
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Counting implements CacheStats {
+
+        /**
+         * Hits.
+         */
+        private final LongAdder hits;
+
+        /**
+         * Misses.
+         */
+        private final LongAdder misses;
+
+        /**
+         * Evictions.
+         */
+        private final LongAdder evictions;
+
+        /**
+         * Nanoseconds spent calculating missing values.
+         */
+        private final LongAdder nanos;
+
+        /**
+         * Current size.
+         */
+        private final AtomicLong current;
+
+        /**
+         * Ctor.
+         */
+        public Counting() {
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.evictions = new LongAdder();
+            this.nanos = new LongAdder();
+            this.current = new AtomicLong();
+        }
+
+        @Override
+        public void hit() {
+            this.hits.increment();
+        }
+
+        @Override
+        public <T> T miss(final Scalar<T> value) throws Exception {
+            final long start = System.nanoTime();
+            try {
+                return value.value();
+            } finally {
+                this.nanos.add(System.nanoTime() - start);
+                this.misses.increment();
+            }
+        }
+
+        @Override
+        public void eviction() {
+            this.evictions.increment();
+        }
+
+        @Override
+        public void size(final long size) {
+            this.current.set(size);
+        }
+
+        @Override
+        public Snapshot snapshot() {
+            return new Snapshot(
+                this.hits.sum(),
+                this.misses.sum(),
+                this.evictions.sum(),
+                this.current.get(),
+                this.nanos.sum()
+            );
+        }
+    }
+
+    /**
+     * Statistics of a cache at some moment.
+     *
+     * <p>Objects of this class are immutable and thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Snapshot {
+
+        /**
+         * Hits.
+         */
+        private final long hits;
+
+        /**
+         * Misses.
+         */
+        private final long misses;
+
+        /**
+         * Evictions.
+         */
+        private final long evictions;
+
+        /**
+         * Size.
+         */
+        private final long current;
+
+        /**
+         * Nanoseconds spent calculating missing values.
+         */
+        private final long nanos;
+
+        /**
+         * Ctor.
+         * @param hits Hits
+         * @param misses Misses
+         * @param evictions Evictions
+         * @param size Size
+         * @param nanos Nanoseconds spent calculating missing values
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Snapshot(final long hits, final long misses,
+            final long evictions, final long size, final long nanos) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.current = size;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Amount of hits.
+         * @return Hits
+         */
+        public long hits() {
+            return this.hits;
+        }
+
+        /**
+         * Amount of misses.
+         * @return Misses
+         */
+        public long misses() {
+            return this.misses;
+        }
+
+        /**
+         * Share of hits among all requests, from zero to one.
+         * @return Hit rate, or one if there were no requests
+         */
+        public double hitRate() {
+            final long total = this.hits + this.misses;
+            final double rate;
+            if (total == 0L) {
+                rate = 1.0d;
+            } else {
+                rate = (double) this.hits / (double) total;
+            }
+            return rate;
+        }
+
+        /**
+         * Amount of evictions.
+         * @return Evictions
+         */
+        public long evictions() {
+            return this.evictions;
+        }
+
+        /**
+         * Amount of values in the cache.
+         * @return Size
+         */
+        public long size() {
+            return this.current;
+        }
+
+        /**
+         * Average time of calculation of a missing value.
+         * @return Nanoseconds, or zero if there were no misses
+         */
+        public long missNanos() {
+            final long avg;
+            if (this.misses == 0L) {
+                avg = 0L;
+            } else {
+                avg = this.nanos / this.misses;
+            }
+            return avg;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                Locale.ENGLISH,
+                "hits=%d, misses=%d, hit rate=%.2f, evictions=%d, size=%d, miss=%dns",
+                this.hits, this.misses, this.hitRate(), this.evictions,
+                this.current, this.missNanos()
+            );
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+/**
+ * Statistics of a cache, exported through JMX.
+ *
+ * @see JmxCacheStats
+ * @since 1.0
+ */
+public interface CacheStatsMXBean {
+
+    /**
+     * Amount of hits.
+     * @return Hits
+     */
+    long getHits();
+
+    /**
+     * Amount of misses.
+     * @return Misses
+     */
+    long getMisses();
+
+    /**
+     * Share of hits among all requests, from zero to one.
+     * @return Hit rate
+     */
+    double getHitRate();
+
+    /**
+     * Amount of evictions.
+     * @return Evictions
+     */
+    long getEvictions();
+
+    /**
+     * Amount of values in the cache.
+     * @return Size
+     */
+    long getSize();
+
+    /**
+     * Average time of calculation of a missing value.
+     * @return Nanoseconds
+     */
+    long getMissNanos();
+}
@@ -0,0 +1,296 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Func;
+
+/**
+ * Func that stops calling the original func when too many of its
+ * recent calls failed.
+ *
+ * <p>The circuit is closed at first, and the func is called as usual.
+ * The outcomes of the latest calls are kept in a sliding window, and when
+ * the window is full and the rate of failures in it reaches the threshold,
+ * the circuit opens: all calls fail at once with
+ * {@link RejectedExecutionException}, without calling the func. When
+ * the given time passes, the circuit is half-open: exactly one call is
+ * let through, as a probe, while the others are still rejected. If the
+ * probe succeeds, the circuit is closed again, with an empty window,
+ * otherwise it is open for one more period of time.</p>
+ *
+ * <p>Rejected calls can be recovered with {@link FuncWithFallback}:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Product> products = new FuncWithFallback<>(
+ *     new CircuitBreaker<>(
+ *         id -> new SqlProduct().apply(id),
+ *         0.5d, 20, Duration.ofSeconds(30L)
+ *     ),
+ *     new Fallback.From<>(
+ *         RejectedExecutionException.class,
+ *         error -> new CachedProduct().apply(id)
+ *     )
+ * );
+ * }</pre>
+ *
+ * <p>The same object must be used for all calls, since it keeps
+ * the state of the circuit. The state is changed with atomic operations
+ * only, without locks.</p>
+ *
+ * <p>A {@link org.cactoos.Scalar} is protected the same way, when it
+ * is turned into a func with {@link FuncOf}.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class CircuitBreaker<X, Y> implements Func<X, Y> {
+
+    /**
+     * The state of the closed circuit.
+     */
+    private static final long CLOSED = -1L;
+
+    /**
+     * The state of the half-open circuit.
+     */
+    private static final long HALF_OPEN = -2L;
+
+    /**
+     * Outcome of a call that succeeded.
+     */
+    private static final int SUCCESS = 1;
+
+    /**
+     * Outcome of a call that failed.
+     */
+    private static final int FAILURE = 2;
+
+    /**
+     * The original func.
+     */
+    private final Func<? super X, ? extends Y> origin;
+
+    /**
+     * The rate of failures which opens the circuit.
+     */
+    private final double threshold;
+
+    /**
+     * For how long the circuit stays open, in nanos.
+     */
+    private final long wait;
+
+    /**
+     * The moment of time, in nanos, all other moments are counted from.
+     */
+    private final long epoch;
+
+    /**
+     * The state of the circuit: closed, half-open, or the moment
+     * when it was opened.
+     */
+    private final AtomicLong state;
+
+    /**
+     * Outcomes of the latest calls, in a ring.
+     */
+    private final AtomicIntegerArray window;
+
+    /**
+     * The position of the next outcome in the ring.
+     */
+    private final AtomicLong cursor;
+
+    /**
+     * Amount of outcomes in the window.
+     */
+    private final AtomicInteger calls;
+
+    /**
+     * Amount of failures in the window.
+     */
+    private final AtomicInteger failures;
+
+    /**
+     * Ctor.
+     *
+     * <p>The circuit opens when a half of the latest 20 calls failed.</p>
+     *
+     * @param fnc The original func
+     * @param open For how long the circuit stays open
+     */
+    public CircuitBreaker(final Func<? super X, ? extends Y> fnc,
+        final Duration open) {
+        this(fnc, 0.5d, 20, open);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param rate The rate of failures which opens the circuit, from 0 to 1
+     * @param size The size of the window of the latest calls
+     * @param open For how long the circuit stays open
+     * @throws IllegalArgumentException If the rate is not above 0 and up
+     *  to 1, or the window is empty
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CircuitBreaker(final Func<? super X, ? extends Y> fnc,
+        final double rate, final int size, final Duration open) {
+        this.origin = fnc;
+        this.threshold = CircuitBreaker.rate(rate);
+        this.wait = open.toNanos();
+        this.epoch = System.nanoTime();
+        this.state = new AtomicLong(CircuitBreaker.CLOSED);
+        this.window = new AtomicIntegerArray(CircuitBreaker.size(size));
+        this.cursor = new AtomicLong();
+        this.calls = new AtomicInteger();
+        this.failures = new AtomicInteger();
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final boolean probe = this.admit();
+        final Y result;
+        boolean done = false;
+        try {
+            result = this.origin.apply(input);
+            done = true;
+        } finally {
+            this.complete(probe, done);
+        }
+        return result;
+    }
+
+    /**
+     * Take the outcome of a call into account.
+     *
+     * <p>A call that threw anything, even an {@link Error}, failed.</p>
+     *
+     * @param probe Is it the probe of the half-open circuit?
+     * @param done Did it succeed?
+     */
+    private void complete(final boolean probe, final boolean done) {
+        if (probe && done) {
+            this.clear();
+            this.state.set(CircuitBreaker.CLOSED);
+        } else if (probe) {
+            this.state.set(this.now());
+        } else if (done) {
+            this.record(CircuitBreaker.SUCCESS);
+        } else {
+            this.record(CircuitBreaker.FAILURE);
+        }
+    }
+
+    /**
+     * Let the call through or reject it.
+     * @return TRUE if the call is the probe of the half-open circuit
+     */
+    private boolean admit() {
+        final long current = this.state.get();
+        final boolean probe;
+        if (current == CircuitBreaker.CLOSED) {
+            probe = false;
+        } else if (current >= 0L && this.now() - current >= this.wait
+            && this.state.compareAndSet(current, CircuitBreaker.HALF_OPEN)) {
+            probe = true;
+        } else {
+            throw new RejectedExecutionException(
+                "The circuit is open, the call is rejected"
+            );
+        }
+        return probe;
+    }
+
+    /**
+     * Record the outcome of a call of the closed circuit and open it,
+     * if there are too many failures.
+     * @param outcome The outcome
+     */
+    private void record(final int outcome) {
+        final int size = this.window.length();
+        final int before = this.window.getAndSet(
+            (int) (this.cursor.getAndIncrement() % size), outcome
+        );
+        if (before == 0) {
+            this.calls.incrementAndGet();
+        } else if (before == CircuitBreaker.FAILURE) {
+            this.failures.decrementAndGet();
+        }
+        int failed = this.failures.get();
+        if (outcome == CircuitBreaker.FAILURE) {
+            failed = this.failures.incrementAndGet();
+        }
+        if (this.calls.get() >= size && failed >= this.threshold * size
+            && this.state.compareAndSet(CircuitBreaker.CLOSED, this.now())) {
+            this.clear();
+        }
+    }
+
+    /**
+     * Forget all outcomes.
+     *
+     * <p>The counters are changed together with each slot of the window,
+     * like {@link #record(int)} does, so they stay in line with
+     * the window even while other calls record their outcomes.</p>
+     */
+    private void clear() {
+        for (int idx = 0; idx < this.window.length(); ++idx) {
+            final int before = this.window.getAndSet(idx, 0);
+            if (before != 0) {
+                this.calls.decrementAndGet();
+            }
+            if (before == CircuitBreaker.FAILURE) {
+                this.failures.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Check the rate of failures.
+     * @param rate The rate
+     * @return The same rate
+     */
+    private static double rate(final double rate) {
+        if (!(rate > 0.0d && rate <= 1.0d)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The rate must be above 0 and up to 1, %s is not", rate
+                )
+            );
+        }
+        return rate;
+    }
+
+    /**
+     * Check the size of the window.
+     * @param size The size
+     * @return The same size
+     */
+    private static int size(final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                String.format("The window must be positive, %d is not", size)
+            );
+        }
+        return size;
+    }
+
+    /**
+     * The current moment of time.
+     * @return Nanos since the epoch
+     */
+    private long now() {
+        return System.nanoTime() - this.epoch;
+    }
+}
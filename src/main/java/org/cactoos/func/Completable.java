@@ -0,0 +1,108 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import org.cactoos.Func;
+
+/**
+ * Func that runs in the background and returns a
+ * {@link CompletableFuture}.
+ *
+ * <p>Unlike {@link Async}, the result can be composed without blocking
+ * any thread, with {@link CompletableChained}, {@link CompletableComposed},
+ * {@link CompletableAll}, {@link CompletableTimed} and
+ * {@link CompletableWithFallback}:</p>
+ *
+ * <pre>{@code
+ * final CompletableFuture<Integer> length = new CompletableTimed<>(
+ *     new CompletableChained<>(
+ *         new Completable<>(url -> new TextOf(new URL(url)).asString()),
+ *         String::length
+ *     ),
+ *     Duration.ofSeconds(5L)
+ * ).apply("https://www.cactoos.org");
+ * }</pre>
+ *
+ * <p>If the func throws a checked exception, the future completes
+ * exceptionally with it, wrapped into
+ * {@link java.util.concurrent.CompletionException}. By default, the func
+ * runs in {@link SharedThreads}, in a virtual thread if the JVM supports
+ * them.</p>
+ *
+ * <p>Unlike {@link CompletableFuture#supplyAsync}, cancelling the future
+ * stops the work: the func is not started if it is still waiting for
+ * a thread, and its thread is interrupted if it is running.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class Completable<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The func.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * The executor.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     */
+    public Completable(final Func<? super X, ? extends Y> fnc) {
+        this(fnc, new SharedThreads());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param exec The executor to run the func in
+     */
+    public Completable(final Func<? super X, ? extends Y> fnc,
+        final Executor exec) {
+        this.func = fnc;
+        this.executor = exec;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public CompletableFuture<Y> apply(final X input) {
+        final CompletionFunction<X, Y> function =
+            new CompletionFunction<>(this.func);
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        final FutureTask<Y> task = new FutureTask<>(
+            () -> {
+                try {
+                    result.complete(function.apply(input));
+                } catch (final CompletionException ex) {
+                    result.completeExceptionally(ex);
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Throwable ex) {
+                    result.completeExceptionally(new CompletionException(ex));
+                }
+            },
+            null
+        );
+        result.whenComplete(
+            (value, error) -> {
+                if (result.isCancelled()) {
+                    task.cancel(true);
+                }
+            }
+        );
+        this.executor.execute(task);
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.cactoos.Func;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Asynchronous funcs, applied to the same input at the same time,
+ * whose results are collected into one list, in the order of the funcs.
+ *
+ * <pre>{@code
+ * final CompletableFuture<List<Price>> prices = new CompletableAll<>(
+ *     new Completable<>(item -> shop.price(item)),
+ *     new Completable<>(item -> market.price(item))
+ * ).apply(item);
+ * }</pre>
+ *
+ * <p>The list is ready when all funcs are finished. If any of them fails,
+ * the result fails at once with the same exception, without waiting
+ * for the others. Nothing is blocked while the futures are in
+ * progress.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output of each func
+ * @see CompletableFuture#allOf(CompletableFuture[])
+ * @since 1.0
+ */
+public final class CompletableAll<X, Y>
+    implements Func<X, CompletableFuture<List<Y>>> {
+
+    /**
+     * The funcs.
+     */
+    private final Iterable<? extends Func<? super X, ? extends CompletableFuture<Y>>> funcs;
+
+    /**
+     * Ctor.
+     * @param fncs The funcs
+     */
+    @SafeVarargs
+    public CompletableAll(
+        final Func<? super X, ? extends CompletableFuture<Y>>... fncs
+    ) {
+        this(new IterableOf<>(fncs));
+    }
+
+    /**
+     * Ctor.
+     * @param fncs The funcs
+     */
+    public CompletableAll(
+        final Iterable<? extends Func<? super X, ? extends CompletableFuture<Y>>> fncs
+    ) {
+        this.funcs = fncs;
+    }
+
+    @Override
+    public CompletableFuture<List<Y>> apply(final X input) throws Exception {
+        final List<CompletableFuture<Y>> futures = new ArrayList<>(0);
+        for (final Func<? super X, ? extends CompletableFuture<Y>> func
+            : this.funcs) {
+            futures.add(func.apply(input));
+        }
+        final CompletableFuture<List<Y>> result = CompletableFuture.allOf(
+            futures.toArray(new CompletableFuture<?>[0])
+        ).thenApply(
+            done -> {
+                final List<Y> values = new ArrayList<>(futures.size());
+                for (final CompletableFuture<Y> future : futures) {
+                    values.add(future.join());
+                }
+                return values;
+            }
+        );
+        for (final CompletableFuture<Y> future : futures) {
+            future.whenComplete(
+                (value, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    }
+                }
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous func, whose result is mapped by another func,
+ * when it is ready.
+ *
+ * <p>The mapping func runs in the thread that completes the original
+ * future, so it must be short; if it is not, chain a
+ * {@link Completable} with {@link CompletableComposed} instead.
+ * Nothing is blocked while the original future is in progress.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of intermediate result
+ * @param <Z> Type of output
+ * @see CompletableFuture#thenApply(java.util.function.Function)
+ * @since 1.0
+ */
+public final class CompletableChained<X, Y, Z>
+    implements Func<X, CompletableFuture<Z>> {
+
+    /**
+     * The original func.
+     */
+    private final Func<? super X, ? extends CompletableFuture<Y>> origin;
+
+    /**
+     * The mapping func.
+     */
+    private final Func<? super Y, ? extends Z> next;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param after The mapping func
+     */
+    public CompletableChained(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Func<? super Y, ? extends Z> after
+    ) {
+        this.origin = fnc;
+        this.next = after;
+    }
+
+    @Override
+    public CompletableFuture<Z> apply(final X input) throws Exception {
+        return this.origin.apply(input).thenApply(
+            new CompletionFunction<>(this.next)
+        );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous func, whose result is given to another
+ * asynchronous func, when it is ready.
+ *
+ * <pre>{@code
+ * final CompletableFuture<User> user = new CompletableComposed<>(
+ *     new Completable<>(session -> session.userId()),
+ *     new Completable<>(id -> users.find(id))
+ * ).apply(session);
+ * }</pre>
+ *
+ * <p>Nothing is blocked while any of the futures is in progress.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of intermediate result
+ * @param <Z> Type of output
+ * @see CompletableFuture#thenCompose(java.util.function.Function)
+ * @since 1.0
+ */
+public final class CompletableComposed<X, Y, Z>
+    implements Func<X, CompletableFuture<Z>> {
+
+    /**
+     * The original func.
+     */
+    private final Func<? super X, ? extends CompletableFuture<Y>> origin;
+
+    /**
+     * The next func.
+     */
+    private final Func<? super Y, ? extends CompletableFuture<Z>> next;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param after The next func
+     */
+    public CompletableComposed(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Func<? super Y, ? extends CompletableFuture<Z>> after
+    ) {
+        this.origin = fnc;
+        this.next = after;
+    }
+
+    @Override
+    public CompletableFuture<Z> apply(final X input) throws Exception {
+        return this.origin.apply(input).thenCompose(
+            new CompletionFunction<>(this.next)
+        );
+    }
+}
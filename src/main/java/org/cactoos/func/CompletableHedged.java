@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous func that starts a second, "hedged", attempt if the first
+ * one is not finished after a delay, and returns the result of the attempt
+ * which succeeds first.
+ *
+ * <p>The delay is usually a high percentile of the latency of the func,
+ * for example its p95, so that only the slowest calls are hedged.
+ * The func must be idempotent, since it may be applied twice to the same
+ * input. As soon as the result is ready, the other attempt is cancelled;
+ * if it is made by {@link Completable}, its thread is interrupted.
+ * If the first attempt fails before the delay, the result fails at once;
+ * otherwise the result fails only when both attempts fail.</p>
+ *
+ * <p>The hedged attempt is started by the {@link SharedScheduler},
+ * or by the given scheduler, so the func must not block, it must only
+ * start the work, like {@link Completable} does. Nothing is blocked
+ * while the attempts are in progress.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see Hedged
+ * @since 1.0
+ */
+public final class CompletableHedged<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * Original func.
+     */
+    private final Func<? super X, ? extends CompletableFuture<Y>> origin;
+
+    /**
+     * The delay before the hedged attempt.
+     */
+    private final Duration delay;
+
+    /**
+     * The scheduler of hedged attempts.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param after The delay before the hedged attempt
+     */
+    public CompletableHedged(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Duration after
+    ) {
+        this(fnc, after, new SharedScheduler());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param after The delay before the hedged attempt
+     * @param timer The scheduler of hedged attempts
+     */
+    public CompletableHedged(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Duration after,
+        final ScheduledExecutorService timer
+    ) {
+        this.origin = fnc;
+        this.delay = after;
+        this.scheduler = timer;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) {
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        final AtomicInteger running = new AtomicInteger(1);
+        final AtomicReference<CompletableFuture<Y>> hedge =
+            new AtomicReference<>();
+        final CompletableFuture<Y> first = this.attempt(input, result, running);
+        final ScheduledFuture<?> timer = this.scheduler.schedule(
+            () -> {
+                if (running.getAndUpdate(num -> num == 0 ? 0 : num + 1) > 0) {
+                    hedge.set(this.attempt(input, result, running));
+                }
+            },
+            this.delay.toNanos(),
+            TimeUnit.NANOSECONDS
+        );
+        result.whenComplete(
+            (value, error) -> {
+                timer.cancel(false);
+                first.cancel(true);
+                final CompletableFuture<Y> second = hedge.get();
+                if (second != null) {
+                    second.cancel(true);
+                }
+            }
+        );
+        return result;
+    }
+
+    /**
+     * Start an attempt.
+     * @param input The input
+     * @param result The result
+     * @param running Amount of attempts in progress
+     * @return The attempt
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private CompletableFuture<Y> attempt(final X input,
+        final CompletableFuture<Y> result, final AtomicInteger running) {
+        CompletableFuture<Y> future;
+        try {
+            future = this.origin.apply(input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+        }
+        future.whenComplete(
+            (value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else if (running.decrementAndGet() == 0) {
+                    result.completeExceptionally(error);
+                }
+            }
+        );
+        return future;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous func that limits the rate of its calls with
+ * a {@link TokenBucket}.
+ *
+ * <p>Unlike {@link RateLimitedFunc}, no thread waits for a token:
+ * the token is reserved at once, and the original func is applied when
+ * the token is available, by the {@link SharedScheduler}, or by the given
+ * scheduler. That's why the original func must not block, it must only
+ * start the work, like {@link Completable} does.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class CompletableRateLimited<X, Y>
+    implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The original func.
+     */
+    private final Func<? super X, ? extends CompletableFuture<Y>> origin;
+
+    /**
+     * The bucket.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * The scheduler of delayed calls.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param tokens The bucket
+     */
+    public CompletableRateLimited(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final TokenBucket tokens
+    ) {
+        this(fnc, tokens, new SharedScheduler());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param tokens The bucket
+     * @param timer The scheduler of delayed calls
+     */
+    public CompletableRateLimited(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final TokenBucket tokens,
+        final ScheduledExecutorService timer
+    ) {
+        this.origin = fnc;
+        this.bucket = tokens;
+        this.scheduler = timer;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) throws Exception {
+        final long wait = this.bucket.reserve(Long.MAX_VALUE);
+        final CompletableFuture<Y> result;
+        if (wait == 0L) {
+            result = this.origin.apply(input);
+        } else {
+            final CompletableFuture<X> delay = new CompletableFuture<>();
+            this.scheduler.schedule(
+                () -> delay.complete(input), wait, TimeUnit.NANOSECONDS
+            );
+            result = delay.thenCompose(new CompletionFunction<>(this.origin));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous func that will try a few times before failing.
+ *
+ * <p>Unlike {@link Retry}, no thread sleeps between attempts: the next
+ * attempt is scheduled in the {@link SharedScheduler}, or in the given
+ * scheduler, after the delay calculated by the {@link Backoff}. That's
+ * why the original func must not block, it must only start the work,
+ * like {@link Completable} does:</p>
+ *
+ * <pre>{@code
+ * final CompletableFuture<String> page = new CompletableRetry<>(
+ *     new Completable<>(url -> new TextOf(new URL(url)).asString()),
+ *     5,
+ *     new Backoff.Decorrelated(Duration.ofMillis(100L), Duration.ofSeconds(5L)),
+ *     Duration.ofSeconds(10L)
+ * ).apply("https://www.cactoos.org");
+ * }</pre>
+ *
+ * <p>When the next attempt would start after the total budget is spent,
+ * or when there are no more attempts, the result fails with the last
+ * exception. Once the result is completed or cancelled, no more attempts
+ * are made.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class CompletableRetry<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * Original func.
+     */
+    private final Func<? super X, ? extends CompletableFuture<Y>> origin;
+
+    /**
+     * Exit condition.
+     */
+    private final Func<Integer, Boolean> exit;
+
+    /**
+     * Delays between attempts.
+     */
+    private final Backoff backoff;
+
+    /**
+     * Maximum total time of all attempts and delays.
+     */
+    private final Duration budget;
+
+    /**
+     * The scheduler of attempts.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param attempts Maximum number of attempts
+     * @param backoff Delays between attempts
+     */
+    public CompletableRetry(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final int attempts,
+        final Backoff backoff
+    ) {
+        this(fnc, attempts, backoff, Duration.ofSeconds(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param attempts Maximum number of attempts
+     * @param backoff Delays between attempts
+     * @param budget Maximum total time of all attempts and delays
+     */
+    public CompletableRetry(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final int attempts,
+        final Backoff backoff,
+        final Duration budget
+    ) {
+        this(
+            fnc, attempt -> attempt >= attempts, backoff, budget,
+            new SharedScheduler()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param backoff Delays between attempts
+     * @param budget Maximum total time of all attempts and delays
+     * @param timer The scheduler of attempts
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CompletableRetry(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Func<Integer, Boolean> ext,
+        final Backoff backoff,
+        final Duration budget,
+        final ScheduledExecutorService timer
+    ) {
+        this.origin = fnc;
+        this.exit = ext;
+        this.backoff = backoff;
+        this.budget = budget;
+        this.scheduler = timer;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) {
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        this.retry(
+            input, result, 0, Duration.ZERO, System.nanoTime(),
+            new IllegalArgumentException(
+                "An immediate exit, didn't have a chance to try at least once"
+            )
+        );
+        return result;
+    }
+
+    /**
+     * Make the attempt, unless the result is done already.
+     * @param input The input
+     * @param result The result
+     * @param attempt The number of the attempt, starting from zero
+     * @param delay The delay before this attempt
+     * @param start When the first attempt started, in nanos
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void attempt(final X input, final CompletableFuture<Y> result,
+        final int attempt, final Duration delay, final long start) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<Y> future;
+        try {
+            future = this.origin.apply(input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(ex);
+        }
+        future.whenComplete(
+            (value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    this.retry(input, result, attempt + 1, delay, start, error);
+                }
+            }
+        );
+    }
+
+    /**
+     * Schedule the next attempt or fail the result.
+     * @param input The input
+     * @param result The result
+     * @param attempt The number of the next attempt, starting from zero
+     * @param delay The delay before the previous attempt
+     * @param start When the first attempt started, in nanos
+     * @param error The error of the previous attempt
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void retry(final X input, final CompletableFuture<Y> result,
+        final int attempt, final Duration delay, final long start,
+        final Throwable error) {
+        try {
+            if (this.exit.apply(attempt)) {
+                result.completeExceptionally(error);
+            } else if (attempt == 0) {
+                this.attempt(input, result, attempt, delay, start);
+            } else {
+                final Duration next = this.backoff.delay(delay);
+                if (Duration.ofNanos(System.nanoTime() - start).plus(next)
+                    .compareTo(this.budget) > 0) {
+                    result.completeExceptionally(error);
+                } else {
+                    this.scheduler.schedule(
+                        () -> this.attempt(input, result, attempt, next, start),
+                        next.toNanos(),
+                        TimeUnit.NANOSECONDS
+                    );
+                }
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous func, whose result fails with {@link TimeoutException},
+ * if it is not ready in time.
+ *
+ * <p>Unlike {@link Timed}, no thread waits for the result: a timer in
+ * the {@link SharedScheduler}, or in the given scheduler, cancels
+ * the original future when the time is over, and the result fails.
+ * When the original future is ready in time, the timer is
+ * cancelled.</p>
+ *
+ * <p>The work itself is stopped only if the original future passes
+ * the cancellation on to it, as the futures of {@link Completable} do,
+ * interrupting the thread of the func. Cancelling a plain
+ * {@link CompletableFuture}, or one made by
+ * {@link CompletableFuture#supplyAsync}, only completes it, while its
+ * work goes on.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class CompletableTimed<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The original func.
+     */
+    private final Func<? super X, ? extends CompletableFuture<Y>> origin;
+
+    /**
+     * The maximum time to wait.
+     */
+    private final Duration timeout;
+
+    /**
+     * The scheduler of timers.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param time The maximum time to wait
+     */
+    public CompletableTimed(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Duration time
+    ) {
+        this(fnc, time, new SharedScheduler());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param time The maximum time to wait
+     * @param timer The scheduler of timers
+     */
+    public CompletableTimed(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Duration time,
+        final ScheduledExecutorService timer
+    ) {
+        this.origin = fnc;
+        this.timeout = time;
+        this.scheduler = timer;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) throws Exception {
+        final CompletableFuture<Y> future = this.origin.apply(input);
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        final AtomicBoolean expired = new AtomicBoolean();
+        final ScheduledFuture<?> timer = this.scheduler.schedule(
+            () -> {
+                expired.set(true);
+                future.cancel(true);
+            },
+            this.timeout.toNanos(),
+            TimeUnit.NANOSECONDS
+        );
+        future.whenComplete(
+            (value, error) -> {
+                timer.cancel(false);
+                if (error == null) {
+                    result.complete(value);
+                } else if (expired.get() && future.isCancelled()) {
+                    result.completeExceptionally(
+                        new TimeoutException(
+                            new StringBuilder("Not finished in ")
+                                .append(this.timeout)
+                                .toString()
+                        )
+                    );
+                } else {
+                    result.completeExceptionally(error);
+                }
+            }
+        );
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.cactoos.Fallback;
+import org.cactoos.Func;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.ScalarWithFallback;
+
+/**
+ * Asynchronous func with fallbacks that enable it to recover from errors.
+ *
+ * <p>When the future fails, the most suitable fallback is chosen
+ * the same way as in {@link FuncWithFallback}, by the exception which
+ * made it fail, not by the {@link CompletionException} which wraps it,
+ * and the result of the fallback becomes the result of the future:</p>
+ *
+ * <pre>{@code
+ * final CompletableFuture<Product> product = new CompletableWithFallback<>(
+ *     new Completable<>(id -> new SqlProduct().apply(id)),
+ *     new Fallback.From<>(
+ *         SQLException.class,
+ *         error -> new CachedProduct().apply(id)
+ *     )
+ * ).apply(id);
+ * }</pre>
+ *
+ * <p>The fallback runs in the thread that completes the original future,
+ * so it must be short. If there is no suitable fallback, the future
+ * fails the same way as {@link ScalarWithFallback} does.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class CompletableWithFallback<X, Y>
+    implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The original func.
+     */
+    private final Func<? super X, ? extends CompletableFuture<Y>> origin;
+
+    /**
+     * The fallbacks.
+     */
+    private final Iterable<? extends Fallback<? extends Y>> fallbacks;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param fbks The fallbacks
+     */
+    @SafeVarargs
+    public CompletableWithFallback(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Fallback<? extends Y>... fbks
+    ) {
+        this(fnc, new IterableOf<>(fbks));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param fbks The fallbacks
+     */
+    public CompletableWithFallback(
+        final Func<? super X, ? extends CompletableFuture<Y>> fnc,
+        final Iterable<? extends Fallback<? extends Y>> fbks
+    ) {
+        this.origin = fnc;
+        this.fallbacks = fbks;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) throws Exception {
+        return this.origin.apply(input).exceptionally(
+            new CompletionFunction<>(
+                (Throwable error) -> new ScalarWithFallback<Y>(
+                    () -> {
+                        Throwable cause = error;
+                        if (cause instanceof CompletionException
+                            && cause.getCause() != null) {
+                            cause = cause.getCause();
+                        }
+                        if (cause instanceof Exception) {
+                            throw (Exception) cause;
+                        }
+                        if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw new IllegalStateException(cause);
+                    },
+                    this.fallbacks
+                ).value()
+            )
+        );
+    }
+}
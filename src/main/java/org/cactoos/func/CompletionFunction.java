@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.cactoos.Func;
+
+/**
+ * Func as a {@link Function} for a {@link java.util.concurrent.CompletableFuture}.
+ *
+ * <p>Checked exceptions of the func are wrapped into
+ * {@link CompletionException}, so that the future completes with
+ * the original exception as its cause.</p>
+ *
+ * <p>This class is for internal use only. Use {@link Completable}
+ * instead.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+final class CompletionFunction<X, Y> implements Function<X, Y> {
+
+    /**
+     * The func.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     */
+    CompletionFunction(final Func<? super X, ? extends Y> fnc) {
+        this.func = fnc;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Y apply(final X input) {
+        try {
+            return this.func.apply(input);
+        } catch (final RuntimeException ex) {
+            throw ex;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new CompletionException(ex);
+        }
+    }
+}
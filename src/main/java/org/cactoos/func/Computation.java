@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Scalar;
+
+/**
+ * Computation that runs once, in the thread that calls {@link #run()},
+ * while any amount of threads wait for its result in {@link #value()}.
+ *
+ * <p>This class is for internal use only. Use {@link SolidFunc}
+ * or {@link SingleFlight} instead.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <Y> Type of result
+ * @since 1.0
+ */
+final class Computation<Y> {
+
+    /**
+     * The task.
+     */
+    private final FutureTask<Y> task;
+
+    /**
+     * Was it used since the last check?
+     */
+    private final AtomicBoolean used;
+
+    /**
+     * Ctor.
+     * @param scalar The scalar to compute
+     */
+    Computation(final Scalar<? extends Y> scalar) {
+        this.task = new FutureTask<>(scalar::value);
+        this.used = new AtomicBoolean();
+    }
+
+    /**
+     * Mark it as used.
+     *
+     * <p>The flag is written only if it is not set yet, so that threads
+     * which use the same computation often don't fight for it.</p>
+     */
+    void touch() {
+        if (!this.used.get()) {
+            this.used.set(true);
+        }
+    }
+
+    /**
+     * Was it used since the last check? The flag is reset.
+     * @return TRUE if it was used
+     */
+    boolean touched() {
+        return this.used.get() && this.used.getAndSet(false);
+    }
+
+    /**
+     * Compute it, if it is not computed yet.
+     */
+    void run() {
+        this.task.run();
+    }
+
+    /**
+     * Is it computed, either successfully or not?
+     * @return TRUE if computed
+     */
+    boolean done() {
+        return this.task.isDone();
+    }
+
+    /**
+     * Wait for the result.
+     * @return The result
+     * @throws Exception The original exception of the computation
+     */
+    Y value() throws Exception {
+        try {
+            return this.task.get();
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
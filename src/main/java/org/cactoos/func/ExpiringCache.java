@@ -0,0 +1,312 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Func;
+
+/**
+ * Thread-safe cache of a {@link Func}, which expires values after
+ * a certain time since they were calculated or since they were
+ * asked for the last time.
+ *
+ * <p>When a value is older than the refresh time, but not yet expired,
+ * it is still returned, while a single background task, in the given
+ * executor, calculates a new value to replace it.</p>
+ *
+ * <p>Expired values are removed from the cache, at most once per
+ * expiration time, when a missing value is calculated.</p>
+ *
+ * <p>This class is for internal use only. Use {@link ExpiringFunc}
+ * or {@link IdleExpiringFunc} instead.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+final class ExpiringCache<X, Y> implements Func<X, Y> {
+
+    /**
+     * Key that stands for the NULL input.
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Nanoseconds since the calculation when a value expires.
+     */
+    private final long write;
+
+    /**
+     * Nanoseconds since the last access when a value expires.
+     */
+    private final long access;
+
+    /**
+     * Nanoseconds since the calculation when a value is refreshed.
+     */
+    private final long refresh;
+
+    /**
+     * Executor of refreshes.
+     */
+    private final Executor executor;
+
+    /**
+     * Cache.
+     */
+    private final Map<Object, Slot<Y>> cache;
+
+    /**
+     * When expired values were removed the last time, in nanoseconds.
+     */
+    private final AtomicLong swept;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param write Nanoseconds since the calculation to expire
+     * @param access Nanoseconds since the last access to expire
+     * @param refresh Nanoseconds since the calculation to refresh
+     * @param exec Executor of refreshes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    ExpiringCache(final Func<X, Y> fnc, final long write,
+        final long access, final long refresh, final Executor exec) {
+        this.func = fnc;
+        this.write = write;
+        this.access = access;
+        this.refresh = refresh;
+        this.executor = exec;
+        this.cache = new ConcurrentHashMap<>(0);
+        this.swept = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final long now = System.nanoTime();
+        final Object key;
+        if (input == null) {
+            key = ExpiringCache.NULL;
+        } else {
+            key = input;
+        }
+        Slot<Y> slot = this.cache.get(key);
+        while (slot == null || slot.expired(now, this.write, this.access)) {
+            final Slot<Y> fresh = new Slot<>(
+                new Computation<>(() -> this.func.apply(input))
+            );
+            final boolean mine;
+            if (slot == null) {
+                mine = this.cache.putIfAbsent(key, fresh) == null;
+            } else {
+                mine = this.cache.replace(key, slot, fresh);
+            }
+            if (mine) {
+                fresh.compute();
+                this.sweep(now);
+                return this.value(key, fresh);
+            }
+            slot = this.cache.get(key);
+        }
+        final Slot<Y> found = slot;
+        found.touch(now);
+        final Y result = this.value(key, found);
+        if (found.stale(now, this.refresh)) {
+            this.refresh(key, input, found);
+        }
+        return result;
+    }
+
+    /**
+     * Refresh the slot in the background.
+     *
+     * <p>If the executor rejects the task, the slot may be refreshed by
+     * a later call, while this one still gets the value it has.</p>
+     *
+     * @param key The key
+     * @param input The input
+     * @param slot The slot with the stale value
+     */
+    private void refresh(final Object key, final X input, final Slot<Y> slot) {
+        try {
+            this.executor.execute(() -> this.renew(key, input, slot));
+        } catch (final RejectedExecutionException ex) {
+            slot.release();
+        }
+    }
+
+    /**
+     * Replace the value in the slot with a new one.
+     * @param key The key
+     * @param input The input
+     * @param slot The slot with the stale value
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void renew(final Object key, final X input, final Slot<Y> slot) {
+        final Slot<Y> fresh = new Slot<>(
+            new Computation<>(() -> this.func.apply(input))
+        );
+        fresh.compute();
+        try {
+            fresh.value();
+            this.cache.replace(key, slot, fresh);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            slot.release();
+        }
+    }
+
+    /**
+     * Value of the slot, which is removed from the cache if failed.
+     * @param key The key
+     * @param slot The slot
+     * @return The value
+     * @throws Exception If the computation failed
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Y value(final Object key, final Slot<Y> slot) throws Exception {
+        try {
+            return slot.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            if (slot.done()) {
+                this.cache.remove(key, slot);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Remove all expired values, if it is time to do so.
+     * @param now Current time in nanoseconds
+     */
+    private void sweep(final long now) {
+        final long last = this.swept.get();
+        if (now - last >= Math.min(this.write, this.access)
+            && this.swept.compareAndSet(last, now)) {
+            this.cache.values().removeIf(
+                slot -> slot.expired(now, this.write, this.access)
+            );
+        }
+    }
+
+    /**
+     * Cached value with its times.
+     *
+     * @param <T> Type of value
+     * @since 1.0
+     */
+    private static final class Slot<T> {
+
+        /**
+         * The computation.
+         */
+        private final Computation<T> computation;
+
+        /**
+         * When calculated, in nanoseconds.
+         */
+        private final AtomicLong written;
+
+        /**
+         * When asked for the last time, in nanoseconds.
+         */
+        private final AtomicLong accessed;
+
+        /**
+         * Is it being refreshed now?
+         */
+        private final AtomicBoolean refreshing;
+
+        /**
+         * Ctor.
+         * @param cmp The computation
+         */
+        Slot(final Computation<T> cmp) {
+            this.computation = cmp;
+            this.written = new AtomicLong();
+            this.accessed = new AtomicLong();
+            this.refreshing = new AtomicBoolean();
+        }
+
+        /**
+         * Calculate the value.
+         */
+        void compute() {
+            final long now = System.nanoTime();
+            this.written.set(now);
+            this.accessed.set(now);
+            this.computation.run();
+        }
+
+        /**
+         * Remember the time of the access.
+         * @param now Current time in nanoseconds
+         */
+        void touch(final long now) {
+            this.accessed.lazySet(now);
+        }
+
+        /**
+         * Is it expired?
+         * @param now Current time in nanoseconds
+         * @param write Nanoseconds since the calculation to expire
+         * @param access Nanoseconds since the last access to expire
+         * @return TRUE if expired
+         */
+        boolean expired(final long now, final long write, final long access) {
+            return this.computation.done()
+                && (now - this.written.get() >= write
+                || now - this.accessed.get() >= access);
+        }
+
+        /**
+         * Is it time to refresh it, and nobody else does it yet?
+         * @param now Current time in nanoseconds
+         * @param refresh Nanoseconds since the calculation to refresh
+         * @return TRUE if the caller must refresh it
+         */
+        boolean stale(final long now, final long refresh) {
+            return now - this.written.get() >= refresh
+                && this.refreshing.compareAndSet(false, true);
+        }
+
+        /**
+         * Let it be refreshed again, after a failed refresh.
+         */
+        void release() {
+            this.refreshing.set(false);
+        }
+
+        /**
+         * Is it computed, either successfully or not?
+         * @return TRUE if computed
+         */
+        boolean done() {
+            return this.computation.done();
+        }
+
+        /**
+         * Wait for the value.
+         * @return The value
+         * @throws Exception If the computation failed
+         */
+        T value() throws Exception {
+            return this.computation.value();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Func;
+
+/**
+ * Func that caches calculated values for a certain time since they
+ * were calculated, and recalculates them after that.
+ *
+ * <p>Optionally, values may be refreshed ahead of their expiration:
+ * when a value is older than the refresh time, it is still returned,
+ * while a single background task calculates a new one to replace it.
+ * This way, callers that ask for the value often never wait for
+ * the recalculation:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Token> tokens = new ExpiringFunc<>(
+ *     user -> new Token(user),
+ *     Duration.ofMinutes(10L),
+ *     Duration.ofMinutes(8L)
+ * );
+ * }</pre>
+ *
+ * <p>Exceptions are not cached.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see IdleExpiringFunc
+ * @see SolidFunc
+ * @since 1.0
+ */
+public final class ExpiringFunc<X, Y> extends FuncEnvelope<X, Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ttl Time to live of a value since its calculation
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration ttl) {
+        super(
+            new ExpiringCache<>(
+                fnc, ttl.toNanos(), Long.MAX_VALUE, Long.MAX_VALUE,
+                ForkJoinPool.commonPool()
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ttl Time to live of a value since its calculation
+     * @param refresh Time since the calculation to refresh a value
+     *  in the background
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration ttl,
+        final Duration refresh) {
+        this(fnc, ttl, refresh, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ttl Time to live of a value since its calculation
+     * @param refresh Time since the calculation to refresh a value
+     *  in the background
+     * @param exec Executor of the background refreshes
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration ttl,
+        final Duration refresh, final Executor exec) {
+        super(
+            new ExpiringCache<>(
+                fnc, ttl.toNanos(), Long.MAX_VALUE, refresh.toNanos(), exec
+            )
+        );
+    }
+}
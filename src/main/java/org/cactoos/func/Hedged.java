@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import org.cactoos.Func;
+
+/**
+ * Func that is applied once again, in parallel, if it is not finished
+ * after a delay, and returns the result which is ready first.
+ *
+ * <p>This cuts the tail latency of idempotent remote lookups: with
+ * the delay at the p95 of the latency, only 5% of calls are doubled,
+ * while the slowest of them don't wait for a stuck backend:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Price> price = new Hedged<>(
+ *     id -> remote.price(id),
+ *     Duration.ofMillis(120L),
+ *     Duration.ofSeconds(2L)
+ * );
+ * }</pre>
+ *
+ * <p>Both attempts run in {@link SharedThreads}, or in the given
+ * executor, while the calling thread waits for the result, not longer
+ * than the total timeout, if it is given. After the timeout the result
+ * fails with {@link java.util.concurrent.TimeoutException}. The attempt
+ * which is not needed anymore, or all of them after the timeout, are
+ * cancelled, and their threads are interrupted. A per-attempt timeout may be
+ * set by decorating the asynchronous func with {@link CompletableTimed}
+ * and giving it to {@link CompletableHedged}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see CompletableHedged
+ * @since 1.0
+ */
+public final class Hedged<X, Y> implements Func<X, Y> {
+
+    /**
+     * The asynchronous func.
+     */
+    private final Func<X, CompletableFuture<Y>> func;
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param after The delay before the hedged attempt
+     */
+    public Hedged(final Func<? super X, ? extends Y> fnc, final Duration after) {
+        this(new CompletableHedged<>(new Completable<>(fnc), after));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param after The delay before the hedged attempt
+     * @param timeout The maximum total time to wait
+     */
+    public Hedged(final Func<? super X, ? extends Y> fnc, final Duration after,
+        final Duration timeout) {
+        this(fnc, after, timeout, new SharedThreads(), new SharedScheduler());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param after The delay before the hedged attempt
+     * @param timeout The maximum total time to wait
+     * @param exec The executor of attempts
+     * @param timer The scheduler of hedged attempts and timeouts
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Hedged(final Func<? super X, ? extends Y> fnc, final Duration after,
+        final Duration timeout, final Executor exec,
+        final ScheduledExecutorService timer) {
+        this(
+            new CompletableTimed<>(
+                new CompletableHedged<>(new Completable<>(fnc, exec), after, timer),
+                timeout,
+                timer
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The asynchronous func
+     */
+    private Hedged(final Func<X, CompletableFuture<Y>> fnc) {
+        this.func = fnc;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final CompletableFuture<Y> future = this.func.apply(input);
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ex;
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
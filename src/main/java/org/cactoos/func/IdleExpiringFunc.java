@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Func;
+
+/**
+ * Func that caches calculated values while they are asked for,
+ * and forgets them when nobody asks for them for a certain time.
+ *
+ * <p>Exceptions are not cached.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see ExpiringFunc
+ * @see SolidFunc
+ * @since 1.0
+ */
+public final class IdleExpiringFunc<X, Y> extends FuncEnvelope<X, Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param idle Time since the last access to forget a value
+     */
+    public IdleExpiringFunc(final Func<X, Y> fnc, final Duration idle) {
+        super(
+            new ExpiringCache<>(
+                fnc, Long.MAX_VALUE, idle.toNanos(), Long.MAX_VALUE,
+                ForkJoinPool.commonPool()
+            )
+        );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+/**
+ * Statistics of a cache, ready to be registered in an MBean server.
+ *
+ * <pre>{@code
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(
+ *     new JmxCacheStats(stats),
+ *     new ObjectName("org.cactoos:type=Cache,name=parser")
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see CacheStats
+ * @since 1.0
+ */
+public final class JmxCacheStats implements CacheStatsMXBean {
+
+    /**
+     * The statistics.
+     */
+    private final CacheStats stats;
+
+    /**
+     * Ctor.
+     * @param stats The statistics
+     */
+    public JmxCacheStats(final CacheStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public long getHits() {
+        return this.stats.snapshot().hits();
+    }
+
+    @Override
+    public long getMisses() {
+        return this.stats.snapshot().misses();
+    }
+
+    @Override
+    public double getHitRate() {
+        return this.stats.snapshot().hitRate();
+    }
+
+    @Override
+    public long getEvictions() {
+        return this.stats.snapshot().evictions();
+    }
+
+    @Override
+    public long getSize() {
+        return this.stats.snapshot().size();
+    }
+
+    @Override
+    public long getMissNanos() {
+        return this.stats.snapshot().missNanos();
+    }
+}
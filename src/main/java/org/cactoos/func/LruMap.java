@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Map that keeps its entries in access order and evicts the least
+ * recently used one, in constant time, as soon as it grows bigger
+ * than the maximum size.
+ *
+ * <p>This class is for internal use only. Use {@link StickyFunc}
+ * or {@link StickyBiFunc} instead.</p>
+ *
+ * <p>Without a limit, that is with the maximum size of
+ * {@link Integer#MAX_VALUE}, it is a plain map in insertion order, which
+ * never evicts anything, so {@link #get(Object)} doesn't change it and
+ * costs no more than it does in {@link java.util.HashMap}.</p>
+ *
+ * <p>There is no thread-safety guarantee: with a limit, even
+ * {@link #get(Object)} modifies the order of the entries.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @since 1.0
+ */
+final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -6137364712402858714L;
+
+    /**
+     * Maximum size.
+     */
+    private final int max;
+
+    /**
+     * Statistics.
+     */
+    private final transient CacheStats stats;
+
+    /**
+     * Ctor.
+     * @param size Maximum size
+     */
+    LruMap(final int size) {
+        this(size, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param size Maximum size
+     * @param stats Statistics to report evictions to
+     */
+    LruMap(final int size, final CacheStats stats) {
+        super(16, 0.75f, size < Integer.MAX_VALUE);
+        this.max = size;
+        this.stats = stats;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+        final boolean full = this.max < Integer.MAX_VALUE
+            && this.size() > this.max;
+        if (full) {
+            this.stats.eviction();
+        }
+        return full;
+    }
+}
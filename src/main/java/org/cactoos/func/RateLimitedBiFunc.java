@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+
+/**
+ * BiFunc that limits the rate of its calls with a {@link TokenBucket}.
+ *
+ * <p>It works exactly like {@link RateLimitedFunc}.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of input
+ * @param <Z> Type of output
+ * @since 1.0
+ */
+public final class RateLimitedBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
+
+    /**
+     * The func that makes calls with a token.
+     */
+    private final Func<Boolean, Boolean> func;
+
+    /**
+     * The original func.
+     */
+    private final BiFunc<? super X, ? super Y, ? extends Z> origin;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param tokens The bucket
+     */
+    public RateLimitedBiFunc(final BiFunc<? super X, ? super Y, ? extends Z> fnc,
+        final TokenBucket tokens) {
+        this(fnc, new RateLimitedFunc<>(input -> input, tokens));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param tokens The bucket
+     * @param timeout Maximum time to wait for a token
+     */
+    public RateLimitedBiFunc(final BiFunc<? super X, ? super Y, ? extends Z> fnc,
+        final TokenBucket tokens, final Duration timeout) {
+        this(fnc, new RateLimitedFunc<>(input -> input, tokens, timeout));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param token The func which returns its input, when a token is taken
+     */
+    private RateLimitedBiFunc(final BiFunc<? super X, ? super Y, ? extends Z> fnc,
+        final Func<Boolean, Boolean> token) {
+        this.origin = fnc;
+        this.func = token;
+    }
+
+    @Override
+    public Z apply(final X first, final Y second) throws Exception {
+        this.func.apply(true);
+        return this.origin.apply(first, second);
+    }
+}
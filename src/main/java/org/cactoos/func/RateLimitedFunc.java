@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+
+/**
+ * Func that limits the rate of its calls with a {@link TokenBucket}.
+ *
+ * <p>By default, a call waits for its token as long as necessary.
+ * With a timeout, the call fails with {@link RejectedExecutionException}
+ * if the token is not available in time, without waiting at all; with
+ * {@link Duration#ZERO} it fails at once, if there are no tokens in
+ * the bucket. To wait for a token without blocking a thread, use
+ * {@link CompletableRateLimited}.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class RateLimitedFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * The original func.
+     */
+    private final Func<? super X, ? extends Y> origin;
+
+    /**
+     * The bucket.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * Maximum time to wait for a token, in nanos.
+     */
+    private final long wait;
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param tokens The bucket
+     */
+    public RateLimitedFunc(final Func<? super X, ? extends Y> fnc,
+        final TokenBucket tokens) {
+        this(fnc, tokens, Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param tokens The bucket
+     * @param timeout Maximum time to wait for a token
+     */
+    public RateLimitedFunc(final Func<? super X, ? extends Y> fnc,
+        final TokenBucket tokens, final Duration timeout) {
+        this(fnc, tokens, timeout.toNanos());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The original func
+     * @param tokens The bucket
+     * @param nanos Maximum time to wait for a token, in nanos
+     */
+    private RateLimitedFunc(final Func<? super X, ? extends Y> fnc,
+        final TokenBucket tokens, final long nanos) {
+        this.origin = fnc;
+        this.bucket = tokens;
+        this.wait = nanos;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final long delay = this.bucket.reserve(this.wait);
+        if (delay < 0L) {
+            throw new RejectedExecutionException(
+                "Rate limit is exceeded, the call is rejected"
+            );
+        }
+        if (delay > 0L) {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        }
+        return this.origin.apply(input);
+    }
+}
@@ -10,6 +10,22 @@ import org.cactoos.Func;
 /**
  * Func that will try a few times before throwing an exception.
  *
+ * <p>Between attempts, the calling thread sleeps, for the same time
+ * or for the time calculated by the {@link Backoff}. When a total
+ * budget is given and the next attempt would start after it is spent,
+ * the last exception is thrown without waiting:</p>
+ *
+ * <pre>{@code
+ * new Retry<>(
+ *     url -> new TextOf(new URL(url)).asString(),
+ *     5,
+ *     new Backoff.Decorrelated(Duration.ofMillis(100L), Duration.ofSeconds(5L)),
+ *     Duration.ofSeconds(10L)
+ * ).apply("https://www.cactoos.org");
+ * }</pre>
+ *
+ * <p>To retry without blocking a thread, use {@link CompletableRetry}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
@@ -29,9 +45,14 @@ public final class Retry<X, Y> implements Func<X, Y> {
     private final Func<Integer, Boolean> exit;
 
     /**
-     * Wait between executions.
+     * Delays between executions.
+     */
+    private final Backoff backoff;
+
+    /**
+     * Maximum total time of all attempts and delays.
      */
-    private final Duration wait;
+    private final Duration budget;
 
     /**
      * Ctor.
@@ -62,6 +83,19 @@ public final class Retry<X, Y> implements Func<X, Y> {
         this(fnc, attempt -> attempt >= attempts, wait);
     }
 
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param attempts Maximum number of attempts
+     * @param backoff Delays between attempts
+     * @param budget Maximum total time of all attempts and delays
+     */
+    public Retry(final Func<X, Y> fnc, final int attempts,
+        final Backoff backoff, final Duration budget) {
+        this(fnc, attempt -> attempt >= attempts, backoff, budget);
+    }
+
     /**
      * Ctor.
      *
@@ -81,19 +115,53 @@ public final class Retry<X, Y> implements Func<X, Y> {
      */
     public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
         final Duration wait) {
+        this(fnc, ext, new Backoff.Fixed(wait), Duration.ofSeconds(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param backoff Delays between attempts
+     * @param budget Maximum total time of all attempts and delays
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
+        final Backoff backoff, final Duration budget) {
         this.func = fnc;
         this.exit = ext;
-        this.wait = wait;
+        this.backoff = backoff;
+        this.budget = budget;
     }
 
     @Override
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public Y apply(final X input) throws Exception {
+        final long start = System.nanoTime();
         int attempt = 0;
+        Duration delay = Duration.ZERO;
         Exception error = new IllegalArgumentException(
             "An immediate exit, didn't have a chance to try at least once"
         );
         while (!this.exit.apply(attempt)) {
+            if (attempt > 0) {
+                delay = this.backoff.delay(delay);
+                if (Duration.ofNanos(System.nanoTime() - start).plus(delay)
+                    .compareTo(this.budget) > 0) {
+                    break;
+                }
+                if (!delay.isZero() && !delay.isNegative()) {
+                    try {
+                        Thread.sleep(
+                            delay.toMillis(), delay.getNano() % 1_000_000
+                        );
+                    } catch (final InterruptedException ex) {
+                        error = ex;
+                        break;
+                    }
+                }
+            }
             try {
                 return this.func.apply(input);
             } catch (final InterruptedException ex) {
@@ -104,14 +172,6 @@ public final class Retry<X, Y> implements Func<X, Y> {
             } catch (final Exception ex) {
                 error = ex;
             }
-            if (!this.wait.isZero() && !this.wait.isNegative()) {
-                try {
-                    Thread.sleep(this.wait.toMillis());
-                } catch (final InterruptedException ex) {
-                    error = ex;
-                    break;
-                }
-            }
             ++attempt;
         }
         throw error;
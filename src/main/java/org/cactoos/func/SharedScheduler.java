@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduled executor service shared by the entire JVM, which runs
+ * delayed tasks in a single daemon thread.
+ *
+ * <p>It is meant for timers only: a delayed task must be short and
+ * non-blocking, like completing a future or submitting the real work
+ * to another executor, because all delayed tasks of the JVM share one
+ * thread. All instances of this class use the same thread, which is
+ * never shut down: {@link #shutdown()}, {@link #shutdownNow()} and
+ * {@link #close()} do nothing. Cancelled tasks are removed from the queue at once.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see SharedThreads
+ * @since 1.0
+ */
+public final class SharedScheduler extends AbstractExecutorService
+    implements ScheduledExecutorService {
+
+    /**
+     * The service shared by all instances.
+     */
+    private static final ScheduledThreadPoolExecutor SHARED =
+        SharedScheduler.timer();
+
+    @Override
+    public ScheduledFuture<?> schedule(final Runnable command,
+        final long delay, final TimeUnit unit) {
+        return SharedScheduler.SHARED.schedule(command, delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(final Callable<V> callable,
+        final long delay, final TimeUnit unit) {
+        return SharedScheduler.SHARED.schedule(callable, delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(final Runnable command,
+        final long initial, final long period, final TimeUnit unit) {
+        return SharedScheduler.SHARED.scheduleAtFixedRate(
+            command, initial, period, unit
+        );
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(final Runnable command,
+        final long initial, final long delay, final TimeUnit unit) {
+        return SharedScheduler.SHARED.scheduleWithFixedDelay(
+            command, initial, delay, unit
+        );
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        SharedScheduler.SHARED.execute(task);
+    }
+
+    @Override
+    public void shutdown() {
+        // The shared service is never shut down
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return new LinkedList<>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return false;
+    }
+
+    /**
+     * Wait for the termination, which never comes.
+     * @param timeout How long to wait
+     * @param unit The unit of the timeout
+     * @return Always FALSE, after the timeout
+     * @throws InterruptedException If interrupted while waiting
+     */
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        unit.sleep(timeout);
+        return false;
+    }
+
+    /**
+     * Close it, which does nothing, since the shared service is never
+     * shut down.
+     *
+     * <p>It overrides {@code ExecutorService.close()} of Java 19 and
+     * later, which would wait for the termination forever, so that
+     * the service can be used in try-with-resources.</p>
+     */
+    @SuppressWarnings("PMD.MissingOverride")
+    public void close() {
+        // The shared service is never shut down
+    }
+
+    /**
+     * Make the timer.
+     * @return The timer with one daemon thread
+     */
+    private static ScheduledThreadPoolExecutor timer() {
+        final ScheduledThreadPoolExecutor timer =
+            new ScheduledThreadPoolExecutor(
+                1,
+                runnable -> {
+                    final Thread thread = new Thread(
+                        runnable, "cactoos-scheduler"
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+}
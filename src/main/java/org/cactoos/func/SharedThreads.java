@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service shared by the entire JVM, which runs every
+ * task in a new virtual thread, if the JVM supports them, or in
+ * a pool of daemon threads otherwise.
+ *
+ * <p>This is the default executor of {@link Async}, {@link Timed},
+ * {@link org.cactoos.scalar.AndInThreads} and
+ * {@link org.cactoos.experimental.Threads}. All instances of
+ * this class run tasks in the same {@link VirtualThreads}, which
+ * is never shut down: {@link #shutdown()}, {@link #shutdownNow()}
+ * and {@link #close()} do nothing. Idle daemon threads die on their own and never
+ * prevent the JVM from exiting.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see VirtualThreads
+ * @since 1.0
+ */
+public final class SharedThreads extends AbstractExecutorService {
+
+    /**
+     * The service shared by all instances.
+     */
+    private static final ExecutorService SHARED = new VirtualThreads();
+
+    @Override
+    public void execute(final Runnable task) {
+        SharedThreads.SHARED.execute(task);
+    }
+
+    @Override
+    public void shutdown() {
+        // The shared service is never shut down
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return new LinkedList<>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return false;
+    }
+
+    /**
+     * Wait for the termination, which never comes.
+     * @param timeout How long to wait
+     * @param unit The unit of the timeout
+     * @return Always FALSE, after the timeout
+     * @throws InterruptedException If interrupted while waiting
+     */
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        unit.sleep(timeout);
+        return false;
+    }
+
+    /**
+     * Close it, which does nothing, since the shared service is never
+     * shut down.
+     *
+     * <p>It overrides {@code ExecutorService.close()} of Java 19 and
+     * later, which would wait for the termination forever, so that
+     * the service can be used in try-with-resources.</p>
+     */
+    @SuppressWarnings("PMD.MissingOverride")
+    public void close() {
+        // The shared service is never shut down
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cactoos.Func;
+
+/**
+ * Func that coalesces concurrent calls with equal inputs into one call.
+ *
+ * <p>While the original func is being applied to an input, all other
+ * threads, which call {@link #apply(Object)} with an equal input, don't
+ * call it again, but wait for the same call and get its result, or its
+ * exception. Unlike {@link SolidFunc}, the result is not cached: as soon
+ * as the call is finished, the next call with the same input calls the
+ * original func again. Calls with different inputs don't wait for each
+ * other.</p>
+ *
+ * <p>When many threads miss a cache at the same time, put this func
+ * between the cache and the backend, to call the backend only once
+ * per key:</p>
+ *
+ * <pre>{@code
+ * final Func<String, User> users = new ExpiringFunc<>(
+ *     new SingleFlight<>(id -> backend.user(id)),
+ *     Duration.ofMinutes(1L)
+ * );
+ * }</pre>
+ *
+ * <p>The same object must be used for all calls, since it keeps the calls
+ * in progress.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class SingleFlight<X, Y> implements Func<X, Y> {
+
+    /**
+     * Key that stands for the NULL input.
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * Original func.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * Calls in progress.
+     */
+    private final Map<Object, Computation<Y>> flights;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     */
+    public SingleFlight(final Func<? super X, ? extends Y> fnc) {
+        this.func = fnc;
+        this.flights = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final Object key;
+        if (input == null) {
+            key = SingleFlight.NULL;
+        } else {
+            key = input;
+        }
+        final Computation<Y> mine = new Computation<>(
+            () -> this.func.apply(input)
+        );
+        final Computation<Y> flight = this.flights.putIfAbsent(key, mine);
+        final Y result;
+        if (flight == null) {
+            try {
+                mine.run();
+            } finally {
+                this.flights.remove(key, mine);
+            }
+            result = mine.value();
+        } else {
+            result = flight.value();
+        }
+        return result;
+    }
+}
@@ -4,7 +4,10 @@
  */
 package org.cactoos.func;
 
+import java.util.Map;
 import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.map.MapEntry;
 
 /**
  * BiFunc that is thread-safe and sticky.
@@ -14,6 +17,7 @@ import org.cactoos.BiFunc;
  * @param <X> Type of first input
  * @param <Y> Type of second input
  * @param <Z> Type of output
+ * @see SolidFunc
  * @since 0.24
  */
 public final class SolidBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
@@ -33,6 +37,32 @@ public final class SolidBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
      * @since 0.26
      */
     public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        super(new SyncBiFunc<>(new StickyBiFunc<>(fnc, max)));
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Max buffer length
+     * @param stats Statistics of the cache
+     * @since 1.0
+     */
+    public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final CacheStats stats) {
+        this(
+            new SolidFunc<Map.Entry<X, Y>, Z>(
+                entry -> fnc.apply(entry.getKey(), entry.getValue()),
+                max,
+                stats
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param solid Solid func of the pair of inputs
+     */
+    private SolidBiFunc(final Func<Map.Entry<X, Y>, Z> solid) {
+        super((first, second) -> solid.apply(new MapEntry<>(first, second)));
     }
 }
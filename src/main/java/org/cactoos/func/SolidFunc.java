@@ -4,11 +4,31 @@
  */
 package org.cactoos.func;
 
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.cactoos.Func;
+import org.cactoos.map.MapEntry;
 
 /**
  * Func that is thread-safe and sticky.
  *
+ * <p>Cached values are read without any locks. When a value is missing,
+ * only the first thread that asks for it calculates it, while other
+ * threads that ask for the same input wait for that calculation and
+ * get its result, or its exception. Calculations for different inputs
+ * run in parallel. Failed calculations are not cached.</p>
+ *
+ * <p>When the cache is full, the least recently used values are evicted
+ * from it, approximately: the values are kept in the order they were
+ * cached, and the oldest one is evicted, unless it was used since it was
+ * checked last time. Then it gets a second chance and goes to the end of
+ * the line. The value that has just been cached gets its second chance
+ * too, so it is evicted only when there is no room for it at all, as with
+ * the maximum size of zero. Thus, a value that is used often stays in the cache, while
+ * hits don't need any locks or reordering.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of input
@@ -17,11 +37,37 @@ import org.cactoos.Func;
  */
 public final class SolidFunc<X, Y> implements Func<X, Y> {
 
+    /**
+     * Key that stands for the NULL input.
+     */
+    private static final Object NULL = new Object();
+
     /**
      * Original func.
      */
     private final Func<X, Y> func;
 
+    /**
+     * Cache of computations, finished or in progress.
+     */
+    private final Map<Object, Computation<Y>> cache;
+
+    /**
+     * Cached computations, from the oldest to the newest, in a bounded
+     * cache.
+     */
+    private final Queue<Map.Entry<Object, Computation<Y>>> order;
+
+    /**
+     * Maximum cache size.
+     */
+    private final int max;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
+
     /**
      * Ctor.
      * @param fnc Original function
@@ -37,11 +83,107 @@ public final class SolidFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public SolidFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new SyncFunc<>(new StickyFunc<>(fnc, max));
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param max Max caching buffer length
+     * @param stats Statistics of the cache
+     * @since 1.0
+     */
+    public SolidFunc(final Func<X, Y> fnc, final int max,
+        final CacheStats stats) {
+        this.func = fnc;
+        this.cache = new ConcurrentHashMap<>(0);
+        this.order = new ConcurrentLinkedQueue<>();
+        this.max = max;
+        this.stats = stats;
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input);
+        final Object key;
+        if (input == null) {
+            key = SolidFunc.NULL;
+        } else {
+            key = input;
+        }
+        Computation<Y> computation = this.cache.get(key);
+        if (computation == null) {
+            final Computation<Y> mine = new Computation<>(
+                () -> this.func.apply(input)
+            );
+            computation = this.cache.putIfAbsent(key, mine);
+            if (computation == null) {
+                computation = mine;
+                if (this.max < Integer.MAX_VALUE) {
+                    this.order.add(new MapEntry<>(key, mine));
+                }
+                this.stats.miss(
+                    () -> {
+                        mine.run();
+                        return mine;
+                    }
+                );
+                this.evict(mine);
+            } else {
+                computation.touch();
+                this.stats.hit();
+            }
+        } else {
+            computation.touch();
+            this.stats.hit();
+        }
+        try {
+            return computation.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            if (computation.done() && this.cache.remove(key, computation)) {
+                this.order.remove(new MapEntry<>(key, computation));
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Evict the least recently used computations, if the cache is full.
+     *
+     * <p>Every computation is in the line since it is put into the cache,
+     * even while it is still running. The line is walked not more than
+     * twice, which is enough for every used computation to lose its second
+     * chance, so eviction always ends, even if other threads keep
+     * the cache full. The new computation gets its second chance only
+     * once, so it is evicted too, if there is no room for it at all.</p>
+     *
+     * @param computation The new computation
+     */
+    private void evict(final Computation<Y> computation) {
+        if (this.max < Integer.MAX_VALUE) {
+            int left = 2 * this.order.size();
+            boolean spared = false;
+            while (this.cache.size() > this.max && left > 0) {
+                left -= 1;
+                final Map.Entry<Object, Computation<Y>> oldest =
+                    this.order.poll();
+                if (oldest == null) {
+                    break;
+                }
+                final boolean own = oldest.getValue() == computation;
+                if ((own && !spared
+                    || !own && oldest.getValue().touched())
+                    && this.cache.get(oldest.getKey()) == oldest.getValue()) {
+                    spared = spared || own;
+                    this.order.add(oldest);
+                } else if (
+                    this.cache.remove(oldest.getKey(), oldest.getValue())
+                ) {
+                    this.stats.eviction();
+                }
+            }
+        }
+        this.stats.size(this.cache.size());
     }
 }
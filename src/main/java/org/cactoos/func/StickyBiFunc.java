@@ -4,7 +4,6 @@
  */
 package org.cactoos.func;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 import org.cactoos.BiFunc;
 import org.cactoos.map.MapEntry;
@@ -18,7 +17,8 @@ import org.cactoos.scalar.Sticky;
  * recommended to always decorate it with {@link SyncBiFunc}.</p>
  *
  * <p>This {@link BiFunc} decorator technically is an in-memory
- * cache.</p>
+ * cache. When the cache is full, the least recently used value
+ * is evicted from it, in constant time.</p>
  *
  * <p>There is no thread-safety guarantee.
  * @param <X> Type of input
@@ -40,9 +40,9 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
     private final Map<Map.Entry<X, Y>, Z> cache;
 
     /**
-     * Maximum cache size.
+     * Statistics.
      */
-    private final int size;
+    private final CacheStats stats;
 
     /**
      * Ctor.
@@ -59,21 +59,35 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      * @since 0.26
      */
     public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum buffer size
+     * @param stats Statistics of the cache
+     * @since 1.0
+     */
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final CacheStats stats) {
         this.func = fnc;
-        this.cache = new LinkedHashMap<>(0);
-        this.size = max;
+        this.cache = new LruMap<>(max, stats);
+        this.stats = stats;
     }
 
     @Override
     public Z apply(final X first, final Y second) throws Exception {
         final Map.Entry<X, Y> key = new MapEntry<>(first, second);
-        while (this.cache.size() > this.size) {
-            this.cache.remove(this.cache.keySet().iterator().next());
-        }
-        if (!this.cache.containsKey(key)) {
-            this.cache.put(key, this.func.apply(first, second));
+        Z result = this.cache.get(key);
+        if (result != null || this.cache.containsKey(key)) {
+            this.stats.hit();
+        } else {
+            result = this.stats.miss(() -> this.func.apply(first, second));
+            this.cache.put(key, result);
+            this.stats.size(this.cache.size());
         }
-        return this.cache.get(key);
+        return result;
     }
 
 }
@@ -4,7 +4,7 @@
  */
 package org.cactoos.func;
 
-import org.cactoos.BiFunc;
+import java.util.Map;
 import org.cactoos.Func;
 import org.cactoos.scalar.Sticky;
 
@@ -13,7 +13,8 @@ import org.cactoos.scalar.Sticky;
  * recalculate again.
  *
  * <p>This {@link Func} decorator technically is an in-memory
- * cache.</p>
+ * cache. When the cache is full, the least recently used value
+ * is evicted from it, in constant time.</p>
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
  * recommended to always decorate it with {@link SyncFunc}.</p>
@@ -28,9 +29,19 @@ import org.cactoos.scalar.Sticky;
 public final class StickyFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Sticky bi-func.
+     * Original func.
      */
-    private final BiFunc<X, Boolean, Y> func;
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final Map<X, Y> cache;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
 
     /**
      * Ctor.
@@ -47,15 +58,34 @@ public final class StickyFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public StickyFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new StickyBiFunc<>(
-            (first, second) -> fnc.apply(first),
-            max
-        );
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum cache size
+     * @param stats Statistics of the cache
+     * @since 1.0
+     */
+    public StickyFunc(final Func<X, Y> fnc, final int max,
+        final CacheStats stats) {
+        this.func = fnc;
+        this.cache = new LruMap<>(max, stats);
+        this.stats = stats;
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input, true);
+        Y result = this.cache.get(input);
+        if (result != null || this.cache.containsKey(input)) {
+            this.stats.hit();
+        } else {
+            result = this.stats.miss(() -> this.func.apply(input));
+            this.cache.put(input, result);
+            this.stats.size(this.cache.size());
+        }
+        return result;
     }
 
 }
@@ -12,6 +12,10 @@ import org.cactoos.Func;
 
 /**
  * Function that gets interrupted after a certain time has passed.
+ *
+ * <p>By default, the function runs in {@link SharedThreads}, so that
+ * many instances of this class don't hold a thread each.</p>
+ *
  * @param <X> Type of input
  * @param <Y> Type of output
  * @since 0.29.3
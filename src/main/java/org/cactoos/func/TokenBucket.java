@@ -0,0 +1,191 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket, which limits the rate of calls.
+ *
+ * <p>Tokens are added to the bucket at the given rate, and not more
+ * than the burst capacity of them may be in the bucket, so that
+ * that amount of calls may be made at once, after a pause. Every call
+ * takes one token, either at once, or after waiting for it.</p>
+ *
+ * <p>The bucket keeps only one number: the moment when the next token
+ * would be available if the bucket were empty (this is the "generic
+ * cell rate algorithm"). It is changed by compare-and-set, without locks,
+ * so an uncontended call costs one {@link System#nanoTime()} and one
+ * atomic update. The same bucket may be shared by many
+ * {@link RateLimitedFunc}, {@link RateLimitedBiFunc},
+ * {@link CompletableRateLimited} and
+ * {@link org.cactoos.proc.RateLimitedProc} objects, which limits
+ * the total rate of their calls.</p>
+ *
+ * <pre>{@code
+ * final TokenBucket limit = new TokenBucket(100.0d, 10);
+ * final Func<String, User> users = new RateLimitedFunc<>(
+ *     id -> backend.user(id), limit
+ * );
+ * final Func<String, Order> orders = new RateLimitedFunc<>(
+ *     id -> backend.order(id), limit
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class TokenBucket {
+
+    /**
+     * Nanos between two tokens.
+     */
+    private final long interval;
+
+    /**
+     * How far in advance tokens may be taken, in nanos.
+     */
+    private final long tolerance;
+
+    /**
+     * The moment of time, in nanos, all other moments are counted from.
+     */
+    private final long epoch;
+
+    /**
+     * The moment, since the epoch, when the next token is available
+     * in the empty bucket.
+     */
+    private final AtomicLong arrival;
+
+    /**
+     * Ctor.
+     * @param rate Tokens per second
+     */
+    public TokenBucket(final double rate) {
+        this(rate, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param rate Tokens per second, more than zero
+     * @param burst Maximum amount of tokens in the bucket, at least one
+     */
+    public TokenBucket(final double rate, final int burst) {
+        this(TokenBucket.interval(rate), burst);
+    }
+
+    /**
+     * Ctor.
+     * @param interval Nanos between two tokens
+     * @param burst Maximum amount of tokens in the bucket
+     */
+    private TokenBucket(final long interval, final int burst) {
+        this.interval = interval;
+        this.tolerance = TokenBucket.tolerance(interval, burst);
+        this.epoch = System.nanoTime();
+        this.arrival = new AtomicLong();
+    }
+
+    /**
+     * Take a token, if it's available now.
+     * @return TRUE if it is taken
+     */
+    public boolean tryAcquire() {
+        return this.reserve(0L) == 0L;
+    }
+
+    /**
+     * Take a token, waiting for it as long as necessary.
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        final long wait = this.reserve(Long.MAX_VALUE);
+        if (wait > 0L) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Reserve a token, if it is available not later than the given time.
+     *
+     * <p>The token is reserved for the caller, who must wait for it
+     * the time returned, before making the call.</p>
+     *
+     * @param max Maximum time to wait for the token, in nanos
+     * @return Time to wait for the token, in nanos, or a negative number
+     *  if the token is not reserved, since it's not available in time
+     */
+    public long reserve(final long max) {
+        long wait;
+        while (true) {
+            final long now = System.nanoTime() - this.epoch;
+            final long next = this.arrival.get();
+            wait = Math.max(0L, next - this.tolerance - now);
+            if (wait > max) {
+                wait = -1L;
+                break;
+            }
+            if (this.arrival.compareAndSet(
+                next, Math.max(next, now) + this.interval
+            )) {
+                break;
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * Nanos between two tokens.
+     *
+     * <p>It is limited to a quarter of the range of {@code long}, like
+     * the tolerance.</p>
+     *
+     * @param rate Tokens per second
+     * @return The interval
+     */
+    private static long interval(final double rate) {
+        if (!(rate > 0.0d)) {
+            throw new IllegalArgumentException(
+                String.format("The rate must be positive, %s is not", rate)
+            );
+        }
+        final double nanos = (double) TimeUnit.SECONDS.toNanos(1L) / rate;
+        if (nanos > (double) (Long.MAX_VALUE / 4L)) {
+            throw new IllegalArgumentException(
+                String.format("The rate %s is too low", rate)
+            );
+        }
+        return Math.max(1L, (long) nanos);
+    }
+
+    /**
+     * How far in advance tokens may be taken, in nanos.
+     *
+     * <p>It is limited to a quarter of the range of {@code long}, so that
+     * the arithmetic of {@link #reserve(long)} never overflows.</p>
+     *
+     * @param interval Nanos between two tokens
+     * @param burst Maximum amount of tokens in the bucket
+     * @return The tolerance
+     */
+    private static long tolerance(final long interval, final int burst) {
+        if (burst < 1) {
+            throw new IllegalArgumentException(
+                String.format("The burst must be positive, %d is not", burst)
+            );
+        }
+        if (burst - 1L > Long.MAX_VALUE / 4L / interval) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The burst of %d tokens is too large for the rate", burst
+                )
+            );
+        }
+        return interval * (burst - 1L);
+    }
+}
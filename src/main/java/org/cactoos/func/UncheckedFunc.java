@@ -32,10 +32,25 @@ public final class UncheckedFunc<X, Y> implements Func<X, Y> {
     }
 
     @Override
+    @SuppressWarnings(
+        {
+            "PMD.AvoidCatchingGenericException",
+            "PMD.AvoidRethrowingException"
+        }
+    )
     public Y apply(final X input) {
-        return new Unchecked<>(
-            () -> this.func.apply(input)
-        ).value();
+        try {
+            return this.func.apply(input);
+        } catch (final RuntimeException ex) {
+            throw ex;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            return new Unchecked<Y>(
+                () -> {
+                    throw ex;
+                }
+            ).value();
+        }
     }
 
 }
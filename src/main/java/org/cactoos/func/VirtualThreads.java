@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Executor service that runs every task in a new virtual thread,
+ * if the JVM supports them (Java 21 and later).
+ *
+ * <p>On older JVMs it runs tasks in a pool of daemon threads, which
+ * grows when all threads are busy and shrinks when they are idle
+ * for a minute.</p>
+ *
+ * <p>The service must be shut down, when it is not needed anymore.
+ * If you just need an executor for background tasks, which never
+ * has to be shut down, use {@link SharedThreads}.</p>
+ *
+ * <pre>{@code
+ * final ExecutorService threads = new VirtualThreads();
+ * try {
+ *     new AndInThreads(threads, checks).value();
+ * } finally {
+ *     threads.shutdown();
+ * }
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see SharedThreads
+ * @since 1.0
+ */
+public final class VirtualThreads extends AbstractExecutorService {
+
+    /**
+     * The service that runs the tasks.
+     */
+    private final Unchecked<ExecutorService> origin;
+
+    /**
+     * Ctor.
+     */
+    public VirtualThreads() {
+        this.origin = new Unchecked<>(
+            new Solid<>(
+                () -> {
+                    ExecutorService service;
+                    try {
+                        service = (ExecutorService) Executors.class
+                            .getMethod("newVirtualThreadPerTaskExecutor")
+                            .invoke(null);
+                    } catch (final ReflectiveOperationException ex) {
+                        final AtomicInteger count = new AtomicInteger();
+                        service = new ThreadPoolExecutor(
+                            0, Integer.MAX_VALUE,
+                            1L, TimeUnit.MINUTES,
+                            new SynchronousQueue<>(),
+                            runnable -> {
+                                final Thread thread = new Thread(
+                                    runnable,
+                                    "cactoos-" + count.incrementAndGet()
+                                );
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        );
+                    }
+                    return service;
+                }
+            )
+        );
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        this.origin.value().execute(task);
+    }
+
+    @Override
+    public void shutdown() {
+        this.origin.value().shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return this.origin.value().shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.origin.value().isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.origin.value().isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+        throws InterruptedException {
+        return this.origin.value().awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.channels.Channel;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+
+/**
+ * Check that a channel is in blocking mode.
+ *
+ * <p>A channel in non-blocking mode, like a
+ * {@link java.nio.channels.SocketChannel} registered with a selector,
+ * may read or write nothing at all, and the loops that read or write
+ * it till the end would spin. Such channels are rejected, the same way
+ * {@link java.nio.channels.Channels#newInputStream} does it.</p>
+ *
+ * <p>This class is for internal use only.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class Blocking {
+
+    /**
+     * The channel.
+     */
+    private final Channel channel;
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     */
+    Blocking(final Channel chnl) {
+        this.channel = chnl;
+    }
+
+    /**
+     * Make sure the channel is in blocking mode.
+     * @throws IllegalBlockingModeException If it is not
+     */
+    void affirm() {
+        if (this.channel instanceof SelectableChannel
+            && !((SelectableChannel) this.channel).isBlocking()) {
+            throw new IllegalBlockingModeException();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of reusable I/O buffers.
+ *
+ * <p>{@link org.cactoos.scalar.LengthOf}, the digests of
+ * {@link org.cactoos.bytes.DigestEnvelope}, {@link TailOf},
+ * {@link TeeInputStream#pump()}, {@link GzipInput},
+ * {@link org.cactoos.text.TextOf} and the streams
+ * of {@link OutputTo} made of a {@link java.io.Writer} borrow their
+ * buffers here and give them back when they are done. So reading
+ * thousands of small files a second doesn't allocate a new 16KB
+ * buffer for each of them.</p>
+ *
+ * <p>Buffers come in sizes that are powers of two, from 1KB to the
+ * largest one pooled. A buffer may be larger than asked for. Larger
+ * buffers are allocated and dropped as usual. Idle buffers are kept in
+ * a few slots of each size, while the total size of idle buffers is
+ * within the limit of retained memory. The rest are left to the
+ * garbage collector. {@link #buffer(int)} gives out direct
+ * {@link ByteBuffer}s, unless the pool is told to use heap ones.</p>
+ *
+ * <p>All instances made with the default constructor share one pool.
+ * It can be configured with system properties:
+ * {@code org.cactoos.io.Buffers.largest}, the largest pooled size in
+ * bytes, 1MB by default; {@code org.cactoos.io.Buffers.retained}, the
+ * limit of retained memory in bytes, 16MB by default, zero turns
+ * pooling off; and {@code org.cactoos.io.Buffers.heap}, which makes
+ * {@link #buffer(int)} give out heap buffers.</p>
+ *
+ * <p>A buffer must not be used after it is released, and must not be
+ * released twice.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class Buffers {
+
+    /**
+     * The pool shared by all default instances.
+     */
+    private static final Buffers SHARED = new Buffers(
+        Integer.getInteger("org.cactoos.io.Buffers.largest", 1 << 20),
+        Long.getLong("org.cactoos.io.Buffers.retained", 16L << 20),
+        !Boolean.getBoolean("org.cactoos.io.Buffers.heap")
+    );
+
+    /**
+     * Binary logarithm of the smallest size.
+     */
+    private static final int SMALLEST = 10;
+
+    /**
+     * Idle arrays, by size.
+     */
+    private final List<Slots<byte[]>> arrays;
+
+    /**
+     * Idle direct buffers, by size.
+     */
+    private final List<Slots<ByteBuffer>> directs;
+
+    /**
+     * Total size of idle buffers, in bytes.
+     */
+    private final AtomicLong idle;
+
+    /**
+     * Limit of the total size of idle buffers, in bytes.
+     */
+    private final long retained;
+
+    /**
+     * Give out direct buffers?
+     */
+    private final boolean direct;
+
+    /**
+     * Ctor.
+     */
+    public Buffers() {
+        this(Buffers.SHARED);
+    }
+
+    /**
+     * Ctor.
+     * @param largest The largest size to pool, in bytes
+     * @param retained Limit of retained memory, in bytes
+     * @param direct Give out direct buffers
+     */
+    public Buffers(final int largest, final long retained,
+        final boolean direct) {
+        this(
+            Buffers.slots(largest, retained),
+            Buffers.slots(largest, retained),
+            retained,
+            direct
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param pool The pool to share
+     */
+    private Buffers(final Buffers pool) {
+        this(pool.arrays, pool.directs, pool.idle, pool.retained, pool.direct);
+    }
+
+    /**
+     * Ctor.
+     * @param arrays Slots of arrays
+     * @param directs Slots of direct buffers
+     * @param retained Limit of retained memory, in bytes
+     * @param direct Give out direct buffers
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Buffers(final List<Slots<byte[]>> arrays,
+        final List<Slots<ByteBuffer>> directs, final long retained,
+        final boolean direct) {
+        this(arrays, directs, new AtomicLong(), retained, direct);
+    }
+
+    /**
+     * Ctor.
+     * @param arrays Slots of arrays
+     * @param directs Slots of direct buffers
+     * @param idle Total size of idle buffers
+     * @param retained Limit of retained memory, in bytes
+     * @param direct Give out direct buffers
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Buffers(final List<Slots<byte[]>> arrays,
+        final List<Slots<ByteBuffer>> directs, final AtomicLong idle,
+        final long retained, final boolean direct) {
+        this.arrays = arrays;
+        this.directs = directs;
+        this.idle = idle;
+        this.retained = retained;
+        this.direct = direct;
+    }
+
+    /**
+     * Borrow an array.
+     * @param size Minimum size of the array
+     * @return The array, at least of this size
+     */
+    public byte[] array(final int size) {
+        final int index = Buffers.index(size);
+        byte[] array = null;
+        if (index < this.arrays.size()) {
+            array = this.arrays.get(index).take();
+        }
+        if (array == null) {
+            array = new byte[Buffers.rounded(size, this.arrays.size())];
+        } else {
+            this.idle.addAndGet(-(long) array.length);
+        }
+        return array;
+    }
+
+    /**
+     * Give the array back.
+     * @param array The array borrowed with {@link #array(int)}
+     */
+    public void release(final byte[] array) {
+        final int index = Buffers.index(array.length);
+        if (index < this.arrays.size()
+            && array.length == 1 << (Buffers.SMALLEST + index)
+            && this.reserved(array.length)
+            && !this.arrays.get(index).put(array)) {
+            this.idle.addAndGet(-(long) array.length);
+        }
+    }
+
+    /**
+     * Borrow a buffer.
+     *
+     * <p>The buffer is cleared, with its limit set to the size asked
+     * for. It is direct, unless the pool is told to use heap buffers.</p>
+     *
+     * @param size Limit of the buffer
+     * @return The buffer, at least of this capacity
+     */
+    public ByteBuffer buffer(final int size) {
+        final ByteBuffer buffer;
+        if (this.direct) {
+            final int index = Buffers.index(size);
+            ByteBuffer taken = null;
+            if (index < this.directs.size()) {
+                taken = this.directs.get(index).take();
+            }
+            if (taken == null) {
+                taken = ByteBuffer.allocateDirect(
+                    Buffers.rounded(size, this.directs.size())
+                );
+            } else {
+                this.idle.addAndGet(-(long) taken.capacity());
+            }
+            buffer = taken;
+        } else {
+            buffer = ByteBuffer.wrap(this.array(size));
+        }
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * Give the buffer back.
+     * @param buffer The buffer borrowed with {@link #buffer(int)}
+     */
+    public void release(final ByteBuffer buffer) {
+        if (buffer.isDirect()) {
+            final int size = buffer.capacity();
+            final int index = Buffers.index(size);
+            if (index < this.directs.size()
+                && size == 1 << (Buffers.SMALLEST + index)
+                && this.reserved(size)
+                && !this.directs.get(index).put(buffer)) {
+                this.idle.addAndGet(-(long) size);
+            }
+        } else if (buffer.hasArray() && buffer.arrayOffset() == 0) {
+            this.release(buffer.array());
+        }
+    }
+
+    /**
+     * Reserve some retained memory for an idle buffer.
+     * @param size Size of the buffer
+     * @return TRUE if it fits into the limit
+     */
+    private boolean reserved(final int size) {
+        boolean fits = false;
+        while (true) {
+            final long now = this.idle.get();
+            if (now + (long) size > this.retained) {
+                break;
+            }
+            if (this.idle.compareAndSet(now, now + (long) size)) {
+                fits = true;
+                break;
+            }
+        }
+        return fits;
+    }
+
+    /**
+     * Index of the sizes that can hold this size.
+     * @param size The size
+     * @return Index of the slots
+     */
+    private static int index(final int size) {
+        return Math.max(
+            Integer.SIZE - Integer.numberOfLeadingZeros(size - 1)
+                - Buffers.SMALLEST,
+            0
+        );
+    }
+
+    /**
+     * Size of a new buffer.
+     * @param size Size asked for
+     * @param count Amount of pooled sizes
+     * @return The size rounded up to the pooled one, if it is pooled
+     */
+    private static int rounded(final int size, final int count) {
+        final int index = Buffers.index(size);
+        final int rounded;
+        if (index < count) {
+            rounded = 1 << (Buffers.SMALLEST + index);
+        } else {
+            rounded = size;
+        }
+        return rounded;
+    }
+
+    /**
+     * Make slots of all pooled sizes.
+     * @param largest The largest size to pool
+     * @param retained Limit of retained memory
+     * @param <T> Type of buffers
+     * @return Slots by size
+     */
+    private static <T> List<Slots<T>> slots(final int largest,
+        final long retained) {
+        final List<Slots<T>> slots = new ArrayList<>(0);
+        final long most = 4L * (long) Runtime.getRuntime()
+            .availableProcessors();
+        for (long size = 1L << Buffers.SMALLEST; size <= (long) largest;
+            size <<= 1) {
+            slots.add(new Slots<>((int) Math.min(most, retained / size)));
+        }
+        return slots;
+    }
+}
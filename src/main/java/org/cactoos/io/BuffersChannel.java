@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Channel that reads a sequence of buffers, one after another.
+ *
+ * <p>The channel knows its size and can be positioned, so
+ * {@link ChannelInputStream#available()} and
+ * {@link org.cactoos.scalar.LengthOf} don't have to read it.
+ * It can't be written.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class BuffersChannel implements SeekableByteChannel {
+
+    /**
+     * The buffers.
+     */
+    private final List<ByteBuffer> buffers;
+
+    /**
+     * Where the buffers start.
+     */
+    private final List<Integer> starts;
+
+    /**
+     * Index of the buffer being read.
+     */
+    private int current;
+
+    /**
+     * Is it open?
+     */
+    private boolean open;
+
+    /**
+     * Ctor.
+     * @param bufs The buffers
+     */
+    BuffersChannel(final Iterable<ByteBuffer> bufs) {
+        this.buffers = new ArrayList<>(0);
+        this.starts = new ArrayList<>(0);
+        for (final ByteBuffer buf : bufs) {
+            this.buffers.add(buf);
+            this.starts.add(buf.position());
+        }
+        this.open = true;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) {
+        while (this.current < this.buffers.size()
+            && !this.buffers.get(this.current).hasRemaining()) {
+            this.current += 1;
+        }
+        final int read;
+        if (this.current < this.buffers.size()) {
+            final ByteBuffer buf = this.buffers.get(this.current);
+            read = Math.min(dst.remaining(), buf.remaining());
+            final ByteBuffer part = buf.duplicate();
+            part.limit(part.position() + read);
+            dst.put(part);
+            buf.position(part.position());
+        } else {
+            read = -1;
+        }
+        return read;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() {
+        long pos = 0L;
+        for (int idx = 0; idx < this.buffers.size(); ++idx) {
+            pos += (long) (this.buffers.get(idx).position()
+                - this.starts.get(idx));
+        }
+        return pos;
+    }
+
+    @Override
+    public SeekableByteChannel position(final long pos) {
+        if (pos < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Position can't be negative, %d given", pos)
+            );
+        }
+        long left = pos;
+        this.current = 0;
+        for (int idx = 0; idx < this.buffers.size(); ++idx) {
+            final ByteBuffer buf = this.buffers.get(idx);
+            final int start = this.starts.get(idx);
+            final int len = (int) Math.min(
+                left, (long) (buf.limit() - start)
+            );
+            buf.position(start + len);
+            left -= (long) len;
+            if (left > 0L) {
+                this.current = idx + 1;
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public long size() {
+        long size = 0L;
+        for (int idx = 0; idx < this.buffers.size(); ++idx) {
+            size += (long) (this.buffers.get(idx).limit()
+                - this.starts.get(idx));
+        }
+        return size;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(final long size) {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.open;
+    }
+
+    @Override
+    public void close() {
+        this.open = false;
+        this.current = this.buffers.size();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.cactoos.ChannelInput;
+import org.cactoos.Input;
+
+/**
+ * A {@link ChannelInput} that encapsulates other sources of data.
+ *
+ * <p>An {@link Input} is not wrapped, if it has a channel inside
+ * already. If it is a {@link ChannelInput} itself, like {@link HeadOf},
+ * {@link TailOf}, {@link TeeInput} or {@link MappedInput}, its own
+ * channel is used. If its stream is a {@link java.io.FileInputStream}
+ * or a {@link ChannelInputStream}, their channel is used. Otherwise the
+ * stream is wrapped with {@link Channels#newChannel(InputStream)}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ChannelInputOf implements ChannelInput {
+
+    /**
+     * The input.
+     */
+    private final ChannelInput origin;
+
+    /**
+     * Ctor.
+     * @param path The path
+     */
+    public ChannelInputOf(final Path path) {
+        this(new InputOf(path));
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public ChannelInputOf(final File file) {
+        this(new InputOf(file));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Every channel reads the buffer from its current position to its
+     * limit, the buffer itself is not changed.</p>
+     *
+     * @param buffer The buffer
+     */
+    public ChannelInputOf(final ByteBuffer buffer) {
+        this(
+            () -> new BuffersChannel(
+                Collections.singleton(buffer.duplicate())
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param channel The channel
+     */
+    public ChannelInputOf(final ReadableByteChannel channel) {
+        this(() -> channel);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     */
+    public ChannelInputOf(final Input input) {
+        this(() -> ChannelInputOf.opened(input));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     */
+    private ChannelInputOf(final ChannelInput input) {
+        this.origin = input;
+    }
+
+    @Override
+    public ReadableByteChannel channel() throws Exception {
+        return this.origin.channel();
+    }
+
+    /**
+     * Open a channel to the input.
+     * @param input The input
+     * @return The channel
+     * @throws Exception If fails
+     */
+    private static ReadableByteChannel opened(final Input input)
+        throws Exception {
+        final ReadableByteChannel channel;
+        if (input instanceof ChannelInput) {
+            channel = ((ChannelInput) input).channel();
+        } else {
+            final InputStream stream = input.stream();
+            if (stream instanceof ChannelInputStream) {
+                channel = ((ChannelInputStream) stream).channel();
+            } else if (stream instanceof FileInputStream) {
+                channel = ((FileInputStream) stream).getChannel();
+            } else {
+                channel = Channels.newChannel(stream);
+            }
+        }
+        return channel;
+    }
+}
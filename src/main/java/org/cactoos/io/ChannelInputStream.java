@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Stream that reads from a channel.
+ *
+ * <p>Unlike {@link java.nio.channels.Channels#newInputStream}, it shows
+ * the channel, so {@link ChannelInputOf}, {@link TeeInputStream#pump()}
+ * and the digests of {@link org.cactoos.bytes.DigestEnvelope} can read
+ * the channel itself, into direct buffers.</p>
+ *
+ * <p>The channel must be in blocking mode, otherwise reading fails with
+ * {@link java.nio.channels.IllegalBlockingModeException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ChannelInputStream extends InputStream {
+
+    /**
+     * The channel.
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     */
+    public ChannelInputStream(final ReadableByteChannel chnl) {
+        super();
+        this.channel = chnl;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] buf = new byte[1];
+        final int next;
+        if (this.read(buf, 0, 1) < 0) {
+            next = -1;
+        } else {
+            next = buf[0] & 0xFF;
+        }
+        return next;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        new Blocking(this.channel).affirm();
+        int read = 0;
+        if (len > 0) {
+            final ByteBuffer buffer = ByteBuffer.wrap(buf, offset, len);
+            while (read == 0) {
+                read = this.channel.read(buffer);
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Skip bytes, moving the position of a seekable channel.
+     * @param num How many bytes to skip
+     * @return How many bytes are skipped
+     * @throws IOException If fails
+     */
+    @Override
+    public long skip(final long num) throws IOException {
+        final long skipped;
+        if (this.channel instanceof SeekableByteChannel && num > 0L) {
+            final SeekableByteChannel seekable =
+                (SeekableByteChannel) this.channel;
+            final long pos = seekable.position();
+            skipped = Math.min(num, Math.max(seekable.size() - pos, 0L));
+            seekable.position(pos + skipped);
+        } else {
+            skipped = super.skip(num);
+        }
+        return skipped;
+    }
+
+    /**
+     * How many bytes are left in a file or another seekable channel.
+     * @return The number of bytes left, or zero for other channels
+     * @throws IOException If fails
+     */
+    @Override
+    public int available() throws IOException {
+        int left = 0;
+        if (this.channel instanceof SeekableByteChannel) {
+            final SeekableByteChannel seekable =
+                (SeekableByteChannel) this.channel;
+            left = (int) Math.min(
+                Math.max(seekable.size() - seekable.position(), 0L),
+                (long) Integer.MAX_VALUE
+            );
+        }
+        return left;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * The channel.
+     * @return The channel
+     */
+    public ReadableByteChannel channel() {
+        return this.channel;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Stream that writes to a channel.
+ *
+ * <p>Unlike {@link java.nio.channels.Channels#newOutputStream}, it shows
+ * the channel, so {@link TeeInputStream#pump()} can transfer a file
+ * straight into it, for example into a
+ * {@link java.nio.channels.SocketChannel}, and {@link ChannelOutputTo}
+ * can give the channel back without wrapping it.</p>
+ *
+ * <p>The channel must be in blocking mode, otherwise writing fails with
+ * {@link java.nio.channels.IllegalBlockingModeException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ChannelOutputStream extends OutputStream {
+
+    /**
+     * The channel.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * Ctor.
+     * @param chnl The channel
+     */
+    public ChannelOutputStream(final WritableByteChannel chnl) {
+        super();
+        this.channel = chnl;
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int offset, final int len)
+        throws IOException {
+        new Blocking(this.channel).affirm();
+        final ByteBuffer buffer = ByteBuffer.wrap(buf, offset, len);
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * The channel.
+     * @return The channel
+     */
+    public WritableByteChannel channel() {
+        return this.channel;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import org.cactoos.ChannelOutput;
+import org.cactoos.Output;
+
+/**
+ * A {@link ChannelOutput} that encapsulates other destinations of data.
+ *
+ * <p>An {@link Output} is not wrapped, if its stream is a
+ * {@link java.io.FileOutputStream} or a {@link ChannelOutputStream}:
+ * their channel is used. Otherwise the stream is wrapped with
+ * {@link Channels#newChannel(OutputStream)}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class ChannelOutputTo implements ChannelOutput {
+
+    /**
+     * The output.
+     */
+    private final ChannelOutput origin;
+
+    /**
+     * Ctor.
+     * @param path The path
+     */
+    public ChannelOutputTo(final Path path) {
+        this(new OutputTo(path));
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public ChannelOutputTo(final File file) {
+        this(new OutputTo(file));
+    }
+
+    /**
+     * Ctor.
+     * @param channel The channel
+     */
+    public ChannelOutputTo(final WritableByteChannel channel) {
+        this(() -> channel);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    public ChannelOutputTo(final Output output) {
+        this(() -> ChannelOutputTo.opened(output));
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    private ChannelOutputTo(final ChannelOutput output) {
+        this.origin = output;
+    }
+
+    @Override
+    public WritableByteChannel channel() throws Exception {
+        return this.origin.channel();
+    }
+
+    /**
+     * Open a channel to the output.
+     * @param output The output
+     * @return The channel
+     * @throws Exception If fails
+     */
+    private static WritableByteChannel opened(final Output output)
+        throws Exception {
+        final OutputStream stream = output.stream();
+        final WritableByteChannel channel;
+        if (stream instanceof ChannelOutputStream) {
+            channel = ((ChannelOutputStream) stream).channel();
+        } else if (stream instanceof FileOutputStream) {
+            channel = ((FileOutputStream) stream).getChannel();
+        } else {
+            channel = Channels.newChannel(stream);
+        }
+        return channel;
+    }
+}
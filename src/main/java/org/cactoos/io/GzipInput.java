@@ -6,15 +6,22 @@
 package org.cactoos.io;
 
 import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import org.cactoos.ChannelInput;
 import org.cactoos.Input;
 
 /**
  * Input that reads compressed data from the GZIP file format.
  *
+ * <p>{@link java.util.zip.Inflater} only takes arrays in Java 8, so
+ * the channel of this input inflates through a heap buffer too. Still,
+ * with it, the input can be used where a {@link ChannelInput} is
+ * expected.</p>
+ *
  * @since 0.29
  */
-public final class GzipInput implements Input {
+public final class GzipInput implements Input, ChannelInput {
 
     /**
      * The input.
@@ -46,9 +53,14 @@ public final class GzipInput implements Input {
 
     @Override
     public InputStream stream() throws Exception {
-        return new GZIPInputStream(
+        return new PooledGzipStream(
             this.origin.stream(),
             this.size
         );
     }
+
+    @Override
+    public ReadableByteChannel channel() throws Exception {
+        return Channels.newChannel(this.stream());
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Channel that only shows the first N bytes of the original channel.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class HeadChannel implements ReadableByteChannel {
+
+    /**
+     * Original channel.
+     */
+    private final ReadableByteChannel origin;
+
+    /**
+     * How many bytes can still be read.
+     */
+    private long left;
+
+    /**
+     * Ctor.
+     * @param orig The original channel
+     * @param len A number of bytes that can be read from the beginning
+     */
+    HeadChannel(final ReadableByteChannel orig, final long len) {
+        this.origin = orig;
+        this.left = len;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        final int read;
+        if (this.left <= 0L) {
+            read = -1;
+        } else {
+            final int limit = dst.limit();
+            if ((long) dst.remaining() > this.left) {
+                dst.limit(dst.position() + (int) this.left);
+            }
+            try {
+                read = this.origin.read(dst);
+            } finally {
+                dst.limit(limit);
+            }
+            if (read > 0) {
+                this.left -= (long) read;
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.origin.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
@@ -5,14 +5,19 @@
 package org.cactoos.io;
 
 import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import org.cactoos.ChannelInput;
 import org.cactoos.Input;
 
 /**
  * Input that only shows the first N bytes of the original input.
  *
+ * <p>Its channel limits the channel of the original input, see
+ * {@link ChannelInputOf}, so direct buffers can be read through it.</p>
+ *
  * @since 0.31
  */
-public final class HeadOf implements Input {
+public final class HeadOf implements Input, ChannelInput {
 
     /**
      * The original input.
@@ -38,4 +43,11 @@ public final class HeadOf implements Input {
     public InputStream stream() throws Exception {
         return new HeadInputStream(this.origin.stream(), this.length);
     }
+
+    @Override
+    public ReadableByteChannel channel() throws Exception {
+        return new HeadChannel(
+            new ChannelInputOf(this.origin).channel(), (long) this.length
+        );
+    }
 }
@@ -11,9 +11,11 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import org.cactoos.Bytes;
+import org.cactoos.ChannelInput;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
@@ -271,6 +273,32 @@ public final class InputOf implements Input {
         );
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>The stream is a {@link ChannelInputStream}, so the consumers
+     * that know it, like {@link TeeInputStream#pump()} and the digests,
+     * read the channel itself.</p>
+     *
+     * @param input The channel input
+     * @since 1.0
+     */
+    public InputOf(final ChannelInput input) {
+        this(() -> new ChannelInputStream(input.channel()));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The channel must be in blocking mode.</p>
+     *
+     * @param channel The channel
+     * @since 1.0
+     */
+    public InputOf(final ReadableByteChannel channel) {
+        this(new ChannelInputStream(channel));
+    }
+
     /**
      * Ctor.
      * @param stream The stream
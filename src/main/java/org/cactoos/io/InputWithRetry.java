@@ -8,6 +8,7 @@ package org.cactoos.io;
 import java.io.InputStream;
 import java.time.Duration;
 import org.cactoos.Input;
+import org.cactoos.func.Backoff;
 import org.cactoos.func.Retry;
 
 /**
@@ -51,6 +52,18 @@ public final class InputWithRetry implements Input {
         this(main, new Retry<>(Input::stream, att, dur));
     }
 
+    /**
+     * Ctor.
+     * @param main The input
+     * @param att Maximum number of attempts
+     * @param backoff Delays between attempts
+     * @param budget Maximum total time of all attempts and delays
+     */
+    public InputWithRetry(final Input main, final int att,
+        final Backoff backoff, final Duration budget) {
+        this(main, new Retry<>(Input::stream, att, backoff, budget));
+    }
+
     @Override
     public InputStream stream() throws Exception {
         return this.retry.apply(this.input);
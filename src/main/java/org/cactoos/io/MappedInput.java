@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.ChannelInput;
+import org.cactoos.Input;
+
+/**
+ * A file, mapped into memory.
+ *
+ * <p>Unlike {@link InputOf}, this {@link Input} doesn't read the file
+ * through a {@link java.io.FileInputStream}. It maps the file with
+ * {@link FileChannel#map} and gives the mapped regions out as read-only
+ * {@link ByteBuffer}s, see {@link #buffers()}. A file larger than 2GB
+ * is mapped in a few regions, one after another. The stream and the channel
+ * read the regions directly. The channel knows its size, so
+ * {@link org.cactoos.scalar.LengthOf} doesn't read the file and
+ * {@link org.cactoos.bytes.BytesOf} copies it into an array of the
+ * right size at once. {@link org.cactoos.text.TextOf} and the digests of
+ * {@link org.cactoos.bytes.DigestEnvelope} read any {@link ChannelInput},
+ * this one and its decorators like {@link HeadOf} too, through a direct
+ * buffer:</p>
+ *
+ * <pre> byte[] md5 = new Md5DigestOf(
+ *   new MappedInput(Paths.get("/tmp/huge.iso"))
+ * ).asBytes();</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class MappedInput implements Input, ChannelInput {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Max size of a region, in bytes.
+     */
+    private final int chunk;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedInput(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    public MappedInput(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param max Max size of a region, in bytes
+     */
+    public MappedInput(final Path path, final int max) {
+        this.path = path;
+        this.chunk = max;
+    }
+
+    @Override
+    public InputStream stream() throws IOException {
+        return new ChannelInputStream(this.channel());
+    }
+
+    @Override
+    public ReadableByteChannel channel() throws IOException {
+        return new BuffersChannel(this.buffers());
+    }
+
+    /**
+     * Map the file.
+     *
+     * <p>Every call maps the file again and returns new buffers, with
+     * their positions at zero. The buffers stay valid after the file
+     * is closed, until they are garbage collected.</p>
+     *
+     * @return Mapped regions of the file, in order
+     * @throws IOException If fails
+     */
+    public Iterable<ByteBuffer> buffers() throws IOException {
+        if (this.chunk <= 0) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Size of a mapped region must be positive, %d given",
+                    this.chunk
+                )
+            );
+        }
+        try (FileChannel channel = FileChannel.open(
+            this.path, StandardOpenOption.READ
+        )) {
+            final long size = channel.size();
+            final List<ByteBuffer> regions = new ArrayList<>(
+                (int) (size / (long) this.chunk) + 1
+            );
+            for (long pos = 0L; pos < size; pos += (long) this.chunk) {
+                regions.add(
+                    channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        pos,
+                        Math.min((long) this.chunk, size - pos)
+                    )
+                );
+            }
+            return regions;
+        }
+    }
+}
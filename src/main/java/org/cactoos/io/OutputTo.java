@@ -8,9 +8,11 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.file.Path;
+import org.cactoos.ChannelOutput;
 import org.cactoos.Output;
 
 /**
@@ -149,6 +151,31 @@ public final class OutputTo implements Output {
         this(new WriterAsOutputStream(wtr, ddr, size));
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>A file is transferred into the channel by the kernel, without
+     * copying it through the heap, if it is read with
+     * {@link TeeInput} from {@link InputOf}, for example into
+     * a {@link java.nio.channels.SocketChannel}. The channel must be in
+     * blocking mode.</p>
+     *
+     * @param channel The channel
+     * @since 1.0
+     */
+    public OutputTo(final WritableByteChannel channel) {
+        this(new ChannelOutputStream(channel));
+    }
+
+    /**
+     * Ctor.
+     * @param output The channel output
+     * @since 1.0
+     */
+    public OutputTo(final ChannelOutput output) {
+        this(() -> new ChannelOutputStream(output.channel()));
+    }
+
     /**
      * Ctor.
      * @param stream The stream
@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * GZIP stream that borrows its buffer from {@link Buffers}.
+ *
+ * <p>The parent allocates a one-byte buffer, which is replaced
+ * right away by a borrowed one, given back to the pool when the stream
+ * is closed. A size that is not positive is still rejected by the
+ * parent.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class PooledGzipStream extends GZIPInputStream {
+
+    /**
+     * The pool.
+     */
+    private final Buffers buffers;
+
+    /**
+     * Is it closed already?
+     */
+    private final AtomicBoolean done;
+
+    /**
+     * Ctor.
+     * @param input The compressed stream
+     * @param size The buffer size
+     * @throws IOException If fails to read the header
+     */
+    PooledGzipStream(final InputStream input, final int size)
+        throws IOException {
+        this(input, size, new Buffers());
+    }
+
+    /**
+     * Ctor.
+     * @param input The compressed stream
+     * @param size The buffer size
+     * @param pool The pool
+     * @throws IOException If fails to read the header
+     */
+    PooledGzipStream(final InputStream input, final int size,
+        final Buffers pool) throws IOException {
+        super(input, Math.min(size, 1));
+        this.buffers = pool;
+        this.done = new AtomicBoolean();
+        this.buf = pool.array(size);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.done.compareAndSet(false, true)) {
+            try {
+                super.close();
+            } finally {
+                this.buffers.release(this.buf);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed amount of slots for idle buffers of one size.
+ *
+ * <p>Every slot is either empty or holds one buffer. Taking and putting
+ * are atomic swaps of one slot, so there are no locks and no
+ * allocations. A thread starts looking from its own slot, so threads
+ * don't fight for the first one.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of buffers
+ * @since 1.0
+ */
+final class Slots<T> {
+
+    /**
+     * The slots, NULL is an empty one.
+     */
+    private final AtomicReferenceArray<T> items;
+
+    /**
+     * Ctor.
+     * @param count Amount of slots
+     */
+    Slots(final int count) {
+        this.items = new AtomicReferenceArray<>(count);
+    }
+
+    /**
+     * Take an idle buffer out.
+     * @return The buffer or NULL if there is none
+     */
+    T take() {
+        final int count = this.items.length();
+        final int start = Slots.start(count);
+        T item = null;
+        for (int idx = 0; idx < count && item == null; ++idx) {
+            item = this.items.getAndSet((start + idx) % count, null);
+        }
+        return item;
+    }
+
+    /**
+     * Put an idle buffer in.
+     * @param item The buffer
+     * @return TRUE if there was an empty slot for it
+     */
+    boolean put(final T item) {
+        final int count = this.items.length();
+        final int start = Slots.start(count);
+        boolean done = false;
+        for (int idx = 0; idx < count && !done; ++idx) {
+            done = this.items.compareAndSet((start + idx) % count, null, item);
+        }
+        return done;
+    }
+
+    /**
+     * The slot to start looking from, for the current thread.
+     * @param count Amount of slots
+     * @return Index of the slot
+     */
+    private static int start(final int count) {
+        final int start;
+        if (count == 0) {
+            start = 0;
+        } else {
+            start = (int) (Thread.currentThread().getId() % (long) count);
+        }
+        return start;
+    }
+}
@@ -9,6 +9,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
 import org.cactoos.scalar.IoChecked;
 import org.cactoos.scalar.LengthOf;
 
@@ -34,6 +35,16 @@ public final class Sticky implements Input {
      * @param input The input
      */
     public Sticky(final Input input) {
+        this(input, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param stats Statistics of the cache
+     * @since 1.0
+     */
+    public Sticky(final Input input, final CacheStats stats) {
         this.cache = new org.cactoos.scalar.Sticky<>(
             () -> {
                 final ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -41,7 +52,8 @@ public final class Sticky implements Input {
                     new TeeInput(input, new OutputTo(baos))
                 ).value();
                 return baos.toByteArray();
-            }
+            },
+            stats
         );
     }
 
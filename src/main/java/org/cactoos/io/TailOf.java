@@ -5,7 +5,13 @@
 package org.cactoos.io;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Collections;
+import org.cactoos.ChannelInput;
 import org.cactoos.Input;
 import org.cactoos.number.MinOf;
 import org.cactoos.text.FormattedText;
@@ -13,11 +19,14 @@ import org.cactoos.text.FormattedText;
 /**
  * Input showing only last N bytes of the stream.
  *
+ * <p>Its channel skips to the tail of a file, without reading the file.
+ * Other channels are read through a direct buffer.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.30
  */
-public final class TailOf implements Input {
+public final class TailOf implements Input, ChannelInput {
 
     /**
      * Input to decorate.
@@ -57,29 +66,93 @@ public final class TailOf implements Input {
 
     @Override
     public InputStream stream() throws Exception {
-        if (this.max < this.count) {
-            throw new IllegalArgumentException(
-                new FormattedText(
-                    "Can't tail %d bytes if buffer is set to %d",
-                    this.count, this.max
-                ).asString()
-            );
-        }
-        final byte[] buffer = new byte[this.max];
+        this.validate();
+        final Buffers buffers = new Buffers();
+        final byte[] buffer = buffers.array(this.max);
         final byte[] response = new byte[this.count];
         int num = 0;
         try (InputStream strm = this.input.stream()) {
-            for (int read = strm.read(buffer); read > 0; read = strm.read(buffer)) {
+            for (int read = strm.read(buffer, 0, this.max); read > 0;
+                read = strm.read(buffer, 0, this.max)) {
                 if (read < this.max && read < this.count) {
                     num = this.copyPartial(buffer, response, num, read);
                 } else {
                     num = this.copy(buffer, response, read);
                 }
             }
+        } finally {
+            buffers.release(buffer);
         }
         return new ByteArrayInputStream(response, 0, num);
     }
 
+    @Override
+    public ReadableByteChannel channel() throws Exception {
+        this.validate();
+        final ReadableByteChannel source =
+            new ChannelInputOf(this.input).channel();
+        final ReadableByteChannel tail;
+        if (source instanceof SeekableByteChannel) {
+            final SeekableByteChannel seekable = (SeekableByteChannel) source;
+            seekable.position(
+                Math.max(
+                    seekable.position(), seekable.size() - (long) this.count
+                )
+            );
+            tail = seekable;
+        } else {
+            tail = new BuffersChannel(
+                Collections.singleton(this.window(source))
+            );
+        }
+        return tail;
+    }
+
+    /**
+     * Read the channel through a direct buffer, keeping the last bytes.
+     * @param source The channel
+     * @return Buffer with the last bytes of the channel
+     * @throws IOException If fails
+     */
+    private ByteBuffer window(final ReadableByteChannel source)
+        throws IOException {
+        final ByteBuffer window = ByteBuffer.allocateDirect(
+            this.count + this.max
+        );
+        try (ReadableByteChannel channel = source) {
+            while (true) {
+                if (!window.hasRemaining()) {
+                    window.flip();
+                    window.position(window.limit() - this.count);
+                    window.compact();
+                }
+                if (!window.hasRemaining() || channel.read(window) < 0) {
+                    break;
+                }
+            }
+        }
+        window.flip();
+        if (window.remaining() > this.count) {
+            window.position(window.limit() - this.count);
+        }
+        return window;
+    }
+
+    /**
+     * Make sure the buffer can hold the tail.
+     * @throws Exception If it can't
+     */
+    private void validate() throws Exception {
+        if (this.max < this.count) {
+            throw new IllegalArgumentException(
+                new FormattedText(
+                    "Can't tail %d bytes if buffer is set to %d",
+                    this.count, this.max
+                ).asString()
+            );
+        }
+    }
+
     /**
      * Copy full buffer to response.
      * @param buffer The buffer array
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Channel that copies what is read from one channel into another one.
+ *
+ * <p>The bytes are written right from the buffer they were read into,
+ * so a direct buffer stays direct all the way. Both channels are closed
+ * by {@link #close()}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class TeeChannel implements ReadableByteChannel {
+
+    /**
+     * The source.
+     */
+    private final ReadableByteChannel source;
+
+    /**
+     * The target.
+     */
+    private final WritableByteChannel target;
+
+    /**
+     * Ctor.
+     * @param src The source
+     * @param tgt The target
+     */
+    TeeChannel(final ReadableByteChannel src, final WritableByteChannel tgt) {
+        this.source = src;
+        this.target = tgt;
+    }
+
+    @Override
+    public int read(final ByteBuffer dst) throws IOException {
+        final int start = dst.position();
+        final int read = this.source.read(dst);
+        if (read > 0) {
+            final ByteBuffer copy = dst.duplicate();
+            copy.position(start);
+            copy.limit(start + read);
+            while (copy.hasRemaining()) {
+                this.target.write(copy);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.source.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.source.close();
+        } finally {
+            this.target.close();
+        }
+    }
+}
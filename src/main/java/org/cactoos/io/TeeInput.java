@@ -10,9 +10,11 @@ import java.io.Reader;
 import java.io.Writer;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import org.cactoos.Bytes;
+import org.cactoos.ChannelInput;
 import org.cactoos.Input;
 import org.cactoos.Output;
 import org.cactoos.Text;
@@ -20,11 +22,15 @@ import org.cactoos.Text;
 /**
  * Input to Output copying pipe.
  *
+ * <p>Its channel reads the channel of the input, see
+ * {@link ChannelInputOf}, and writes every buffer it read right into
+ * the channel of the output, see {@link ChannelOutputTo}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
  */
-public final class TeeInput implements Input {
+public final class TeeInput implements Input, ChannelInput {
 
     /**
      * The source.
@@ -849,4 +855,12 @@ public final class TeeInput implements Input {
         );
     }
 
+    @Override
+    public ReadableByteChannel channel() throws Exception {
+        return new TeeChannel(
+            new ChannelInputOf(this.source).channel(),
+            new ChannelOutputTo(this.target).channel()
+        );
+    }
+
 }
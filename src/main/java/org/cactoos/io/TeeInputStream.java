@@ -4,9 +4,15 @@
  */
 package org.cactoos.io;
 
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * Stream that copies input to output.
@@ -14,6 +20,9 @@ import java.io.OutputStream;
  * This class closes {@link TeeInputStream#output}
  * after {@link TeeInputStream#close()}.
  *
+ * <p>To copy all the input, use {@link #pump()}, which lets the kernel
+ * transfer a file into another file or a channel.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
@@ -65,6 +74,47 @@ public final class TeeInputStream extends InputStream {
         return max;
     }
 
+    /**
+     * Read the rest of the input, copying it to the output.
+     *
+     * <p>If the input is a {@link FileInputStream}, for example from
+     * {@link InputOf}, and the output is a {@link FileOutputStream}
+     * or a channel, for example from {@link OutputTo}, the bytes are
+     * transferred with {@link FileChannel#transferTo}. Then the kernel
+     * copies them, usually without bringing them to the heap at all.
+     * If both are channels of other kinds, the bytes are copied through
+     * a direct buffer. Otherwise, or if the kernel stops early, they are
+     * read and written through a buffer.</p>
+     *
+     * @return How many bytes were copied
+     * @throws IOException If fails
+     * @since 1.0
+     */
+    public long pump() throws IOException {
+        long total = 0L;
+        if (TeeInputStream.readable(this.input)
+            && TeeInputStream.writable(this.output)) {
+            total = TeeInputStream.copied(
+                TeeInputStream.source(this.input),
+                TeeInputStream.target(this.output)
+            );
+        }
+        final Buffers buffers = new Buffers();
+        final byte[] buf = buffers.array(16 << 10);
+        try {
+            while (true) {
+                final int len = this.read(buf);
+                if (len < 0) {
+                    break;
+                }
+                total += (long) len;
+            }
+        } finally {
+            buffers.release(buf);
+        }
+        return total;
+    }
+
     @Override
     public long skip(final long num) throws IOException {
         return this.input.skip(num);
@@ -96,4 +146,109 @@ public final class TeeInputStream extends InputStream {
         return this.input.markSupported();
     }
 
+    /**
+     * Is there a channel behind the stream?
+     * @param stream The stream
+     * @return TRUE if there is
+     */
+    private static boolean readable(final InputStream stream) {
+        return stream instanceof FileInputStream
+            || stream instanceof ChannelInputStream;
+    }
+
+    /**
+     * Is there a channel behind the stream?
+     * @param stream The stream
+     * @return TRUE if there is
+     */
+    private static boolean writable(final OutputStream stream) {
+        return stream instanceof FileOutputStream
+            || stream instanceof ChannelOutputStream;
+    }
+
+    /**
+     * The channel behind the stream.
+     * @param stream The stream, see {@link #readable(InputStream)}
+     * @return The channel
+     */
+    private static ReadableByteChannel source(final InputStream stream) {
+        final ReadableByteChannel channel;
+        if (stream instanceof FileInputStream) {
+            channel = ((FileInputStream) stream).getChannel();
+        } else {
+            channel = ((ChannelInputStream) stream).channel();
+        }
+        return channel;
+    }
+
+    /**
+     * The channel behind the stream.
+     * @param stream The stream, see {@link #writable(OutputStream)}
+     * @return The channel
+     */
+    private static WritableByteChannel target(final OutputStream stream) {
+        final WritableByteChannel channel;
+        if (stream instanceof FileOutputStream) {
+            channel = ((FileOutputStream) stream).getChannel();
+        } else {
+            channel = ((ChannelOutputStream) stream).channel();
+        }
+        return channel;
+    }
+
+    /**
+     * Copy the rest of one channel into another one.
+     * @param src The source
+     * @param tgt The target
+     * @return How many bytes were copied
+     * @throws IOException If fails
+     */
+    private static long copied(final ReadableByteChannel src,
+        final WritableByteChannel tgt) throws IOException {
+        new Blocking(src).affirm();
+        new Blocking(tgt).affirm();
+        long total = 0L;
+        if (src instanceof FileChannel) {
+            total = TeeInputStream.transferred((FileChannel) src, tgt);
+        } else {
+            final Buffers buffers = new Buffers();
+            final ByteBuffer buf = buffers.buffer(16 << 10);
+            try {
+                while (src.read(buf) >= 0) {
+                    buf.flip();
+                    total += (long) buf.remaining();
+                    while (buf.hasRemaining()) {
+                        tgt.write(buf);
+                    }
+                    buf.clear();
+                }
+            } finally {
+                buffers.release(buf);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Transfer the rest of the file into the channel.
+     * @param src The file
+     * @param tgt The channel
+     * @return How many bytes were transferred
+     * @throws IOException If fails
+     */
+    private static long transferred(final FileChannel src,
+        final WritableByteChannel tgt) throws IOException {
+        final long start = src.position();
+        final long size = src.size();
+        long pos = start;
+        while (pos < size) {
+            final long len = src.transferTo(pos, size - pos, tgt);
+            if (len <= 0L) {
+                break;
+            }
+            pos += len;
+        }
+        src.position(pos);
+        return pos - start;
+    }
 }
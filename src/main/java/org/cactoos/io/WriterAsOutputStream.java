@@ -14,6 +14,7 @@ import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Writer as {@link OutputStream}.
@@ -47,6 +48,16 @@ final class WriterAsOutputStream extends OutputStream {
      */
     private final CharsetDecoder decoder;
 
+    /**
+     * The pool of the incoming data buffer.
+     */
+    private final Buffers buffers;
+
+    /**
+     * Is it closed already?
+     */
+    private final AtomicBoolean closed;
+
     /**
      * Ctor.
      * @param wtr Writer
@@ -122,8 +133,11 @@ final class WriterAsOutputStream extends OutputStream {
         super();
         this.writer = wtr;
         this.decoder = ddr;
-        this.input = ByteBuffer.allocate(size);
+        this.buffers = new Buffers();
+        this.input = ByteBuffer.wrap(this.buffers.array(size), 0, size)
+            .slice();
         this.output = CharBuffer.allocate(size);
+        this.closed = new AtomicBoolean();
     }
 
     @Override
@@ -139,6 +153,9 @@ final class WriterAsOutputStream extends OutputStream {
     @Override
     public void write(final byte[] buffer, final int offset,
         final int length) throws IOException {
+        if (this.closed.get()) {
+            throw new IOException("Stream closed");
+        }
         int left = length;
         int start = offset;
         while (left > 0) {
@@ -150,7 +167,13 @@ final class WriterAsOutputStream extends OutputStream {
 
     @Override
     public void close() throws IOException {
-        this.writer.close();
+        if (this.closed.compareAndSet(false, true)) {
+            try {
+                this.writer.close();
+            } finally {
+                this.buffers.release(this.input.array());
+            }
+        }
     }
 
     /**
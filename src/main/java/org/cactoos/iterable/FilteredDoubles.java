@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * Filtered iterable of {@code double}s.
+ *
+ * <p>Its iterators are {@link org.cactoos.iterator.FilteredDoubles}, which
+ * are {@link java.util.PrimitiveIterator.OfDouble}s and don't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FilteredDoubles extends IterableEnvelope<Double> {
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param src Source doubles
+     */
+    public FilteredDoubles(
+        final DoublePredicate fnc, final double... src
+    ) {
+        this(fnc, new IterableOfDoubles(src));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param src Source iterable
+     */
+    public FilteredDoubles(
+        final DoublePredicate fnc, final Iterable<Double> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.FilteredDoubles(
+                    fnc, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Filtered iterable of {@code int}s.
+ *
+ * <p>Its iterators are {@link org.cactoos.iterator.FilteredInts}, which
+ * are {@link java.util.PrimitiveIterator.OfInt}s and don't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FilteredInts extends IterableEnvelope<Integer> {
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param src Source ints
+     */
+    public FilteredInts(
+        final IntPredicate fnc, final int... src
+    ) {
+        this(fnc, new IterableOfInts(src));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param src Source iterable
+     */
+    public FilteredInts(
+        final IntPredicate fnc, final Iterable<Integer> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.FilteredInts(
+                    fnc, src.iterator()
+                )
+            )
+        );
+    }
+}
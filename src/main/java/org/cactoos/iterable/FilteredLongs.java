@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.function.LongPredicate;
+
+/**
+ * Filtered iterable of {@code long}s.
+ *
+ * <p>Its iterators are {@link org.cactoos.iterator.FilteredLongs}, which
+ * are {@link java.util.PrimitiveIterator.OfLong}s and don't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FilteredLongs extends IterableEnvelope<Long> {
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param src Source longs
+     */
+    public FilteredLongs(
+        final LongPredicate fnc, final long... src
+    ) {
+        this(fnc, new IterableOfLongs(src));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param src Source iterable
+     */
+    public FilteredLongs(
+        final LongPredicate fnc, final Iterable<Long> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.FilteredLongs(
+                    fnc, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -9,6 +9,10 @@ import org.cactoos.iterator.IteratorOfDoubles;
 /**
  * Iterable of double values.
  *
+ * <p>Its iterators are {@link java.util.PrimitiveIterator.OfDouble}s,
+ * so {@link MappedDoubles}, {@link FilteredDoubles}, {@link SlicedDoubles} and
+ * {@link org.cactoos.scalar.FoldedDoubles} take its values without boxing.</p>
+ *
  * @since 1.0
  */
 public final class IterableOfDoubles extends IterableEnvelope<Double> {
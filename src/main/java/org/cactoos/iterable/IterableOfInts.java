@@ -9,6 +9,10 @@ import org.cactoos.iterator.IteratorOfInts;
 /**
  * Iterable of integer values.
  *
+ * <p>Its iterators are {@link java.util.PrimitiveIterator.OfInt}s,
+ * so {@link MappedInts}, {@link FilteredInts}, {@link SlicedInts} and
+ * {@link org.cactoos.scalar.FoldedInts} take its values without boxing.</p>
+ *
  * @since 1.0
  */
 public final class IterableOfInts extends IterableEnvelope<Integer> {
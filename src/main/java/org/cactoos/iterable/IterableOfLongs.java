@@ -9,6 +9,10 @@ import org.cactoos.iterator.IteratorOfLongs;
 /**
  * Iterable of long values.
  *
+ * <p>Its iterators are {@link java.util.PrimitiveIterator.OfLong}s,
+ * so {@link MappedLongs}, {@link FilteredLongs}, {@link SlicedLongs} and
+ * {@link org.cactoos.scalar.FoldedLongs} take its values without boxing.</p>
+ *
  * @since 1.0
  */
 public final class IterableOfLongs extends IterableEnvelope<Long> {
@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Mapped iterable of {@code int}s.
+ *
+ * <p>Its iterators are {@link org.cactoos.iterator.MappedInts}, which
+ * are {@link java.util.PrimitiveIterator.OfInt}s and don't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class MappedInts extends IterableEnvelope<Integer> {
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param src Source ints
+     */
+    public MappedInts(
+        final IntUnaryOperator fnc, final int... src
+    ) {
+        this(fnc, new IterableOfInts(src));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param src Source iterable
+     */
+    public MappedInts(
+        final IntUnaryOperator fnc, final Iterable<Integer> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.MappedInts(
+                    fnc, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+/**
+ * Slice of an iterable of {@code double}s.
+ *
+ * <p>Its iterators are {@link org.cactoos.iterator.SlicedDoubles}, which
+ * are {@link java.util.PrimitiveIterator.OfDouble}s and don't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class SlicedDoubles extends IterableEnvelope<Double> {
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param src Source doubles
+     */
+    public SlicedDoubles(
+        final int start, final int count, final double... src
+    ) {
+        this(start, count, new IterableOfDoubles(src));
+    }
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param src Source iterable
+     */
+    public SlicedDoubles(final int start, final int count,
+        final Iterable<Double> src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.SlicedDoubles(
+                    start, count, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+/**
+ * Slice of an iterable of {@code int}s.
+ *
+ * <p>Its iterators are {@link org.cactoos.iterator.SlicedInts}, which
+ * are {@link java.util.PrimitiveIterator.OfInt}s and don't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class SlicedInts extends IterableEnvelope<Integer> {
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param src Source ints
+     */
+    public SlicedInts(
+        final int start, final int count, final int... src
+    ) {
+        this(start, count, new IterableOfInts(src));
+    }
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param src Source iterable
+     */
+    public SlicedInts(final int start, final int count,
+        final Iterable<Integer> src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.SlicedInts(
+                    start, count, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+/**
+ * Slice of an iterable of {@code long}s.
+ *
+ * <p>Its iterators are {@link org.cactoos.iterator.SlicedLongs}, which
+ * are {@link java.util.PrimitiveIterator.OfLong}s and don't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class SlicedLongs extends IterableEnvelope<Long> {
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param src Source longs
+     */
+    public SlicedLongs(
+        final int start, final int count, final long... src
+    ) {
+        this(start, count, new IterableOfLongs(src));
+    }
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param src Source iterable
+     */
+    public SlicedLongs(final int start, final int count,
+        final Iterable<Long> src) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.SlicedLongs(
+                    start, count, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -5,13 +5,10 @@
 package org.cactoos.iterator;
 
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.NoSuchElementException;
-import java.util.Queue;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.func.UncheckedFunc;
-import org.cactoos.scalar.Unchecked;
 
 /**
  * Filtered iterator.
@@ -44,53 +41,53 @@ public final class Filtered<X> implements Iterator<X> {
     /**
      * Predicate.
      */
-    private final Func<? super X, Scalar<Boolean>> func;
+    private final UncheckedFunc<? super X, Boolean> func;
 
     /**
-     * The buffer storing the objects of the iterator.
+     * The element that fits the condition and is not returned yet.
      */
-    private final Queue<X> buffer;
+    private X buffer;
+
+    /**
+     * Whether the buffer holds an element.
+     */
+    private boolean buffered;
 
     /**
      * Ctor.
-     * @param fnc Predicate
      * @param src Source iterable
+     * @param fnc Predicate
      */
     public Filtered(
-        final Func<? super X, Boolean> fnc,
-        final Iterator<? extends X> src
+        final Iterator<? extends X> src,
+        final Func<? super X, Scalar<Boolean>> fnc
     ) {
-        this(src, input -> () -> fnc.apply(input));
+        this(input -> fnc.apply(input).value(), src);
     }
 
     /**
      * Ctor.
-     * @param src Source iterable
      * @param fnc Predicate
+     * @param src Source iterable
      */
     public Filtered(
-        final Iterator<? extends X> src,
-        final Func<? super X, Scalar<Boolean>> fnc
+        final Func<? super X, Boolean> fnc,
+        final Iterator<? extends X> src
     ) {
         this.iterator = src;
-        this.func = fnc;
-        this.buffer = new LinkedList<>();
+        this.func = new UncheckedFunc<>(fnc);
     }
 
     @Override
     public boolean hasNext() {
-        final UncheckedFunc<? super X, Scalar<Boolean>> fnc =
-            new UncheckedFunc<>(this.func);
-        if (this.buffer.isEmpty()) {
-            while (this.iterator.hasNext()) {
-                final X object = this.iterator.next();
-                if (new Unchecked<>(fnc.apply(object)).value()) {
-                    this.buffer.add(object);
-                    break;
-                }
+        while (!this.buffered && this.iterator.hasNext()) {
+            final X object = this.iterator.next();
+            if (this.func.apply(object)) {
+                this.buffer = object;
+                this.buffered = true;
             }
         }
-        return !this.buffer.isEmpty();
+        return this.buffered;
     }
 
     @Override
@@ -100,7 +97,10 @@ public final class Filtered<X> implements Iterator<X> {
                 "No more elements that fit the condition"
             );
         }
-        return this.buffer.poll();
+        final X object = this.buffer;
+        this.buffer = null;
+        this.buffered = false;
+        return object;
     }
 
     @Override
@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+
+/**
+ * Filtered iterator of {@code double}s.
+ *
+ * <p>It is a counterpart of {@link Filtered}, which neither boxes
+ * the elements nor allocates anything per element.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FilteredDoubles implements PrimitiveIterator.OfDouble {
+
+    /**
+     * The predicate.
+     */
+    private final DoublePredicate func;
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfDouble origin;
+
+    /**
+     * The element that fits the condition and is not returned yet.
+     */
+    private double buffer;
+
+    /**
+     * Whether the buffer holds an element.
+     */
+    private boolean buffered;
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param iterator The origin
+     */
+    public FilteredDoubles(
+        final DoublePredicate fnc, final Iterator<Double> iterator
+    ) {
+        this.func = fnc;
+        if (iterator instanceof PrimitiveIterator.OfDouble) {
+            this.origin = (PrimitiveIterator.OfDouble) iterator;
+        } else {
+            this.origin = new UnboxedDoubles(iterator);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.buffered && this.origin.hasNext()) {
+            final double item = this.origin.nextDouble();
+            if (this.func.test(item)) {
+                this.buffer = item;
+                this.buffered = true;
+            }
+        }
+        return this.buffered;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements that fit the condition"
+            );
+        }
+        this.buffered = false;
+        return this.buffer;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+
+/**
+ * Filtered iterator of {@code int}s.
+ *
+ * <p>It is a counterpart of {@link Filtered}, which neither boxes
+ * the elements nor allocates anything per element.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FilteredInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * The predicate.
+     */
+    private final IntPredicate func;
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfInt origin;
+
+    /**
+     * The element that fits the condition and is not returned yet.
+     */
+    private int buffer;
+
+    /**
+     * Whether the buffer holds an element.
+     */
+    private boolean buffered;
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param iterator The origin
+     */
+    public FilteredInts(
+        final IntPredicate fnc, final Iterator<Integer> iterator
+    ) {
+        this.func = fnc;
+        if (iterator instanceof PrimitiveIterator.OfInt) {
+            this.origin = (PrimitiveIterator.OfInt) iterator;
+        } else {
+            this.origin = new UnboxedInts(iterator);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.buffered && this.origin.hasNext()) {
+            final int item = this.origin.nextInt();
+            if (this.func.test(item)) {
+                this.buffer = item;
+                this.buffered = true;
+            }
+        }
+        return this.buffered;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements that fit the condition"
+            );
+        }
+        this.buffered = false;
+        return this.buffer;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+
+/**
+ * Filtered iterator of {@code long}s.
+ *
+ * <p>It is a counterpart of {@link Filtered}, which neither boxes
+ * the elements nor allocates anything per element.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FilteredLongs implements PrimitiveIterator.OfLong {
+
+    /**
+     * The predicate.
+     */
+    private final LongPredicate func;
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfLong origin;
+
+    /**
+     * The element that fits the condition and is not returned yet.
+     */
+    private long buffer;
+
+    /**
+     * Whether the buffer holds an element.
+     */
+    private boolean buffered;
+
+    /**
+     * Ctor.
+     * @param fnc The predicate
+     * @param iterator The origin
+     */
+    public FilteredLongs(
+        final LongPredicate fnc, final Iterator<Long> iterator
+    ) {
+        this.func = fnc;
+        if (iterator instanceof PrimitiveIterator.OfLong) {
+            this.origin = (PrimitiveIterator.OfLong) iterator;
+        } else {
+            this.origin = new UnboxedLongs(iterator);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.buffered && this.origin.hasNext()) {
+            final long item = this.origin.nextLong();
+            if (this.func.test(item)) {
+                this.buffer = item;
+                this.buffered = true;
+            }
+        }
+        return this.buffered;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more elements that fit the condition"
+            );
+        }
+        this.buffered = false;
+        return this.buffer;
+    }
+}
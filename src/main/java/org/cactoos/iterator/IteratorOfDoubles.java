@@ -4,18 +4,18 @@
  */
 package org.cactoos.iterator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
- * Iterator that returns a set of double values.
+ * {@link PrimitiveIterator} over {@code double}s, which returns them
+ * without boxing from {@link #nextDouble()}.
  *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.34
  */
-public final class IteratorOfDoubles implements Iterator<Double> {
+public final class IteratorOfDoubles implements PrimitiveIterator.OfDouble {
 
     /**
      * The list of items to iterate.
@@ -25,7 +25,7 @@ public final class IteratorOfDoubles implements Iterator<Double> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -34,21 +34,21 @@ public final class IteratorOfDoubles implements Iterator<Double> {
     @SuppressWarnings("PMD.ArrayIsStoredDirectly")
     public IteratorOfDoubles(final double... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
+        this.position = 0;
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Double next() {
+    public double nextDouble() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        return this.items[this.position++];
     }
 }
@@ -4,18 +4,18 @@
  */
 package org.cactoos.iterator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.PrimitiveIterator;
 
 /**
- * {@link Iterator} that returns the {@code int}s as {@link Integer}s.
+ * {@link PrimitiveIterator} over {@code int}s, which returns them
+ * without boxing from {@link #nextInt()}.
  *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @since 0.32
  */
-public final class IteratorOfInts implements Iterator<Integer> {
+public final class IteratorOfInts implements PrimitiveIterator.OfInt {
     /**
      * The list of items to iterate.
      */
@@ -24,7 +24,7 @@ public final class IteratorOfInts implements Iterator<Integer> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -33,21 +33,21 @@ public final class IteratorOfInts implements Iterator<Integer> {
     @SuppressWarnings("PMD.ArrayIsStoredDirectly")
     public IteratorOfInts(final int... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
+        this.position = 0;
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
-    public Integer next() {
+    public int nextInt() {
         if (!this.hasNext()) {
             throw new NoSuchElementException(
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        return this.items[this.position++];
     }
 }
@@ -7,7 +7,7 @@ package org.cactoos.iterator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import org.cactoos.Func;
-import org.cactoos.scalar.Unchecked;
+import org.cactoos.func.UncheckedFunc;
 
 /**
  * Mapped iterator.
@@ -25,11 +25,24 @@ public final class Mapped<Y> extends IteratorEnvelope<Y> {
      * @param func Func
      * @param iterator Source iterator
      * @param <X> Type of item
-     * @checkstyle AnonInnerLengthCheck (60 lines)
      */
     public <X> Mapped(
         final Func<? super X, ? extends Y> func,
         final Iterator<? extends X> iterator
+    ) {
+        this(new UncheckedFunc<>(func), iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param func Func that never throws checked exceptions
+     * @param iterator Source iterator
+     * @param <X> Type of item
+     * @checkstyle AnonInnerLengthCheck (60 lines)
+     */
+    private <X> Mapped(
+        final UncheckedFunc<? super X, ? extends Y> func,
+        final Iterator<? extends X> iterator
     ) {
         super(
             new Iterator<Y>() {
@@ -42,11 +55,7 @@ public final class Mapped<Y> extends IteratorEnvelope<Y> {
                 @Override
                 public Y next() {
                     if (this.hasNext()) {
-                        return new Unchecked<>(
-                            new org.cactoos.scalar.Mapped<>(
-                                func, iterator::next
-                            )
-                        ).value();
+                        return func.apply(iterator.next());
                     }
                     throw new NoSuchElementException();
                 }
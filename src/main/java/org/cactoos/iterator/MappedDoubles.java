@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Mapped iterator of {@code double}s.
+ *
+ * <p>It is a counterpart of {@link Mapped}, which neither boxes
+ * the elements nor allocates anything per element:</p>
+ *
+ * <pre>{@code
+ * final PrimitiveIterator.OfDouble doubled = new MappedDoubles(
+ *     x -> x * 2, new IteratorOfDoubles(1, 2, 3)
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class MappedDoubles implements PrimitiveIterator.OfDouble {
+
+    /**
+     * The function.
+     */
+    private final DoubleUnaryOperator func;
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfDouble origin;
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param iterator The origin
+     */
+    public MappedDoubles(
+        final DoubleUnaryOperator fnc, final Iterator<Double> iterator
+    ) {
+        this.func = fnc;
+        if (iterator instanceof PrimitiveIterator.OfDouble) {
+            this.origin = (PrimitiveIterator.OfDouble) iterator;
+        } else {
+            this.origin = new UnboxedDoubles(iterator);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        return this.func.applyAsDouble(this.origin.nextDouble());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Mapped iterator of {@code int}s.
+ *
+ * <p>It is a counterpart of {@link Mapped}, which neither boxes
+ * the elements nor allocates anything per element:</p>
+ *
+ * <pre>{@code
+ * final PrimitiveIterator.OfInt doubled = new MappedInts(
+ *     x -> x * 2, new IteratorOfInts(1, 2, 3)
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class MappedInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * The function.
+     */
+    private final IntUnaryOperator func;
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfInt origin;
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param iterator The origin
+     */
+    public MappedInts(
+        final IntUnaryOperator fnc, final Iterator<Integer> iterator
+    ) {
+        this.func = fnc;
+        if (iterator instanceof PrimitiveIterator.OfInt) {
+            this.origin = (PrimitiveIterator.OfInt) iterator;
+        } else {
+            this.origin = new UnboxedInts(iterator);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        return this.func.applyAsInt(this.origin.nextInt());
+    }
+}
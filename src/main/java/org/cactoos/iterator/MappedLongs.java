@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Mapped iterator of {@code long}s.
+ *
+ * <p>It is a counterpart of {@link Mapped}, which neither boxes
+ * the elements nor allocates anything per element:</p>
+ *
+ * <pre>{@code
+ * final PrimitiveIterator.OfLong doubled = new MappedLongs(
+ *     x -> x * 2, new IteratorOfLongs(1, 2, 3)
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class MappedLongs implements PrimitiveIterator.OfLong {
+
+    /**
+     * The function.
+     */
+    private final LongUnaryOperator func;
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfLong origin;
+
+    /**
+     * Ctor.
+     * @param fnc The function
+     * @param iterator The origin
+     */
+    public MappedLongs(
+        final LongUnaryOperator fnc, final Iterator<Long> iterator
+    ) {
+        this.func = fnc;
+        if (iterator instanceof PrimitiveIterator.OfLong) {
+            this.origin = (PrimitiveIterator.OfLong) iterator;
+        } else {
+            this.origin = new UnboxedLongs(iterator);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have any more items"
+            );
+        }
+        return this.func.applyAsLong(this.origin.nextLong());
+    }
+}
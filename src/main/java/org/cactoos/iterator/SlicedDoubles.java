@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Slice of an iterator of {@code double}s.
+ *
+ * <p>It is a counterpart of {@link Sliced}, which doesn't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class SlicedDoubles implements PrimitiveIterator.OfDouble {
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfDouble origin;
+
+    /**
+     * How many elements to skip yet.
+     */
+    private long skip;
+
+    /**
+     * How many elements to return yet.
+     */
+    private long left;
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param iterator The origin
+     */
+    public SlicedDoubles(final int start, final Iterator<Double> iterator) {
+        this(start, Long.MAX_VALUE, iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param iterator The origin
+     */
+    public SlicedDoubles(final int start, final int count,
+        final Iterator<Double> iterator) {
+        this(start, (long) count, iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param iterator The origin
+     */
+    private SlicedDoubles(final int start, final long count,
+        final Iterator<Double> iterator) {
+        if (iterator instanceof PrimitiveIterator.OfDouble) {
+            this.origin = (PrimitiveIterator.OfDouble) iterator;
+        } else {
+            this.origin = new UnboxedDoubles(iterator);
+        }
+        this.skip = start;
+        this.left = count;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.skip > 0L && this.origin.hasNext()) {
+            this.origin.nextDouble();
+            --this.skip;
+        }
+        return this.left > 0L && this.origin.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have items any more"
+            );
+        }
+        --this.left;
+        return this.origin.nextDouble();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Slice of an iterator of {@code int}s.
+ *
+ * <p>It is a counterpart of {@link Sliced}, which doesn't box
+ * the elements.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class SlicedInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * The origin.
+     */
+    private final PrimitiveIterator.OfInt origin;
+
+    /**
+     * How many elements to skip yet.
+     */
+    private long skip;
+
+    /**
+     * How many elements to return yet.
+     */
+    private long left;
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param iterator The origin
+     */
+    public SlicedInts(final int start, final Iterator<Integer> iterator) {
+        this(start, Long.MAX_VALUE, iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param iterator The origin
+     */
+    public SlicedInts(final int start, final int count,
+        final Iterator<Integer> iterator) {
+        this(start, (long) count, iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param start Starting index
+     * @param count Maximum number of elements
+     * @param iterator The origin
+     */
+    private SlicedInts(final int start, final long count,
+        final Iterator<Integer> iterator) {
+        if (iterator instanceof PrimitiveIterator.OfInt) {
+            this.origin = (PrimitiveIterator.OfInt) iterator;
+        } else {
+            this.origin = new UnboxedInts(iterator);
+        }
+        this.skip = start;
+        this.left = count;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.skip > 0L && this.origin.hasNext()) {
+            this.origin.nextInt();
+            --this.skip;
+        }
+        return this.left > 0L && this.origin.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "The iterator doesn't have items any more"
+            );
+        }
+        --this.left;
+        return this.origin.nextInt();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * {@link Iterator} of {@link Double}s seen as a
+ * {@link PrimitiveIterator.OfDouble}, which unboxes every element.
+ *
+ * <p>{@link MappedDoubles}, {@link FilteredDoubles} and {@link SlicedDoubles} use
+ * it only when their origin is not a {@link PrimitiveIterator.OfDouble}
+ * already, so a chain of them over {@link IteratorOfDoubles} doesn't
+ * box anything.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class UnboxedDoubles implements PrimitiveIterator.OfDouble {
+
+    /**
+     * The origin.
+     */
+    private final Iterator<Double> origin;
+
+    /**
+     * Ctor.
+     * @param iterator The origin
+     */
+    public UnboxedDoubles(final Iterator<Double> iterator) {
+        this.origin = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return this.origin.next();
+    }
+
+    @Override
+    public Double next() {
+        return this.origin.next();
+    }
+}
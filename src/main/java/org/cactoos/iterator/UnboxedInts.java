@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * {@link Iterator} of {@link Integer}s seen as a
+ * {@link PrimitiveIterator.OfInt}, which unboxes every element.
+ *
+ * <p>{@link MappedInts}, {@link FilteredInts} and {@link SlicedInts} use
+ * it only when their origin is not a {@link PrimitiveIterator.OfInt}
+ * already, so a chain of them over {@link IteratorOfInts} doesn't
+ * box anything.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class UnboxedInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * The origin.
+     */
+    private final Iterator<Integer> origin;
+
+    /**
+     * Ctor.
+     * @param iterator The origin
+     */
+    public UnboxedInts(final Iterator<Integer> iterator) {
+        this.origin = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return this.origin.next();
+    }
+
+    @Override
+    public Integer next() {
+        return this.origin.next();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * {@link Iterator} of {@link Long}s seen as a
+ * {@link PrimitiveIterator.OfLong}, which unboxes every element.
+ *
+ * <p>{@link MappedLongs}, {@link FilteredLongs} and {@link SlicedLongs} use
+ * it only when their origin is not a {@link PrimitiveIterator.OfLong}
+ * already, so a chain of them over {@link IteratorOfLongs} doesn't
+ * box anything.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class UnboxedLongs implements PrimitiveIterator.OfLong {
+
+    /**
+     * The origin.
+     */
+    private final Iterator<Long> origin;
+
+    /**
+     * Ctor.
+     * @param iterator The origin
+     */
+    public UnboxedLongs(final Iterator<Long> iterator) {
+        this.origin = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        return this.origin.next();
+    }
+
+    @Override
+    public Long next() {
+        return this.origin.next();
+    }
+}
@@ -22,6 +22,10 @@ import org.cactoos.scalar.Ternary;
  * int avg = new AvgOf(numbers).intValue();
  * </pre>
  *
+ * <p>The average is exact, since every number is converted to
+ * a {@link BigDecimal}. It is slow for many numbers, so if
+ * an exact average is not needed, use {@link DoubleAvgOf}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -0,0 +1,148 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.Arrays;
+
+/**
+ * Counters of numbers, one per bucket index, for {@link Sketch}.
+ *
+ * <p>The counters are kept in an array that covers only the range of
+ * indexes seen so far, and grows when a new index is out of it.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+final class Buckets {
+
+    /**
+     * The counters.
+     */
+    private long[] counts;
+
+    /**
+     * The index of the first counter.
+     */
+    private int offset;
+
+    /**
+     * Total of all counters.
+     */
+    private long total;
+
+    /**
+     * Ctor.
+     */
+    Buckets() {
+        this(new long[0], 0, 0L);
+    }
+
+    /**
+     * Ctor.
+     * @param cnts The counters
+     * @param first The index of the first counter
+     * @param sum Total of all counters
+     */
+    private Buckets(final long[] cnts, final int first, final long sum) {
+        this.counts = cnts;
+        this.offset = first;
+        this.total = sum;
+    }
+
+    /**
+     * Count one more number in the bucket.
+     * @param index The index of the bucket
+     */
+    void add(final int index) {
+        this.add(index, 1L);
+    }
+
+    /**
+     * Buckets with the counters of both.
+     * @param other Other buckets
+     * @return New buckets
+     */
+    Buckets merged(final Buckets other) {
+        final Buckets result = new Buckets(
+            Arrays.copyOf(this.counts, this.counts.length),
+            this.offset, this.total
+        );
+        for (int idx = 0; idx < other.counts.length; ++idx) {
+            if (other.counts[idx] > 0L) {
+                result.add(other.offset + idx, other.counts[idx]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Total of all counters.
+     * @return Total
+     */
+    long total() {
+        return this.total;
+    }
+
+    /**
+     * The index of the bucket where the number with the given rank is,
+     * counting from the lowest index.
+     * @param rank The rank, from zero to total less one
+     * @return The index of the bucket
+     */
+    int ascending(final long rank) {
+        long seen = 0L;
+        int idx = 0;
+        while (idx < this.counts.length - 1) {
+            seen += this.counts[idx];
+            if (seen > rank) {
+                break;
+            }
+            ++idx;
+        }
+        return this.offset + idx;
+    }
+
+    /**
+     * The index of the bucket where the number with the given rank is,
+     * counting from the highest index.
+     * @param rank The rank, from zero to total less one
+     * @return The index of the bucket
+     */
+    int descending(final long rank) {
+        long seen = 0L;
+        int idx = this.counts.length - 1;
+        while (idx > 0) {
+            seen += this.counts[idx];
+            if (seen > rank) {
+                break;
+            }
+            --idx;
+        }
+        return this.offset + idx;
+    }
+
+    /**
+     * Add to the counter of the bucket.
+     * @param index The index of the bucket
+     * @param count How many to add
+     */
+    private void add(final int index, final long count) {
+        if (this.counts.length == 0) {
+            this.counts = new long[1];
+            this.offset = index;
+        } else if (index < this.offset) {
+            final int shift = this.offset - index;
+            final long[] grown = new long[this.counts.length + shift];
+            System.arraycopy(this.counts, 0, grown, shift, this.counts.length);
+            this.counts = grown;
+            this.offset = index;
+        } else if (index >= this.offset + this.counts.length) {
+            this.counts = Arrays.copyOf(this.counts, index - this.offset + 1);
+        }
+        this.counts[index - this.offset] += count;
+        this.total += count;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+/**
+ * Compensated sum of {@code double}s.
+ *
+ * <p>It is the Kahan-Babuska (Neumaier) summation: the low-order bits,
+ * lost when a small number is added to a big sum, are kept aside and
+ * added back at the end. So the error doesn't grow with the amount of
+ * numbers, as it does with a plain {@code sum += value}. When the sum
+ * overflows to an infinity, the plain sum is returned, since the lost
+ * bits are {@code NaN} then.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+final class Compensated {
+
+    /**
+     * The sum so far.
+     */
+    private double sum;
+
+    /**
+     * The lost low-order bits.
+     */
+    private double lost;
+
+    /**
+     * The plain sum, without compensation.
+     */
+    private double plain;
+
+    /**
+     * Add a number.
+     * @param value The number
+     */
+    void add(final double value) {
+        final double total = this.sum + value;
+        if (Math.abs(this.sum) >= Math.abs(value)) {
+            this.lost += this.sum - total + value;
+        } else {
+            this.lost += value - total + this.sum;
+        }
+        this.sum = total;
+        this.plain += value;
+    }
+
+    /**
+     * The sum.
+     * @return The sum
+     */
+    double value() {
+        double result = this.sum + this.lost;
+        if (Double.isNaN(result) && Double.isInfinite(this.plain)) {
+            result = this.plain;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Amount of numbers.
+ *
+ * <p>Unlike {@link org.cactoos.scalar.LengthOf}, it doesn't box
+ * the numbers of a primitive iterable, such as
+ * {@link org.cactoos.iterable.IterableOfInts}:</p>
+ *
+ * <pre>
+ * long count = new CountOf(new IterableOfInts(1, 2, 3)).longValue();
+ * </pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class CountOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 4315307393474305468L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public CountOf(final Number... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public CountOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final Doubles items = new Doubles(src);
+                    long count = 0L;
+                    while (items.hasNext()) {
+                        items.nextDouble();
+                        ++count;
+                    }
+                    return count;
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfDoubles;
+
+/**
+ * Average of numbers, as {@code double}s.
+ *
+ * <p>Every number is taken as a {@code double}, and the numbers of
+ * a primitive iterable, such as {@link IterableOfDoubles}, are taken
+ * without boxing. The sum is compensated, the same way as in
+ * {@link DoubleSumOf}. It is much faster than {@link AvgOf}, which
+ * converts every number to a {@link java.math.BigDecimal}. Use
+ * {@link AvgOf} when the average must be exact.</p>
+ *
+ * <pre>
+ * double avg = new DoubleAvgOf(1.0d, 2.0d, 4.0d).doubleValue();
+ * </pre>
+ *
+ * <p>If there are no numbers, the average is zero.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class DoubleAvgOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -1158426602830779524L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public DoubleAvgOf(final double... src) {
+        this(new IterableOfDoubles(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public DoubleAvgOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final Doubles items = new Doubles(src);
+                    final Compensated sum = new Compensated();
+                    long count = 0L;
+                    while (items.hasNext()) {
+                        sum.add(items.nextDouble());
+                        ++count;
+                    }
+                    double avg = 0.0d;
+                    if (count > 0L) {
+                        avg = sum.value() / count;
+                    }
+                    return avg;
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOfDoubles;
+
+/**
+ * The maximum of numbers, as {@code double}s.
+ *
+ * <p>Every number is taken as a {@code double}, and the numbers of
+ * a primitive iterable, such as {@link IterableOfDoubles}, are taken
+ * without boxing. Unlike {@link MaxOf}, it doesn't wrap every number
+ * into a {@link org.cactoos.Scalar}.
+ * If any number is {@code NaN}, the result is {@code NaN} too.</p>
+ *
+ * <pre>
+ * double max = new DoubleMaxOf(4.0d, 2.5d, 3.0d).doubleValue();
+ * </pre>
+ *
+ * <p>If there are no numbers, {@link NoSuchElementException}
+ * is thrown.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class DoubleMaxOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -6867116144950135743L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public DoubleMaxOf(final double... src) {
+        this(new IterableOfDoubles(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public DoubleMaxOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final Doubles items = new Doubles(src);
+                    if (!items.hasNext()) {
+                        throw new NoSuchElementException(
+                            "Can't find the maximum of no numbers"
+                        );
+                    }
+                    double max = items.nextDouble();
+                    while (items.hasNext()) {
+                        max = Math.max(max, items.nextDouble());
+                    }
+                    return max;
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfDoubles;
+
+/**
+ * Sum of numbers, as {@code double}s.
+ *
+ * <p>Every number is taken as a {@code double}, and the numbers of
+ * a primitive iterable, such as {@link IterableOfDoubles}, are taken
+ * without boxing. The sum is compensated (Kahan-Babuska), so the
+ * rounding error doesn't grow with the amount of numbers. It is much
+ * faster than {@link SumOf}, which converts every number to
+ * a {@link java.math.BigDecimal}. Use {@link SumOf} when the sum
+ * must be exact.</p>
+ *
+ * <pre>
+ * double sum = new DoubleSumOf(0.1d, 0.2d, 0.3d).doubleValue();
+ * </pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class DoubleSumOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 7350294421184092771L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public DoubleSumOf(final double... src) {
+        this(new IterableOfDoubles(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public DoubleSumOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final Doubles items = new Doubles(src);
+                    final Compensated sum = new Compensated();
+                    while (items.hasNext()) {
+                        sum.add(items.nextDouble());
+                    }
+                    return sum.value();
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+
+/**
+ * Numbers of an iterable as {@code double}s.
+ *
+ * <p>If the iterator of the source is a {@link PrimitiveIterator},
+ * for example the one of {@link org.cactoos.iterable.IterableOfInts},
+ * the numbers are taken without boxing. Otherwise every number is
+ * converted with {@link Number#doubleValue()}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+final class Doubles implements PrimitiveIterator.OfDouble {
+
+    /**
+     * The origin.
+     */
+    private final Iterator<? extends Number> origin;
+
+    /**
+     * Ctor.
+     * @param src The source
+     */
+    Doubles(final Iterable<? extends Number> src) {
+        this.origin = src.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        final double next;
+        if (this.origin instanceof PrimitiveIterator.OfDouble) {
+            next = ((PrimitiveIterator.OfDouble) this.origin).nextDouble();
+        } else if (this.origin instanceof PrimitiveIterator.OfLong) {
+            next = ((PrimitiveIterator.OfLong) this.origin).nextLong();
+        } else if (this.origin instanceof PrimitiveIterator.OfInt) {
+            next = ((PrimitiveIterator.OfInt) this.origin).nextInt();
+        } else {
+            next = this.origin.next().doubleValue();
+        }
+        return next;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOfLongs;
+
+/**
+ * The maximum of numbers, as {@code long}s.
+ *
+ * <p>Every number is taken as a {@code long}, and the numbers of
+ * a primitive iterable, such as {@link IterableOfLongs}, are taken
+ * without boxing. Unlike {@link MaxOf}, it doesn't wrap every number
+ * into a {@link org.cactoos.Scalar}.</p>
+ *
+ * <pre>
+ * long max = new LongMaxOf(4L, 2L, 3L).longValue();
+ * </pre>
+ *
+ * <p>If there are no numbers, {@link NoSuchElementException}
+ * is thrown.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class LongMaxOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -5976787366319830896L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public LongMaxOf(final long... src) {
+        this(new IterableOfLongs(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public LongMaxOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final Longs items = new Longs(src);
+                    if (!items.hasNext()) {
+                        throw new NoSuchElementException(
+                            "Can't find the maximum of no numbers"
+                        );
+                    }
+                    long max = items.nextLong();
+                    while (items.hasNext()) {
+                        max = Math.max(max, items.nextLong());
+                    }
+                    return max;
+                }
+            )
+        );
+    }
+}
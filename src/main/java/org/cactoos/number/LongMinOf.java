@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOfLongs;
+
+/**
+ * The minimum of numbers, as {@code long}s.
+ *
+ * <p>Every number is taken as a {@code long}, and the numbers of
+ * a primitive iterable, such as {@link IterableOfLongs}, are taken
+ * without boxing. Unlike {@link MinOf}, it doesn't wrap every number
+ * into a {@link org.cactoos.Scalar}.</p>
+ *
+ * <pre>
+ * long min = new LongMinOf(4L, 2L, 3L).longValue();
+ * </pre>
+ *
+ * <p>If there are no numbers, {@link NoSuchElementException}
+ * is thrown.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class LongMinOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 2236595986916103097L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public LongMinOf(final long... src) {
+        this(new IterableOfLongs(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public LongMinOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final Longs items = new Longs(src);
+                    if (!items.hasNext()) {
+                        throw new NoSuchElementException(
+                            "Can't find the minimum of no numbers"
+                        );
+                    }
+                    long min = items.nextLong();
+                    while (items.hasNext()) {
+                        min = Math.min(min, items.nextLong());
+                    }
+                    return min;
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfLongs;
+
+/**
+ * Sum of numbers, as {@code long}s.
+ *
+ * <p>Every number is taken as a {@code long}, and the numbers of
+ * a primitive iterable, such as {@link IterableOfLongs} or
+ * {@link org.cactoos.iterable.IterableOfInts}, are taken without
+ * boxing. So it is much faster than {@link SumOf}, which converts
+ * every number to a {@link java.math.BigDecimal}. Use {@link SumOf}
+ * when the numbers have fractions and the sum must be exact.</p>
+ *
+ * <pre>
+ * long sum = new LongSumOf(1L, 2L, 3L).longValue();
+ * long sum = new LongSumOf(new IterableOfInts(values)).longValue();
+ * </pre>
+ *
+ * <p>If the sum doesn't fit into a {@code long}, an
+ * {@link ArithmeticException} is thrown.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class LongSumOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -2493812307218371645L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public LongSumOf(final long... src) {
+        this(new IterableOfLongs(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public LongSumOf(final Iterable<? extends Number> src) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final Longs items = new Longs(src);
+                    long sum = 0L;
+                    while (items.hasNext()) {
+                        sum = Math.addExact(sum, items.nextLong());
+                    }
+                    return sum;
+                }
+            )
+        );
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+/**
+ * Sketch of numbers, which finds their percentiles approximately.
+ *
+ * <p>Every number is counted in a bucket on a logarithmic scale, the way
+ * DDSketch does it, so the percentile it finds is within the given
+ * relative accuracy from the real one. Its size depends on the range of
+ * the numbers, not on their amount, and two sketches merge into one
+ * exactly. Numbers which are {@code NaN} or infinite are not counted.
+ * If the accuracy is zero, nothing is counted at all.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+final class Sketch {
+
+    /**
+     * The relative accuracy.
+     */
+    private final double accuracy;
+
+    /**
+     * Logarithm of the ratio between the bounds of a bucket.
+     */
+    private final double step;
+
+    /**
+     * Buckets of positive numbers.
+     */
+    private final Buckets positive;
+
+    /**
+     * Buckets of negative numbers, by their absolute values.
+     */
+    private final Buckets negative;
+
+    /**
+     * Amount of zeros.
+     */
+    private long zeros;
+
+    /**
+     * Ctor.
+     * @param acc The relative accuracy, from zero to one
+     */
+    Sketch(final double acc) {
+        this(acc, new Buckets(), new Buckets(), 0L);
+    }
+
+    /**
+     * Ctor.
+     * @param acc The relative accuracy, from zero to one
+     * @param pos Buckets of positive numbers
+     * @param neg Buckets of negative numbers
+     * @param zrs Amount of zeros
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Sketch(final double acc, final Buckets pos, final Buckets neg,
+        final long zrs) {
+        if (acc < 0.0d || acc >= 1.0d) {
+            throw new IllegalArgumentException(
+                "The accuracy must be from zero to one, not " + acc
+            );
+        }
+        this.accuracy = acc;
+        this.step = Math.log((1.0d + acc) / (1.0d - acc));
+        this.positive = pos;
+        this.negative = neg;
+        this.zeros = zrs;
+    }
+
+    /**
+     * Count the number.
+     * @param value The number
+     */
+    void add(final double value) {
+        if (this.accuracy > 0.0d && !Double.isNaN(value)
+            && !Double.isInfinite(value)) {
+            if (value >= Double.MIN_NORMAL) {
+                this.positive.add(this.index(value));
+            } else if (value <= -Double.MIN_NORMAL) {
+                this.negative.add(this.index(-value));
+            } else {
+                ++this.zeros;
+            }
+        }
+    }
+
+    /**
+     * Sketch of the numbers of both.
+     * @param other Other sketch
+     * @return New sketch
+     */
+    Sketch merged(final Sketch other) {
+        if (Double.compare(this.accuracy, other.accuracy) != 0) {
+            throw new IllegalArgumentException(
+                "Can't merge sketches of different accuracy"
+            );
+        }
+        return new Sketch(
+            this.accuracy,
+            this.positive.merged(other.positive),
+            this.negative.merged(other.negative),
+            this.zeros + other.zeros
+        );
+    }
+
+    /**
+     * The percentile.
+     * @param quantile The quantile, from zero to one
+     * @return Approximate value of the percentile
+     */
+    double percentile(final double quantile) {
+        if (this.accuracy == 0.0d) {
+            throw new IllegalStateException(
+                "Percentiles are not collected, the accuracy is zero"
+            );
+        }
+        if (quantile < 0.0d || quantile > 1.0d) {
+            throw new IllegalArgumentException(
+                "The quantile must be from zero to one, not " + quantile
+            );
+        }
+        final long total = this.negative.total() + this.zeros
+            + this.positive.total();
+        if (total == 0L) {
+            throw new IllegalStateException(
+                "There are no numbers to find a percentile of"
+            );
+        }
+        final long rank = (long) (quantile * (total - 1L));
+        final double result;
+        if (rank < this.negative.total()) {
+            result = -this.value(this.negative.descending(rank));
+        } else if (rank < this.negative.total() + this.zeros) {
+            result = 0.0d;
+        } else {
+            result = this.value(
+                this.positive.ascending(
+                    rank - this.negative.total() - this.zeros
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * The index of the bucket of a positive number.
+     * @param value The number
+     * @return The index
+     */
+    private int index(final double value) {
+        return (int) Math.ceil(Math.log(value) / this.step);
+    }
+
+    /**
+     * The number in the middle of the bucket, which is within
+     * the accuracy from any number in it.
+     * @param index The index of the bucket
+     * @return The number
+     */
+    private double value(final int index) {
+        return Math.exp(index * this.step) * (1.0d - this.accuracy);
+    }
+}
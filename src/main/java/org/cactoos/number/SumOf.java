@@ -19,6 +19,11 @@ import org.cactoos.scalar.Folded;
  * int sum = new SumOf(numbers).intValue();
  * </pre>
  *
+ * <p>The sum is exact, since every number is converted to
+ * a {@link BigDecimal}. It is slow for many numbers, so if
+ * an exact sum is not needed, use {@link LongSumOf} or
+ * {@link DoubleSumOf}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -0,0 +1,202 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Summary statistics of numbers, made by {@link SummaryOf}.
+ *
+ * <p>Summaries of parts of the numbers merge into the summary of all
+ * of them, so the parts may be summarized in parallel:</p>
+ *
+ * <pre>
+ * Summary all = new SummaryOf(first).value().merged(
+ *     new SummaryOf(second).value()
+ * );
+ * </pre>
+ *
+ * <p>Objects of this class are immutable and thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class Summary {
+
+    /**
+     * Amount of numbers.
+     */
+    private final long cnt;
+
+    /**
+     * Sum of numbers.
+     */
+    private final double total;
+
+    /**
+     * The minimum.
+     */
+    private final double lowest;
+
+    /**
+     * The maximum.
+     */
+    private final double highest;
+
+    /**
+     * The mean.
+     */
+    private final double average;
+
+    /**
+     * Sum of squares of differences from the mean.
+     */
+    private final double squares;
+
+    /**
+     * The sketch of percentiles.
+     */
+    private final Sketch sketch;
+
+    /**
+     * Ctor.
+     * @param count Amount of numbers
+     * @param sum Sum of numbers
+     * @param min The minimum
+     * @param max The maximum
+     * @param mean The mean
+     * @param sqrs Sum of squares of differences from the mean
+     * @param skch The sketch of percentiles
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Summary(final long count, final double sum, final double min,
+        final double max, final double mean, final double sqrs,
+        final Sketch skch) {
+        this.cnt = count;
+        this.total = sum;
+        this.lowest = min;
+        this.highest = max;
+        this.average = mean;
+        this.squares = sqrs;
+        this.sketch = skch;
+    }
+
+    /**
+     * Amount of numbers.
+     * @return Amount
+     */
+    public long count() {
+        return this.cnt;
+    }
+
+    /**
+     * Sum of numbers, compensated as in {@link DoubleSumOf}.
+     * @return Sum
+     */
+    public double sum() {
+        return this.total;
+    }
+
+    /**
+     * The minimum.
+     * @return The minimum
+     * @throws NoSuchElementException If there are no numbers
+     */
+    public double min() {
+        this.ensure();
+        return this.lowest;
+    }
+
+    /**
+     * The maximum.
+     * @return The maximum
+     * @throws NoSuchElementException If there are no numbers
+     */
+    public double max() {
+        this.ensure();
+        return this.highest;
+    }
+
+    /**
+     * The mean, which is zero if there are no numbers.
+     * @return The mean
+     */
+    public double mean() {
+        return this.average;
+    }
+
+    /**
+     * Variance of the population, as in {@link VarianceOf}.
+     * @return The variance
+     */
+    public double variance() {
+        double variance = 0.0d;
+        if (this.cnt > 0L) {
+            variance = this.squares / this.cnt;
+        }
+        return variance;
+    }
+
+    /**
+     * Approximate percentile, within the accuracy given to
+     * {@link SummaryOf}. The percentiles zero and one hundred are
+     * exactly the minimum and the maximum.
+     * @param quantile The quantile, from zero to one, for example
+     *  {@code 0.99} for the 99th percentile
+     * @return The percentile
+     * @throws IllegalStateException If percentiles were not collected
+     */
+    public double percentile(final double quantile) {
+        final double approx = this.sketch.percentile(quantile);
+        final double result;
+        if (quantile == 0.0d) {
+            result = this.lowest;
+        } else if (quantile == 1.0d) {
+            result = this.highest;
+        } else {
+            result = Math.min(Math.max(approx, this.lowest), this.highest);
+        }
+        return result;
+    }
+
+    /**
+     * Summary of the numbers of both summaries.
+     * @param other Other summary
+     * @return New summary
+     */
+    public Summary merged(final Summary other) {
+        final long count = this.cnt + other.cnt;
+        final Compensated sum = new Compensated();
+        sum.add(this.total);
+        sum.add(other.total);
+        double mean = 0.0d;
+        double sqrs = 0.0d;
+        if (count > 0L) {
+            final double delta = other.average - this.average;
+            mean = this.average + delta * other.cnt / count;
+            sqrs = this.squares + other.squares
+                + delta * delta * this.cnt * other.cnt / count;
+        }
+        return new Summary(
+            count,
+            sum.value(),
+            Math.min(this.lowest, other.lowest),
+            Math.max(this.highest, other.highest),
+            mean,
+            sqrs,
+            this.sketch.merged(other.sketch)
+        );
+    }
+
+    /**
+     * Make sure there are numbers.
+     */
+    private void ensure() {
+        if (this.cnt == 0L) {
+            throw new NoSuchElementException(
+                "There are no numbers in the summary"
+            );
+        }
+    }
+}
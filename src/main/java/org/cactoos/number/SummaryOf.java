@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOfDoubles;
+
+/**
+ * Summary statistics of numbers, in one pass.
+ *
+ * <p>It finds the amount, the sum, the minimum, the maximum, the mean
+ * and the variance of numbers, going through them only once. It is
+ * much cheaper than {@link SumOf}, {@link MinOf}, {@link MaxOf} and
+ * {@link AvgOf} together, each of which goes through the numbers again,
+ * especially if they are read from an {@link org.cactoos.Input}:</p>
+ *
+ * <pre>
+ * Summary stats = new SummaryOf(0.01d, latencies).value();
+ * double mean = stats.mean();
+ * double p99 = stats.percentile(0.99d);
+ * </pre>
+ *
+ * <p>Every number is taken as a {@code double}, and the numbers of
+ * a primitive iterable, such as {@link IterableOfDoubles}, are taken
+ * without boxing. The percentiles are collected only if the relative
+ * accuracy of them is given. Then each percentile is within this
+ * accuracy from the real one, for example within 1% if the accuracy
+ * is {@code 0.01}. Summaries of parts of the numbers can be merged,
+ * see {@link Summary#merged(Summary)}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class SummaryOf implements Scalar<Summary> {
+
+    /**
+     * The relative accuracy of percentiles.
+     */
+    private final double accuracy;
+
+    /**
+     * The numbers.
+     */
+    private final Iterable<? extends Number> source;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public SummaryOf(final double... src) {
+        this(new IterableOfDoubles(src));
+    }
+
+    /**
+     * Ctor, which doesn't collect percentiles.
+     * @param src The iterable
+     */
+    public SummaryOf(final Iterable<? extends Number> src) {
+        this(0.0d, src);
+    }
+
+    /**
+     * Ctor.
+     * @param acc The relative accuracy of percentiles, from zero to one,
+     *  or zero to not collect them
+     * @param src The iterable
+     */
+    public SummaryOf(final double acc, final Iterable<? extends Number> src) {
+        this.accuracy = acc;
+        this.source = src;
+    }
+
+    @Override
+    public Summary value() {
+        final Doubles items = new Doubles(this.source);
+        final Compensated sum = new Compensated();
+        final Sketch sketch = new Sketch(this.accuracy);
+        long count = 0L;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double mean = 0.0d;
+        double squares = 0.0d;
+        while (items.hasNext()) {
+            final double value = items.nextDouble();
+            ++count;
+            sum.add(value);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            final double delta = value - mean;
+            mean += delta / count;
+            squares += delta * (value - mean);
+            sketch.add(value);
+        }
+        return new Summary(count, sum.value(), min, max, mean, squares, sketch);
+    }
+}
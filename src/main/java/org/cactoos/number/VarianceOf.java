@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfDoubles;
+
+/**
+ * Variance of numbers, as {@code double}s.
+ *
+ * <p>Every number is taken as a {@code double}, and the numbers of
+ * a primitive iterable, such as {@link IterableOfDoubles}, are taken
+ * without boxing. It goes through the numbers once, with the Welford's
+ * algorithm, which doesn't lose precision the way the naive
+ * {@code sum(x * x) / n - mean * mean} does.</p>
+ *
+ * <pre>
+ * double variance = new VarianceOf(2.0d, 4.0d, 6.0d).doubleValue();
+ * double sample = new VarianceOf(true, values).doubleValue();
+ * </pre>
+ *
+ * <p>By default it is the variance of the population, which is divided
+ * by the amount of numbers. The variance of a sample is divided by
+ * the amount less one. If there are not enough numbers, the variance
+ * is zero.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+public final class VarianceOf extends NumberEnvelope {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 3024962931565337862L;
+
+    /**
+     * Ctor.
+     * @param src Numbers
+     */
+    public VarianceOf(final double... src) {
+        this(new IterableOfDoubles(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public VarianceOf(final Iterable<? extends Number> src) {
+        this(false, src);
+    }
+
+    /**
+     * Ctor.
+     * @param sample Is it the variance of a sample?
+     * @param src The iterable
+     */
+    public VarianceOf(
+        final boolean sample, final Iterable<? extends Number> src
+    ) {
+        super(
+            new NumberOfScalars(
+                () -> {
+                    final Doubles items = new Doubles(src);
+                    long count = 0L;
+                    double mean = 0.0d;
+                    double squares = 0.0d;
+                    while (items.hasNext()) {
+                        final double value = items.nextDouble();
+                        ++count;
+                        final double delta = value - mean;
+                        mean += delta / count;
+                        squares += delta * (value - mean);
+                    }
+                    long div = count;
+                    if (sample) {
+                        div -= 1L;
+                    }
+                    double variance = 0.0d;
+                    if (div > 0L) {
+                        variance = squares / div;
+                    }
+                    return variance;
+                }
+            )
+        );
+    }
+}
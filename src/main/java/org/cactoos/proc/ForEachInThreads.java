@@ -4,9 +4,18 @@
  */
 package org.cactoos.proc;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.cactoos.Proc;
-import org.cactoos.func.FuncOf;
-import org.cactoos.scalar.AndInThreads;
+import org.cactoos.func.SharedThreads;
 
 /**
  * Executes a {@link Proc} in a new Thread for each element of an
@@ -27,32 +36,158 @@ import org.cactoos.scalar.AndInThreads;
  *    // Order of printing can be random.
  * }
  * <p>
+ * Elements are taken from the {@link Iterable} lazily, in batches, and
+ * not more than the given amount of batches are being processed at
+ * the same time. When that many batches are in progress, the next batch
+ * is taken only when one of them finishes, or, if the completion is
+ * ordered, when the oldest of them finishes. This way, an iterable
+ * of any size is processed in constant memory.
+ * </p>
+ * <p>
+ * The first failure cancels all batches in progress and is thrown,
+ * wrapped into {@link java.util.concurrent.ExecutionException}.
+ * </p>
+ * <p>
  * There is no thread-safety guarantee.
  *
- * @param <X> The type to iterate over
+ * @param <X> The type of elements of the iterable
  * @since 1.0
  */
 public final class ForEachInThreads<X> implements Proc<Iterable<X>> {
 
+    /**
+     * The service.
+     */
+    private final ExecutorService service;
+
     /**
      * The proc.
      */
     private final Proc<X> proc;
 
+    /**
+     * Maximum amount of batches in progress.
+     */
+    private final int threads;
+
+    /**
+     * Amount of elements in a batch.
+     */
+    private final int batch;
+
+    /**
+     * Wait for the batches in the order they were taken?
+     */
+    private final boolean ordered;
+
     /**
      * Ctor.
      *
      * @param proc The proc to execute
      */
     public ForEachInThreads(final Proc<X> proc) {
+        this(proc, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param proc The proc to execute
+     * @param threads Maximum amount of elements in progress
+     */
+    public ForEachInThreads(final Proc<X> proc, final int threads) {
+        this(proc, threads, 1);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param proc The proc to execute
+     * @param threads Maximum amount of batches in progress
+     * @param batch Amount of elements in a batch
+     */
+    public ForEachInThreads(final Proc<X> proc, final int threads,
+        final int batch) {
+        this(new SharedThreads(), proc, threads, batch, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param svc Executable service to run threads in
+     * @param proc The proc to execute
+     * @param threads Maximum amount of batches in progress
+     * @param batch Amount of elements in a batch
+     * @param ordered Wait for the batches in the order they were taken
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ForEachInThreads(final ExecutorService svc, final Proc<X> proc,
+        final int threads, final int batch, final boolean ordered) {
+        this.service = svc;
         this.proc = proc;
+        this.threads = threads;
+        this.batch = batch;
+        this.ordered = ordered;
     }
 
     @Override
     public void exec(final Iterable<X> input) throws Exception {
-        new AndInThreads(
-            new FuncOf<>(this.proc, true), input
-        ).value();
+        if (this.threads < 1 || this.batch < 1) {
+            throw new IllegalArgumentException(
+                "Amounts of threads and elements in a batch must be positive"
+            );
+        }
+        final CompletionService<Void> completion =
+            new ExecutorCompletionService<>(this.service);
+        final Queue<Future<Void>> running = new LinkedList<>();
+        try {
+            final Iterator<X> items = input.iterator();
+            while (items.hasNext()) {
+                if (running.size() >= this.threads) {
+                    this.finished(running, completion).get();
+                }
+                final Collection<X> next = new ArrayList<>(this.batch);
+                while (next.size() < this.batch && items.hasNext()) {
+                    next.add(items.next());
+                }
+                final Callable<Void> task = () -> {
+                    for (final X item : next) {
+                        this.proc.exec(item);
+                    }
+                    return null;
+                };
+                if (this.ordered) {
+                    running.add(this.service.submit(task));
+                } else {
+                    running.add(completion.submit(task));
+                }
+            }
+            while (!running.isEmpty()) {
+                this.finished(running, completion).get();
+            }
+        } finally {
+            for (final Future<Void> future : running) {
+                future.cancel(true);
+            }
+        }
     }
 
+    /**
+     * Wait for the next batch to finish and forget it.
+     * @param running Batches in progress
+     * @param completion Completion service of unordered batches
+     * @return The batch finished
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private Future<Void> finished(final Queue<Future<Void>> running,
+        final CompletionService<Void> completion) throws InterruptedException {
+        final Future<Void> done;
+        if (this.ordered) {
+            done = running.remove();
+        } else {
+            done = completion.take();
+            running.remove(done);
+        }
+        return done;
+    }
 }
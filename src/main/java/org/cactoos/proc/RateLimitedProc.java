@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import java.time.Duration;
+import org.cactoos.Func;
+import org.cactoos.Proc;
+import org.cactoos.func.FuncOf;
+import org.cactoos.func.RateLimitedFunc;
+import org.cactoos.func.TokenBucket;
+
+/**
+ * Proc that limits the rate of its calls with a {@link TokenBucket}.
+ *
+ * <p>It works exactly like {@link RateLimitedFunc}.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original proc is.</p>
+ *
+ * @param <X> Type of input
+ * @since 1.0
+ */
+public final class RateLimitedProc<X> implements Proc<X> {
+
+    /**
+     * The func.
+     */
+    private final Func<X, Boolean> func;
+
+    /**
+     * Ctor.
+     * @param proc The original proc
+     * @param tokens The bucket
+     */
+    public RateLimitedProc(final Proc<? super X> proc, final TokenBucket tokens) {
+        this(new RateLimitedFunc<>(new FuncOf<>(proc, true), tokens));
+    }
+
+    /**
+     * Ctor.
+     * @param proc The original proc
+     * @param tokens The bucket
+     * @param timeout Maximum time to wait for a token
+     */
+    public RateLimitedProc(final Proc<? super X> proc, final TokenBucket tokens,
+        final Duration timeout) {
+        this(new RateLimitedFunc<>(new FuncOf<>(proc, true), tokens, timeout));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The rate limited func
+     */
+    private RateLimitedProc(final Func<X, Boolean> fnc) {
+        this.func = fnc;
+    }
+
+    @Override
+    public void exec(final X input) throws Exception {
+        this.func.apply(input);
+    }
+}
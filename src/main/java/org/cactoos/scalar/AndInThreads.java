@@ -5,18 +5,19 @@
 package org.cactoos.scalar;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
 import org.cactoos.Proc;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
+import org.cactoos.func.SharedThreads;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.text.FormattedText;
 
 /**
  * Logical conjunction, in multiple threads.
@@ -29,6 +30,15 @@ import org.cactoos.text.FormattedText;
  * use the {@link Unchecked} decorator. Or you may use
  * {@link IoChecked} to wrap it in an IOException.</p>
  *
+ * <p>Results are checked in the order the scalars finish, rather than
+ * the order they are given in. As soon as any of them returns FALSE
+ * or throws an exception, the result is returned or the exception
+ * is thrown, wrapped into {@link java.util.concurrent.ExecutionException},
+ * and all the scalars that are still running are cancelled.</p>
+ *
+ * <p>By default, the scalars run in {@link SharedThreads}, in virtual
+ * threads if the JVM supports them.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @see Unchecked
@@ -47,11 +57,6 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     private final Iterable<? extends Scalar<Boolean>> iterable;
 
-    /**
-     * Shut down the service when it's done.
-     */
-    private final boolean shut;
-
     /**
      * Ctor.
      * @param func Func to map
@@ -93,7 +98,7 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      */
     public AndInThreads(final Iterable<? extends Scalar<Boolean>> src) {
-        this(Executors.newCachedThreadPool(), src, true);
+        this(new SharedThreads(), src);
     }
 
     /**
@@ -182,48 +187,38 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     public AndInThreads(final ExecutorService svc,
         final Iterable<? extends Scalar<Boolean>> src) {
-        this(svc, src, false);
-    }
-
-    /**
-     * Ctor.
-     * @param svc Executable service to run thread in
-     * @param src The iterable
-     * @param sht Shut it down
-     */
-    private AndInThreads(final ExecutorService svc,
-        final Iterable<? extends Scalar<Boolean>> src, final boolean sht) {
         this.service = svc;
         this.iterable = src;
-        this.shut = sht;
     }
 
     @Override
     public Boolean value() throws Exception {
+        final CompletionService<Boolean> completion =
+            new ExecutorCompletionService<>(this.service);
         final Collection<Future<Boolean>> futures = new LinkedList<>();
-        for (final Scalar<Boolean> item : this.iterable) {
-            futures.add(this.service.submit(item::value));
-        }
-        final boolean result = new And(
-            Future::get,
-            futures
-        ).value();
-        if (this.shut) {
-            this.service.shutdown();
-            try {
-                if (!this.service.awaitTermination(1L, TimeUnit.MINUTES)) {
-                    throw new IllegalStateException(
-                        new FormattedText(
-                            "Can't terminate the service, result=%b",
-                            result
-                        ).asString()
-                    );
+        try {
+            boolean result = true;
+            int pending = 0;
+            final Iterator<? extends Scalar<Boolean>> items =
+                this.iterable.iterator();
+            while (result && items.hasNext()) {
+                futures.add(completion.submit(items.next()::value));
+                ++pending;
+                final Future<Boolean> ready = completion.poll();
+                if (ready != null) {
+                    --pending;
+                    result = ready.get();
                 }
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException(ex);
+            }
+            while (result && pending > 0) {
+                --pending;
+                result = completion.take().get();
+            }
+            return result;
+        } finally {
+            for (final Future<Boolean> future : futures) {
+                future.cancel(true);
             }
         }
-        return result;
     }
 }
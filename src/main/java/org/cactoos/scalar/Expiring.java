@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.ExpiringFunc;
+
+/**
+ * Scalar that caches its value for a certain time since it
+ * was calculated, and recalculates it after that.
+ *
+ * <p>Optionally, the value may be refreshed ahead of its expiration:
+ * when it is older than the refresh time, it is still returned,
+ * while a single background task calculates a new one to replace it.</p>
+ *
+ * <p>Exceptions are not cached.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @see ExpiringFunc
+ * @see Solid
+ * @since 1.0
+ */
+public final class Expiring<T> extends ScalarEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live of the value since its calculation
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl) {
+        this(new ExpiringFunc<Boolean, T>(input -> scalar.value(), ttl));
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live of the value since its calculation
+     * @param refresh Time since the calculation to refresh the value
+     *  in the background
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl,
+        final Duration refresh) {
+        this(
+            new ExpiringFunc<Boolean, T>(input -> scalar.value(), ttl, refresh)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live of the value since its calculation
+     * @param refresh Time since the calculation to refresh the value
+     *  in the background
+     * @param exec Executor of the background refreshes
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl,
+        final Duration refresh, final Executor exec) {
+        this(
+            new ExpiringFunc<Boolean, T>(
+                input -> scalar.value(), ttl, refresh, exec
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param func Expiring func of a single input
+     */
+    private Expiring(final Func<Boolean, T> func) {
+        super(() -> func.apply(true));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOfDoubles;
+import org.cactoos.iterator.UnboxedDoubles;
+
+/**
+ * Folds an iterable of {@code double}s with no boxing on the way.
+ *
+ * <p>It is a counterpart of {@link Folded}. When the iterator of the
+ * source is a {@link java.util.PrimitiveIterator.OfDouble}, for example
+ * the one of {@link IterableOfDoubles} or
+ * {@link org.cactoos.iterable.MappedDoubles}, no element is boxed, and
+ * {@link #asDouble()} returns the result without boxing too:</p>
+ *
+ * <pre>{@code
+ * final double sum = new FoldedDoubles(
+ *     0, (acc, x) -> acc + x,
+ *     new MappedDoubles(x -> x * x, new IterableOfDoubles(1, 2, 3))
+ * ).asDouble();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FoldedDoubles implements Scalar<Double> {
+
+    /**
+     * The source.
+     */
+    private final Iterable<Double> iterable;
+
+    /**
+     * The initial value.
+     */
+    private final double input;
+
+    /**
+     * The function.
+     */
+    private final DoubleBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt The initial value
+     * @param fnc The function, which takes the result so far and an item
+     * @param items The items
+     */
+    public FoldedDoubles(
+        final double ipt, final DoubleBinaryOperator fnc, final double... items
+    ) {
+        this(ipt, fnc, new IterableOfDoubles(items));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt The initial value
+     * @param fnc The function, which takes the result so far and an item
+     * @param items The items
+     */
+    public FoldedDoubles(final double ipt, final DoubleBinaryOperator fnc,
+        final Iterable<Double> items) {
+        this.iterable = items;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Double value() {
+        return this.asDouble();
+    }
+
+    /**
+     * The result as a primitive.
+     * @return The result
+     */
+    public double asDouble() {
+        final Iterator<Double> source = this.iterable.iterator();
+        final PrimitiveIterator.OfDouble items;
+        if (source instanceof PrimitiveIterator.OfDouble) {
+            items = (PrimitiveIterator.OfDouble) source;
+        } else {
+            items = new UnboxedDoubles(source);
+        }
+        double memo = this.input;
+        while (items.hasNext()) {
+            memo = this.func.applyAsDouble(memo, items.nextDouble());
+        }
+        return memo;
+    }
+}
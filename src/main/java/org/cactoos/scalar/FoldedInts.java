@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOfInts;
+import org.cactoos.iterator.UnboxedInts;
+
+/**
+ * Folds an iterable of {@code int}s with no boxing on the way.
+ *
+ * <p>It is a counterpart of {@link Folded}. When the iterator of the
+ * source is a {@link java.util.PrimitiveIterator.OfInt}, for example
+ * the one of {@link IterableOfInts} or
+ * {@link org.cactoos.iterable.MappedInts}, no element is boxed, and
+ * {@link #asInt()} returns the result without boxing too:</p>
+ *
+ * <pre>{@code
+ * final int sum = new FoldedInts(
+ *     0, (acc, x) -> acc + x,
+ *     new MappedInts(x -> x * x, new IterableOfInts(1, 2, 3))
+ * ).asInt();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FoldedInts implements Scalar<Integer> {
+
+    /**
+     * The source.
+     */
+    private final Iterable<Integer> iterable;
+
+    /**
+     * The initial value.
+     */
+    private final int input;
+
+    /**
+     * The function.
+     */
+    private final IntBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt The initial value
+     * @param fnc The function, which takes the result so far and an item
+     * @param items The items
+     */
+    public FoldedInts(
+        final int ipt, final IntBinaryOperator fnc, final int... items
+    ) {
+        this(ipt, fnc, new IterableOfInts(items));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt The initial value
+     * @param fnc The function, which takes the result so far and an item
+     * @param items The items
+     */
+    public FoldedInts(final int ipt, final IntBinaryOperator fnc,
+        final Iterable<Integer> items) {
+        this.iterable = items;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Integer value() {
+        return this.asInt();
+    }
+
+    /**
+     * The result as a primitive.
+     * @return The result
+     */
+    public int asInt() {
+        final Iterator<Integer> source = this.iterable.iterator();
+        final PrimitiveIterator.OfInt items;
+        if (source instanceof PrimitiveIterator.OfInt) {
+            items = (PrimitiveIterator.OfInt) source;
+        } else {
+            items = new UnboxedInts(source);
+        }
+        int memo = this.input;
+        while (items.hasNext()) {
+            memo = this.func.applyAsInt(memo, items.nextInt());
+        }
+        return memo;
+    }
+}
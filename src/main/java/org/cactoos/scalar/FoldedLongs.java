@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOfLongs;
+import org.cactoos.iterator.UnboxedLongs;
+
+/**
+ * Folds an iterable of {@code long}s with no boxing on the way.
+ *
+ * <p>It is a counterpart of {@link Folded}. When the iterator of the
+ * source is a {@link java.util.PrimitiveIterator.OfLong}, for example
+ * the one of {@link IterableOfLongs} or
+ * {@link org.cactoos.iterable.MappedLongs}, no element is boxed, and
+ * {@link #asLong()} returns the result without boxing too:</p>
+ *
+ * <pre>{@code
+ * final long sum = new FoldedLongs(
+ *     0, (acc, x) -> acc + x,
+ *     new MappedLongs(x -> x * x, new IterableOfLongs(1, 2, 3))
+ * ).asLong();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class FoldedLongs implements Scalar<Long> {
+
+    /**
+     * The source.
+     */
+    private final Iterable<Long> iterable;
+
+    /**
+     * The initial value.
+     */
+    private final long input;
+
+    /**
+     * The function.
+     */
+    private final LongBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt The initial value
+     * @param fnc The function, which takes the result so far and an item
+     * @param items The items
+     */
+    public FoldedLongs(
+        final long ipt, final LongBinaryOperator fnc, final long... items
+    ) {
+        this(ipt, fnc, new IterableOfLongs(items));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt The initial value
+     * @param fnc The function, which takes the result so far and an item
+     * @param items The items
+     */
+    public FoldedLongs(final long ipt, final LongBinaryOperator fnc,
+        final Iterable<Long> items) {
+        this.iterable = items;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Long value() {
+        return this.asLong();
+    }
+
+    /**
+     * The result as a primitive.
+     * @return The result
+     */
+    public long asLong() {
+        final Iterator<Long> source = this.iterable.iterator();
+        final PrimitiveIterator.OfLong items;
+        if (source instanceof PrimitiveIterator.OfLong) {
+            items = (PrimitiveIterator.OfLong) source;
+        } else {
+            items = new UnboxedLongs(source);
+        }
+        long memo = this.input;
+        while (items.hasNext()) {
+            memo = this.func.applyAsLong(memo, items.nextLong());
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.IdleExpiringFunc;
+
+/**
+ * Scalar that caches its value while it is asked for, and forgets
+ * it when nobody asks for it for a certain time.
+ *
+ * <p>Exceptions are not cached.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @see IdleExpiringFunc
+ * @see Expiring
+ * @since 1.0
+ */
+public final class IdleExpiring<T> extends ScalarEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param idle Time since the last access to forget the value
+     */
+    public IdleExpiring(final Scalar<? extends T> scalar, final Duration idle) {
+        this(new IdleExpiringFunc<Boolean, T>(input -> scalar.value(), idle));
+    }
+
+    /**
+     * Ctor.
+     * @param func Expiring func of a single input
+     */
+    private IdleExpiring(final Func<Boolean, T> func) {
+        super(() -> func.apply(true));
+    }
+}
@@ -37,11 +37,26 @@ public final class IoChecked<T> implements Scalar<T> {
     }
 
     @Override
+    @SuppressWarnings(
+        {
+            "PMD.AvoidCatchingGenericException",
+            "PMD.AvoidRethrowingException"
+        }
+    )
     public T value() throws IOException {
-        return new Checked<>(
-            this.origin,
-            IOException::new
-        ).value();
+        try {
+            return this.origin.value();
+        } catch (final RuntimeException ex) {
+            throw ex;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            return new Checked<T, IOException>(
+                () -> {
+                    throw ex;
+                },
+                IOException::new
+            ).value();
+        }
     }
 
 }
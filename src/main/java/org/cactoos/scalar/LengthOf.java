@@ -6,10 +6,14 @@
 package org.cactoos.scalar;
 
 import java.io.InputStream;
+import java.nio.channels.SeekableByteChannel;
 import java.util.Iterator;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
+import org.cactoos.io.Buffers;
+import org.cactoos.io.ChannelInputStream;
+import org.cactoos.io.TeeInputStream;
 
 /**
  * Length.
@@ -49,6 +53,13 @@ public final class LengthOf extends ScalarEnvelope<Long> {
 
     /**
      * Ctor.
+     *
+     * <p>If the input is a {@link org.cactoos.io.TeeInput}, it is copied
+     * with {@link TeeInputStream#pump()}, so a file is copied to another
+     * file by the kernel. If its stream is a {@link ChannelInputStream}
+     * over a seekable channel, as for a {@link org.cactoos.io.MappedInput}
+     * or a file, the size of the channel is taken, without reading it.</p>
+     *
      * @param input The input
      */
     public LengthOf(final Input input) {
@@ -68,20 +79,37 @@ public final class LengthOf extends ScalarEnvelope<Long> {
                     "Cannot use a buffer limited to zero size"
                 );
             }
+            long length = 0L;
             try (InputStream stream = input.stream()) {
-                final byte[] buf = new byte[max];
-                long length = 0L;
-                while (true) {
-                    final int len = stream.read(buf);
-                    if (len > 0) {
-                        length += (long) len;
-                    }
-                    if (len < 0) {
-                        break;
+                if (stream instanceof TeeInputStream) {
+                    length = ((TeeInputStream) stream).pump();
+                } else if (stream instanceof ChannelInputStream
+                    && ((ChannelInputStream) stream).channel()
+                    instanceof SeekableByteChannel) {
+                    final SeekableByteChannel seekable = (SeekableByteChannel)
+                        ((ChannelInputStream) stream).channel();
+                    length = Math.max(
+                        seekable.size() - seekable.position(), 0L
+                    );
+                } else {
+                    final Buffers buffers = new Buffers();
+                    final byte[] buf = buffers.array(max);
+                    try {
+                        while (true) {
+                            final int len = stream.read(buf, 0, max);
+                            if (len > 0) {
+                                length += (long) len;
+                            }
+                            if (len < 0) {
+                                break;
+                            }
+                        }
+                    } finally {
+                        buffers.release(buf);
                     }
                 }
-                return length;
             }
+            return length;
         });
     }
 
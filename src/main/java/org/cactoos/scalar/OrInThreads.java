@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.SharedThreads;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * Logical disjunction, in multiple threads.
+ *
+ * <p>The usage is same as for {@link Or}</p>
+ *
+ * <p>Results are checked in the order the scalars finish, rather than
+ * the order they are given in. As soon as any of them returns TRUE
+ * or throws an exception, the result is returned or the exception
+ * is thrown, wrapped into {@link java.util.concurrent.ExecutionException},
+ * and all the scalars that are still running are cancelled.</p>
+ *
+ * <p>By default, the scalars run in {@link SharedThreads}, in virtual
+ * threads if the JVM supports them.</p>
+ *
+ * <p>This class implements {@link Scalar}, which throws a checked
+ * {@link Exception}. This may not be convenient in many cases. To make
+ * it more convenient and get rid of the checked exception you can
+ * use the {@link Unchecked} decorator. Or you may use
+ * {@link IoChecked} to wrap it in an IOException.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see AndInThreads
+ * @since 1.0
+ */
+public final class OrInThreads extends ScalarEnvelope<Boolean> {
+
+    /**
+     * Ctor.
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(final Func<? super X, Boolean> func, final X... src) {
+        this(func, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src) {
+        this(new SharedThreads(), func, src);
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    @SafeVarargs
+    public OrInThreads(final Scalar<Boolean>... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The iterable
+     */
+    public OrInThreads(final Iterable<? extends Scalar<Boolean>> src) {
+        this(new SharedThreads(), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    @SafeVarargs
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Func<? super X, Boolean> func,
+        final X... src
+    ) {
+        this(svc, func, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param func Func to map
+     * @param src The iterable
+     * @param <X> Type of items in the iterable
+     */
+    public <X> OrInThreads(
+        final ExecutorService svc,
+        final Func<? super X, Boolean> func,
+        final Iterable<? extends X> src
+    ) {
+        this(
+            svc,
+            new Mapped<>(
+                item -> new ScalarOf<>(() -> func.apply(item)),
+                src
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     */
+    @SafeVarargs
+    public OrInThreads(final ExecutorService svc,
+        final Scalar<Boolean>... src) {
+        this(svc, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The iterable
+     */
+    public OrInThreads(final ExecutorService svc,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        super(new Not(new AndInThreads(svc, new Mapped<>(Not::new, src))));
+    }
+}
@@ -7,6 +7,7 @@ package org.cactoos.scalar;
 import java.time.Duration;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
+import org.cactoos.func.Backoff;
 
 /**
  * Func that will try a few times before throwing an exception.
@@ -47,9 +48,14 @@ public final class Retry<T> implements Scalar<T> {
     private final Func<Integer, Boolean> func;
 
     /**
-     * Wait between executions.
+     * Delays between executions.
      */
-    private final Duration wait;
+    private final Backoff backoff;
+
+    /**
+     * Maximum total time of all attempts and delays.
+     */
+    private final Duration budget;
 
     /**
      * Ctor.
@@ -88,6 +94,18 @@ public final class Retry<T> implements Scalar<T> {
         this(scalar, attempt -> attempt >= attempts, wait);
     }
 
+    /**
+     * Ctor.
+     * @param scalar Scalar original
+     * @param attempts Maximum number of attempts
+     * @param backoff Delays between attempts
+     * @param budget Maximum total time of all attempts and delays
+     */
+    public Retry(final Scalar<? extends T> scalar, final int attempts,
+        final Backoff backoff, final Duration budget) {
+        this(scalar, attempt -> attempt >= attempts, backoff, budget);
+    }
+
     /**
      * Ctor.
      * @param scalar Func original
@@ -106,9 +124,27 @@ public final class Retry<T> implements Scalar<T> {
      */
     public Retry(final Scalar<? extends T> scalar,
         final Func<Integer, Boolean> exit, final Duration wait) {
+        this(
+            scalar, exit, new Backoff.Fixed(wait),
+            Duration.ofSeconds(Long.MAX_VALUE)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Func original
+     * @param exit Exit condition, returns TRUE if there is no reason to try
+     * @param backoff Delays between attempts
+     * @param budget Maximum total time of all attempts and delays
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Retry(final Scalar<? extends T> scalar,
+        final Func<Integer, Boolean> exit, final Backoff backoff,
+        final Duration budget) {
         this.origin = scalar;
         this.func = exit;
-        this.wait = wait;
+        this.backoff = backoff;
+        this.budget = budget;
     }
 
     @Override
@@ -116,7 +152,8 @@ public final class Retry<T> implements Scalar<T> {
         return new org.cactoos.func.Retry<>(
             (Func<Boolean, T>) input -> this.origin.value(),
             this.func,
-            this.wait
+            this.backoff,
+            this.budget
         ).apply(true);
     }
 }
@@ -6,6 +6,7 @@ package org.cactoos.scalar;
 
 import org.cactoos.Func;
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
 import org.cactoos.func.StickyFunc;
 
 /**
@@ -50,8 +51,20 @@ public final class Sticky<T> implements Scalar<T> {
      * @param scalar The Scalar to cache
      */
     public Sticky(final Scalar<? extends T> scalar) {
+        this(scalar, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param stats Statistics of the cache
+     * @since 1.0
+     */
+    public Sticky(final Scalar<? extends T> scalar, final CacheStats stats) {
         this.func = new StickyFunc<>(
-            input -> scalar.value()
+            input -> scalar.value(),
+            Integer.MAX_VALUE,
+            stats
         );
     }
 
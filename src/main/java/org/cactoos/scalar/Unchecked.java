@@ -32,9 +32,38 @@ public final class Unchecked<T> implements Scalar<T> {
     }
 
     @Override
+    @SuppressWarnings(
+        {
+            "PMD.AvoidCatchingGenericException",
+            "PMD.AvoidRethrowingException"
+        }
+    )
     public T value() {
         try {
-            return new IoChecked<>(this.origin).value();
+            return this.origin.value();
+        } catch (final RuntimeException ex) {
+            throw ex;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            return Unchecked.rethrown(ex);
+        }
+    }
+
+    /**
+     * Wrap the exception the same way as {@link IoChecked} does,
+     * but only when it happened, so that the success path
+     * allocates nothing.
+     * @param exp The exception thrown by the origin
+     * @param <T> Type of result
+     * @return Never returns
+     */
+    private static <T> T rethrown(final Exception exp) {
+        try {
+            return new IoChecked<T>(
+                () -> {
+                    throw exp;
+                }
+            ).value();
         } catch (final IOException ex) {
             throw new UncheckedIOException(ex);
         }
@@ -0,0 +1,138 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import org.cactoos.ChannelInput;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.Buffers;
+
+/**
+ * Content of an input, decoded.
+ *
+ * <p>A {@link ChannelInput}, like {@link org.cactoos.io.MappedInput} or
+ * {@link org.cactoos.io.HeadOf} of it, is decoded right from its channel,
+ * through a direct buffer, without copying it into a {@code byte[]}.
+ * A character split between two reads is decoded too. Malformed and unmappable bytes are
+ * replaced, just like {@link String#String(byte[], Charset)} does.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 1.0
+ */
+final class InputAsString implements Scalar<String> {
+
+    /**
+     * The input.
+     */
+    private final Input input;
+
+    /**
+     * The charset.
+     */
+    private final Charset charset;
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param cset The charset
+     */
+    InputAsString(final Input input, final Charset cset) {
+        this.input = input;
+        this.charset = cset;
+    }
+
+    @Override
+    public String value() throws Exception {
+        final String text;
+        if (this.input instanceof ChannelInput) {
+            try (ReadableByteChannel channel =
+                ((ChannelInput) this.input).channel()) {
+                text = this.decoded(channel);
+            }
+        } else {
+            text = new String(new BytesOf(this.input).asBytes(), this.charset);
+        }
+        return text;
+    }
+
+    /**
+     * Decode the channel.
+     *
+     * <p>Bytes of a character that is not read completely stay in the
+     * buffer until the next read.</p>
+     *
+     * @param channel The channel
+     * @return Text
+     * @throws IOException If fails
+     */
+    private String decoded(final ReadableByteChannel channel)
+        throws IOException {
+        final CharsetDecoder decoder = this.charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final StringBuilder out = new StringBuilder();
+        final CharBuffer chars = CharBuffer.allocate(16 << 10);
+        final Buffers buffers = new Buffers();
+        final ByteBuffer buf = buffers.buffer(16 << 10);
+        try {
+            while (channel.read(buf) >= 0) {
+                buf.flip();
+                InputAsString.decode(decoder, buf, chars, out, false);
+                buf.compact();
+            }
+            buf.flip();
+            InputAsString.decode(decoder, buf, chars, out, true);
+        } finally {
+            buffers.release(buf);
+        }
+        while (decoder.flush(chars).isOverflow()) {
+            InputAsString.drain(chars, out);
+        }
+        InputAsString.drain(chars, out);
+        return out.toString();
+    }
+
+    /**
+     * Decode as much as possible.
+     * @param decoder The decoder
+     * @param src Bytes to decode
+     * @param chars Buffer for characters
+     * @param out Where to append them
+     * @param last Whether there are no more bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static void decode(final CharsetDecoder decoder,
+        final ByteBuffer src, final CharBuffer chars, final StringBuilder out,
+        final boolean last) {
+        while (true) {
+            final CoderResult res = decoder.decode(src, chars, last);
+            InputAsString.drain(chars, out);
+            if (!res.isOverflow()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Move decoded characters to the output.
+     * @param chars Buffer of characters
+     * @param out The output
+     */
+    private static void drain(final CharBuffer chars, final StringBuilder out) {
+        chars.flip();
+        out.append(chars);
+        chars.clear();
+    }
+}
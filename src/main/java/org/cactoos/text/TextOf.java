@@ -36,10 +36,13 @@ public final class TextOf extends TextEnvelope {
     /**
      * Ctor.
      *
+     * <p>A {@link org.cactoos.io.MappedInput} is decoded right from
+     * its mapped regions.</p>
+     *
      * @param input The Input
      */
     public TextOf(final Input input) {
-        this(new BytesOf(input));
+        this(input, StandardCharsets.UTF_8);
     }
 
     /**
@@ -95,7 +98,7 @@ public final class TextOf extends TextEnvelope {
      * @param cset The Charset
      */
     public TextOf(final Input input, final Charset cset) {
-        this(new BytesOf(input), cset);
+        this(new TextOfScalar(new InputAsString(input, cset)));
     }
 
     /**
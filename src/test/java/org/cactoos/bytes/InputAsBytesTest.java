@@ -4,9 +4,19 @@
  */
 package org.cactoos.bytes;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.cactoos.io.GzipInput;
 import org.cactoos.io.InputOf;
+import org.cactoos.io.MappedInput;
 import org.cactoos.io.SlowInputStream;
 import org.cactoos.iterable.Endless;
 import org.cactoos.iterable.HeadOf;
@@ -14,9 +24,12 @@ import org.cactoos.text.TextOf;
 import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.EndsWith;
 import org.llorllale.cactoos.matchers.StartsWith;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link InputAsBytes}.
@@ -105,4 +118,109 @@ final class InputAsBytesTest {
         ).affirm();
     }
 
+    @Test
+    void readsMappedFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("mapped.txt");
+        final byte[] content = "Hello, regions!".getBytes(
+            StandardCharsets.UTF_8
+        );
+        Files.write(file, content);
+        new Assertion<>(
+            "must read all the regions of the mapped file",
+            new InputAsBytes(new MappedInput(file, 4)).asBytes(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void readsFileOfKnownSize(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("known.bin");
+        final byte[] content = new byte[100_003];
+        new Random(0L).nextBytes(content);
+        Files.write(file, content);
+        new Assertion<>(
+            "must read the file into an array of its size",
+            new InputAsBytes(new InputOf(file)).asBytes(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void readsInputThatUnderstatesItsSize() throws Exception {
+        new Assertion<>(
+            "must grow the array when available() is too small",
+            new String(
+                new InputAsBytes(
+                    new InputOf(
+                        new SequenceInputStream(
+                            new ByteArrayInputStream(
+                                "first,".getBytes(StandardCharsets.UTF_8)
+                            ),
+                            new ByteArrayInputStream(
+                                "second".getBytes(StandardCharsets.UTF_8)
+                            )
+                        )
+                    ),
+                    2
+                ).asBytes(),
+                StandardCharsets.UTF_8
+            ),
+            new IsEqual<>("first,second")
+        ).affirm();
+    }
+
+    @Test
+    void readsInputThatOverstatesItsSize() throws Exception {
+        new Assertion<>(
+            "must trim the array when available() is too large",
+            new InputAsBytes(
+                new InputOf(
+                    new ByteArrayInputStream(new byte[] {1, 2, 3}) {
+                        @Override
+                        public synchronized int available() {
+                            return 1_000;
+                        }
+                    }
+                )
+            ).asBytes(),
+            new IsEqual<>(new byte[] {1, 2, 3})
+        ).affirm();
+    }
+
+    @Test
+    void readsEmptyInput() throws Exception {
+        new Assertion<>(
+            "must read empty input into an empty array",
+            new InputAsBytes(new InputOf(new byte[0])).asBytes().length,
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyBuffer() {
+        new Assertion<>(
+            "must reject a buffer of zero size",
+            () -> new InputAsBytes(new InputOf("any"), 0).asBytes(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void readsLargeGzipInputInLinearTime() throws Exception {
+        final byte[] content = new byte[4 << 20];
+        new Random(0L).nextBytes(content);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        new Assertion<>(
+            "Must read a large GZIP input, which has one byte available",
+            new InputAsBytes(
+                new GzipInput(new InputOf(out.toByteArray()))
+            ).asBytes(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
 }
@@ -4,11 +4,19 @@
  */
 package org.cactoos.bytes;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.io.ChannelInputOf;
+import org.cactoos.io.HeadOf;
 import org.cactoos.io.InputOf;
+import org.cactoos.io.MappedInput;
 import org.cactoos.io.ResourceOf;
 import org.cactoos.io.Sticky;
 import org.cactoos.text.HexOf;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasString;
 
@@ -71,4 +79,45 @@ final class Md5DigestOfTest {
         ).affirm();
     }
 
+    @Test
+    void checksumOfMappedFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("hello.txt");
+        Files.write(file, "Hello World!".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Can't calculate the mapped file's MD5 checksum",
+            new HexOf(new Md5DigestOf(new MappedInput(file, 5))),
+            new HasString("ed076287532e86365e841e92bfc50d8c")
+        ).affirm();
+    }
+
+    @Test
+    void checksumOfChannel() {
+        final byte[] bytes = "Hello World!".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        new Assertion<>(
+            "Can't calculate the channel's MD5 checksum",
+            new HexOf(
+                new Md5DigestOf(new InputOf(new ChannelInputOf(buffer)), 5)
+            ),
+            new HasString("ed076287532e86365e841e92bfc50d8c")
+        ).affirm();
+    }
+
+    @Test
+    void checksumOfHeadOfMappedFile(@TempDir final Path wdir)
+        throws Exception {
+        final Path file = wdir.resolve("head.txt");
+        Files.write(
+            file, "Hello World! And more".getBytes(StandardCharsets.UTF_8)
+        );
+        new Assertion<>(
+            "Can't calculate MD5 checksum of the mapped file's head",
+            new HexOf(
+                new Md5DigestOf(new HeadOf(new MappedInput(file, 5), 12))
+            ),
+            new HasString("ed076287532e86365e841e92bfc50d8c")
+        ).affirm();
+    }
 }
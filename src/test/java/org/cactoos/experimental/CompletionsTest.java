@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Completions}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.CloseResource")
+final class CompletionsTest {
+
+    @Test
+    void returnsFuturesOfFinishedTasks() throws Exception {
+        final ExecutorService extor = Executors.newSingleThreadExecutor();
+        try {
+            final Completions<String> futures = new Completions<>(
+                extor,
+                Duration.ofMinutes(1L),
+                new ListOf<Callable<String>>(() -> "a")
+            );
+            new Assertion<>(
+                "Must return the future of the finished task",
+                futures.next().get(),
+                new IsEqual<>("a")
+            ).affirm();
+            new Assertion<>(
+                "Must have no more futures",
+                futures::next,
+                new Throws<>(NoSuchElementException.class)
+            ).affirm();
+        } finally {
+            extor.shutdownNow();
+        }
+    }
+
+    @Test
+    void returnsCancelledFuturesAfterTimeout() {
+        final ExecutorService extor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> future = new Completions<>(
+                extor,
+                Duration.ofMillis(50L),
+                new ListOf<Callable<String>>(
+                    () -> {
+                        TimeUnit.DAYS.sleep(1L);
+                        return "b";
+                    }
+                )
+            ).next();
+            new Assertion<>(
+                "Must cancel the task which is not finished in time",
+                future.isCancelled(),
+                new IsTrue()
+            ).affirm();
+        } finally {
+            extor.shutdownNow();
+        }
+    }
+}
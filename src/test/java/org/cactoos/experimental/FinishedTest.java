@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterator.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Finished}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.AvoidDuplicateLiterals", "PMD.CloseResource"})
+final class FinishedTest {
+
+    @Test
+    void containsResultsOfAllTasks() {
+        new Assertion<>(
+            "Must contain results of all tasks",
+            new Finished<>(
+                () -> "first",
+                () -> "second",
+                () -> "third"
+            ),
+            new HasValues<>("first", "second", "third")
+        ).affirm();
+    }
+
+    @Test
+    void returnsResultsInOrderOfCompletion() {
+        final CountDownLatch fast = new CountDownLatch(1);
+        new Assertion<>(
+            "Must return the fast result before the slow one",
+            new ListOf<>(
+                new Mapped<>(
+                    result -> {
+                        fast.countDown();
+                        return result;
+                    },
+                    new Finished<>(
+                        () -> {
+                            fast.await();
+                            return "slow";
+                        },
+                        () -> "fast"
+                    ).iterator()
+                )
+            ),
+            new IsEqual<>(new ListOf<>("fast", "slow"))
+        ).affirm();
+    }
+
+    @Test
+    void returnsFirstResultBeforeOthersFinish() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Iterator<String> results = new Finished<>(
+            () -> {
+                release.await();
+                return "late";
+            },
+            () -> "early"
+        ).iterator();
+        new Assertion<>(
+            "Must return the first result while the other task still runs",
+            results.next(),
+            new IsEqual<>("early")
+        ).affirm();
+        release.countDown();
+        new Assertion<>(
+            "Must return the second result after its task is finished",
+            results.next(),
+            new IsEqual<>("late")
+        ).affirm();
+    }
+
+    @Test
+    void reusesExecutorInEveryIteration() {
+        final ExecutorService extor = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicInteger calls = new AtomicInteger();
+            final Iterable<Integer> results = new Finished<>(
+                extor,
+                calls::incrementAndGet
+            );
+            new ListOf<>(results);
+            new Assertion<>(
+                "Must run the tasks again in the same executor",
+                results,
+                new HasValues<>(2)
+            ).affirm();
+        } finally {
+            extor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancelsTasksAfterTimeout() {
+        final ExecutorService extor = Executors.newFixedThreadPool(2);
+        try {
+            new Assertion<>(
+                "Must cancel the tasks which are not finished in time",
+                () -> new ListOf<>(
+                    new Finished<>(
+                        extor,
+                        Duration.ofMillis(100L),
+                        () -> "done",
+                        () -> {
+                            TimeUnit.DAYS.sleep(1L);
+                            return "never";
+                        }
+                    )
+                ),
+                new Throws<>(CancellationException.class)
+            ).affirm();
+        } finally {
+            extor.shutdownNow();
+        }
+    }
+}
@@ -31,6 +31,25 @@ final class ThreadsTest {
      */
     private static final int REPETITIONS = 5;
 
+    /**
+     * Execute the tasks concurrently using {@link Threads} in the shared
+     *  {@link ExecutorService}.
+     */
+    @Test
+    void containsResultsOfSharedThreads() {
+        new Assertion<>(
+            "Must contain results from callables in shared threads",
+            new Threads<>(
+                () -> "txt 1",
+                () -> "txt 2"
+            ),
+            new HasValues<>(
+                "txt 1",
+                "txt 2"
+            )
+        ).affirm();
+    }
+
     /**
      * Execute the tasks concurrently using {@link Threads} when
      *  {@link ExecutorService} was initiated by someone else.
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link Backoff}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class BackoffTest {
+
+    @Test
+    void returnsFixedDelay() {
+        new Assertion<>(
+            "Must return the same delay",
+            new Backoff.Fixed(Duration.ofSeconds(2L)).delay(Duration.ofSeconds(9L)),
+            new IsEqual<>(Duration.ofSeconds(2L))
+        ).affirm();
+    }
+
+    @Test
+    void startsExponentialDelayFromBase() {
+        new Assertion<>(
+            "Must start from the base",
+            new Backoff.Exponential(Duration.ofMillis(100L), Duration.ofSeconds(1L))
+                .delay(Duration.ZERO),
+            new IsEqual<>(Duration.ofMillis(100L))
+        ).affirm();
+    }
+
+    @Test
+    void doublesExponentialDelay() {
+        new Assertion<>(
+            "Must double the previous delay",
+            new Backoff.Exponential(Duration.ofMillis(100L), Duration.ofSeconds(1L))
+                .delay(Duration.ofMillis(300L)),
+            new IsEqual<>(Duration.ofMillis(600L))
+        ).affirm();
+    }
+
+    @Test
+    void capsExponentialDelay() {
+        new Assertion<>(
+            "Must not exceed the cap",
+            new Backoff.Exponential(Duration.ofMillis(100L), Duration.ofSeconds(1L))
+                .delay(Duration.ofMillis(800L)),
+            new IsEqual<>(Duration.ofSeconds(1L))
+        ).affirm();
+    }
+
+    @RepeatedTest(10)
+    void keepsDecorrelatedDelayInBounds() {
+        final Duration delay = new Backoff.Decorrelated(
+            Duration.ofMillis(100L), Duration.ofSeconds(1L)
+        ).delay(Duration.ofMillis(200L));
+        new Assertion<>(
+            "Must be between the base and three previous delays",
+            delay.compareTo(Duration.ofMillis(100L)) >= 0
+                && delay.compareTo(Duration.ofMillis(600L)) <= 0,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @RepeatedTest(10)
+    void capsDecorrelatedDelay() {
+        new Assertion<>(
+            "Must not exceed the cap",
+            new Backoff.Decorrelated(
+                Duration.ofMillis(100L), Duration.ofSeconds(1L)
+            ).delay(Duration.ofDays(1L)).compareTo(Duration.ofSeconds(1L)) <= 0,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void startsDecorrelatedDelayNearBase() {
+        new Assertion<>(
+            "Must start between the base and three bases",
+            new Backoff.Decorrelated(
+                Duration.ofMillis(100L), Duration.ofSeconds(1L)
+            ).delay(Duration.ZERO).compareTo(Duration.ofMillis(300L)) <= 0,
+            new IsTrue()
+        ).affirm();
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Batched}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class BatchedTest {
+
+    @Test
+    void callsBulkFuncWithFullBatch() throws Exception {
+        final List<Collection<Integer>> batches = new CopyOnWriteArrayList<>();
+        final Func<Integer, Integer> func = new Batched<>(
+            inputs -> {
+                batches.add(inputs);
+                final Map<Integer, Integer> results = new HashMap<>(0);
+                for (final Integer input : inputs) {
+                    results.put(input, input * 10);
+                }
+                return results;
+            },
+            4,
+            Duration.ofMinutes(1L)
+        );
+        final List<Future<Integer>> futures = new ArrayList<>(4);
+        for (int idx = 1; idx <= 4; ++idx) {
+            futures.add(new Async<>(func).apply(idx));
+        }
+        int sum = 0;
+        for (final Future<Integer> future : futures) {
+            sum += future.get(1L, TimeUnit.MINUTES);
+        }
+        new Assertion<>(
+            "Must give each call its own result",
+            sum,
+            new IsEqual<>(100)
+        ).affirm();
+        new Assertion<>(
+            "Must call the bulk func once",
+            batches.size(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void callsBulkFuncAfterTime() throws Exception {
+        new Assertion<>(
+            "Must call the bulk func when the time is over",
+            new Batched<String, Integer>(
+                inputs -> {
+                    final Map<String, Integer> results = new HashMap<>(0);
+                    for (final String input : inputs) {
+                        results.put(input, input.length());
+                    }
+                    return results;
+                },
+                100,
+                Duration.ofMillis(5L)
+            ).apply("alone"),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void givesEqualInputsOnce() throws Exception {
+        final List<Collection<String>> batches = new CopyOnWriteArrayList<>();
+        final Func<String, String> func = new Batched<>(
+            inputs -> {
+                batches.add(inputs);
+                final Map<String, String> results = new HashMap<>(0);
+                for (final String input : inputs) {
+                    results.put(input, input.toUpperCase(Locale.ENGLISH));
+                }
+                return results;
+            },
+            2,
+            Duration.ofMillis(200L)
+        );
+        final Future<String> first = new Async<>(func).apply("same");
+        final Future<String> second = new Async<>(func).apply("same");
+        new Assertion<>(
+            "Must give the result to both calls",
+            new ListOf<>(
+                first.get(1L, TimeUnit.MINUTES),
+                second.get(1L, TimeUnit.MINUTES)
+            ),
+            new IsEqual<>(new ListOf<>("SAME", "SAME"))
+        ).affirm();
+        new Assertion<>(
+            "Must give the input to the bulk func once",
+            batches.get(0).size(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void failsWithoutResult() {
+        new Assertion<>(
+            "Must fail when the bulk func has no result for the input",
+            () -> new Batched<String, String>(
+                inputs -> new HashMap<>(0),
+                1,
+                Duration.ofMinutes(1L)
+            ).apply("missing"),
+            new Throws<>("No result for missing", NoSuchElementException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsWithExceptionOfBulkFunc() {
+        new Assertion<>(
+            "Must throw the exception of the bulk func",
+            () -> new Batched<String, String>(
+                inputs -> {
+                    throw new IOException("Bulk failed");
+                },
+                1,
+                Duration.ofMinutes(1L)
+            ).apply("x"),
+            new Throws<>("Bulk failed", IOException.class)
+        ).affirm();
+    }
+
+
+    @Test
+    void failsAllCallsWithErrorOfBulkFunc() throws Exception {
+        final Func<String, String> func = new Batched<>(
+            inputs -> {
+                throw new LinkageError("Bulk broken");
+            },
+            2,
+            Duration.ofMinutes(1L)
+        );
+        final Future<String> first = new Async<>(func).apply("a");
+        final Future<String> second = new Async<>(func).apply("b");
+        new Assertion<>(
+            "Must fail the first call with the error",
+            () -> first.get(1L, TimeUnit.MINUTES),
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must fail the second call with the error",
+            () -> second.get(1L, TimeUnit.MINUTES),
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void dispatchesBatchWhenLeaderIsInterrupted() throws Exception {
+        final Func<String, String> func = new Batched<>(
+            inputs -> {
+                final Map<String, String> results = new HashMap<>(0);
+                for (final String input : inputs) {
+                    results.put(input, input.toUpperCase(Locale.ENGLISH));
+                }
+                return results;
+            },
+            10,
+            Duration.ofMinutes(1L)
+        );
+        final CompletableFuture<String> result = new CompletableFuture<>();
+        final Thread leader = new Thread(
+            () -> {
+                try {
+                    func.apply("leader");
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        );
+        final Thread follower = new Thread(
+            () -> {
+                try {
+                    result.complete(func.apply("follower"));
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    result.completeExceptionally(ex);
+                }
+            }
+        );
+        leader.start();
+        while (leader.getState() != Thread.State.TIMED_WAITING) {
+            Thread.yield();
+        }
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING) {
+            Thread.yield();
+        }
+        leader.interrupt();
+        new Assertion<>(
+            "Must dispatch the batch of the interrupted leader",
+            result.get(1L, TimeUnit.MINUTES),
+            new IsEqual<>("FOLLOWER")
+        ).affirm();
+    }
+}
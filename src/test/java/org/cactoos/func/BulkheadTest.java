@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Fallback;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Bulkhead}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class BulkheadTest {
+
+    @Test
+    void callsFuncWithinLimit() throws Exception {
+        new Assertion<>(
+            "Must call the func",
+            new Bulkhead<String, Integer>(String::length, 1).apply("abc"),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsCallsOverLimit() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Func<Integer, Integer> bulkhead = new Bulkhead<>(
+            input -> {
+                started.countDown();
+                release.await();
+                return input;
+            },
+            1
+        );
+        final Future<Integer> busy = new Async<>(bulkhead).apply(1);
+        started.await();
+        new Assertion<>(
+            "Must reject the call over the limit",
+            () -> bulkhead.apply(2),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+        release.countDown();
+        new Assertion<>(
+            "Must finish the call in progress",
+            busy.get(1L, TimeUnit.MINUTES),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must accept calls when the slot is free",
+            bulkhead.apply(3),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void waitsForFreeSlot() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final Func<Integer, Integer> bulkhead = new Bulkhead<>(
+            input -> {
+                started.countDown();
+                TimeUnit.MILLISECONDS.sleep(50L);
+                return input;
+            },
+            1,
+            Duration.ofMinutes(1L)
+        );
+        new Async<>(bulkhead).apply(1);
+        started.await();
+        new Assertion<>(
+            "Must wait for the free slot",
+            bulkhead.apply(2),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithFallback() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Func<Integer, Integer> bulkhead = new Bulkhead<>(
+            input -> {
+                started.countDown();
+                release.await();
+                return input;
+            },
+            1
+        );
+        new Async<>(bulkhead).apply(1);
+        started.await();
+        new Assertion<>(
+            "Must recover from the rejected call",
+            new FuncWithFallback<>(
+                bulkhead,
+                new Fallback.From<>(
+                    RejectedExecutionException.class, error -> 0
+                )
+            ).apply(2),
+            new IsEqual<>(0)
+        ).affirm();
+        release.countDown();
+    }
+}
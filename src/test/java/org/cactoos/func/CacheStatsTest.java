@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CacheStats}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CacheStatsTest {
+
+    @Test
+    void countsEverything() throws Exception {
+        final CacheStats stats = new CacheStats.Counting();
+        stats.hit();
+        stats.hit();
+        stats.hit();
+        stats.miss(() -> 1);
+        stats.eviction();
+        stats.size(5L);
+        new Assertion<>(
+            "Must count everything",
+            stats.snapshot().toString(),
+            new IsEqual<>(
+                String.format(
+                    "hits=3, misses=1, hit rate=0.75, evictions=1, size=5, miss=%dns",
+                    stats.snapshot().missNanos()
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void countsFailedMisses() {
+        final CacheStats stats = new CacheStats.Counting();
+        new Assertion<>(
+            "Must rethrow the exception of the calculation",
+            () -> stats.miss(
+                () -> {
+                    throw new IOException("Failed");
+                }
+            ),
+            new Throws<>("Failed", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must count the failed miss",
+            stats.snapshot().misses(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+
+    @Test
+    void recordsNothing() throws Exception {
+        final CacheStats stats = new CacheStats.None();
+        stats.hit();
+        new Assertion<>(
+            "Must calculate the missing value",
+            stats.miss(() -> 1),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must record nothing",
+            stats.snapshot().hits(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void hasFullHitRateWithoutRequests() {
+        new Assertion<>(
+            "Must have full hit rate",
+            new CacheStats.Counting().snapshot().hitRate(),
+            new IsEqual<>(1.0d)
+        ).affirm();
+    }
+}
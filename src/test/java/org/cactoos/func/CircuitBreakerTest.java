@@ -0,0 +1,262 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Fallback;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CircuitBreaker}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CircuitBreakerTest {
+
+    @Test
+    void callsFuncWhileClosed() throws Exception {
+        new Assertion<>(
+            "Must call the func while the circuit is closed",
+            new CircuitBreaker<String, Integer>(
+                String::length, Duration.ofMinutes(1L)
+            ).apply("four"),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void opensAfterTooManyFailures() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> breaker = new CircuitBreaker<>(
+            input -> {
+                calls.incrementAndGet();
+                throw new IOException("Down");
+            },
+            0.5d, 4, Duration.ofMinutes(1L)
+        );
+        for (int idx = 0; idx < 4; ++idx) {
+            new Assertion<>(
+                "Must throw the failure of the func",
+                () -> breaker.apply(0),
+                new Throws<>("Down", IOException.class)
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must reject the call when the circuit is open",
+            () -> breaker.apply(0),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not call the func when the circuit is open",
+            calls.get(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void staysClosedWithRareFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> breaker = new CircuitBreaker<>(
+            input -> {
+                if (calls.incrementAndGet() % 4 == 0) {
+                    throw new IOException("Rare");
+                }
+                return input;
+            },
+            0.5d, 4, Duration.ofMinutes(1L)
+        );
+        for (int idx = 1; idx < 19; ++idx) {
+            if (idx % 4 != 0) {
+                breaker.apply(idx);
+            }
+            if (idx % 4 == 0) {
+                new Assertion<>(
+                    "Must throw the rare failure",
+                    () -> breaker.apply(0),
+                    new Throws<>("Rare", IOException.class)
+                ).affirm();
+            }
+        }
+        new Assertion<>(
+            "Must keep calling the func",
+            breaker.apply(42),
+            new IsEqual<>(42)
+        ).affirm();
+    }
+
+    @Test
+    void closesAfterSuccessfulProbe() throws Exception {
+        final AtomicBoolean down = new AtomicBoolean(true);
+        final Func<Integer, Integer> breaker = new CircuitBreaker<>(
+            input -> {
+                if (down.get()) {
+                    throw new IOException("Still down");
+                }
+                return input;
+            },
+            1.0d, 2, Duration.ofMillis(50L)
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            new Assertion<>(
+                "Must fail while the backend is down",
+                () -> breaker.apply(1),
+                new Throws<>(IOException.class)
+            ).affirm();
+        }
+        down.set(false);
+        new Assertion<>(
+            "Must reject calls while the circuit is open",
+            () -> breaker.apply(1),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        new Assertion<>(
+            "Must let the probe through",
+            breaker.apply(2),
+            new IsEqual<>(2)
+        ).affirm();
+        new Assertion<>(
+            "Must be closed after the successful probe",
+            breaker.apply(3),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void opensAgainAfterFailedProbe() throws Exception {
+        final Func<Integer, Integer> breaker = new CircuitBreaker<>(
+            input -> {
+                throw new IOException("Dead");
+            },
+            1.0d, 1, Duration.ofMillis(50L)
+        );
+        new Assertion<>(
+            "Must fail the first call",
+            () -> breaker.apply(1),
+            new Throws<>(IOException.class)
+        ).affirm();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        new Assertion<>(
+            "Must fail the probe",
+            () -> breaker.apply(1),
+            new Throws<>(IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must be open after the failed probe",
+            () -> breaker.apply(1),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithFallback() throws Exception {
+        final Func<Integer, String> breaker = new CircuitBreaker<>(
+            input -> {
+                throw new IOException("Gone");
+            },
+            1.0d, 1, Duration.ofMinutes(1L)
+        );
+        final Func<Integer, String> safe = new FuncWithFallback<>(
+            breaker,
+            new Fallback.From<>(
+                RejectedExecutionException.class, error -> "cached"
+            ),
+            new Fallback.From<>(IOException.class, error -> "failed")
+        );
+        safe.apply(1);
+        new Assertion<>(
+            "Must recover from the open circuit",
+            safe.apply(1),
+            new IsEqual<>("cached")
+        ).affirm();
+    }
+
+
+    @Test
+    void probesAgainAfterErrorOfProbe() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> breaker = new CircuitBreaker<>(
+            input -> {
+                final int call = calls.incrementAndGet();
+                if (call == 1) {
+                    throw new IOException("Down");
+                }
+                if (call == 2) {
+                    throw new LinkageError("Broken probe");
+                }
+                return input;
+            },
+            1.0d, 1, Duration.ofMillis(50L)
+        );
+        new Assertion<>(
+            "Must fail the first call",
+            () -> breaker.apply(1),
+            new Throws<>(IOException.class)
+        ).affirm();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        boolean thrown = false;
+        try {
+            breaker.apply(1);
+        } catch (final LinkageError err) {
+            thrown = true;
+        }
+        new Assertion<>(
+            "Must throw the error of the probe",
+            thrown,
+            new IsTrue()
+        ).affirm();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        new Assertion<>(
+            "Must let the next probe through after the error",
+            breaker.apply(5),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyWindow() {
+        new Assertion<>(
+            "Must reject the window of zero calls",
+            () -> new CircuitBreaker<>(
+                (String input) -> input, 0.5d, 0, Duration.ofSeconds(1L)
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsZeroRate() {
+        new Assertion<>(
+            "Must reject the zero rate of failures",
+            () -> new CircuitBreaker<>(
+                (String input) -> input, 0.0d, 10, Duration.ofSeconds(1L)
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsRateAboveOne() {
+        new Assertion<>(
+            "Must reject the rate of failures above 1",
+            () -> new CircuitBreaker<>(
+                (String input) -> input, 1.5d, 10, Duration.ofSeconds(1L)
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CompletableAll}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CompletableAllTest {
+
+    @Test
+    void collectsResultsInOrderOfFuncs() throws Exception {
+        new Assertion<>(
+            "Must collect results in the order of the funcs",
+            new CompletableAll<Integer, Integer>(
+                new Completable<>(
+                    input -> {
+                        TimeUnit.MILLISECONDS.sleep(50L);
+                        return input + 1;
+                    }
+                ),
+                new Completable<>(input -> input + 2),
+                new Completable<>(input -> input + 3)
+            ).apply(10).get(),
+            new IsEqual<>(new ListOf<>(11, 12, 13))
+        ).affirm();
+    }
+
+    @Test
+    void failsWithoutWaitingForOthers() {
+        new Assertion<>(
+            "Must fail as soon as one func fails",
+            () -> new CompletableAll<Integer, Integer>(
+                input -> new CompletableFuture<>(),
+                new Completable<>(
+                    input -> {
+                        throw new IOException("One failed");
+                    }
+                )
+            ).apply(1).get(1L, TimeUnit.MINUTES),
+            new Throws<>("java.io.IOException: One failed", ExecutionException.class)
+        ).affirm();
+    }
+}
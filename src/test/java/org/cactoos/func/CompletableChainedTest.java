@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CompletableChained}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CompletableChainedTest {
+
+    @Test
+    void mapsResult() throws Exception {
+        new Assertion<>(
+            "Must map the result of the future",
+            new CompletableChained<String, String, Integer>(
+                new Completable<>(String::trim),
+                String::length
+            ).apply("  four ").get(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotMapBeforeResultIsReady() throws Exception {
+        final CompletableFuture<String> origin = new CompletableFuture<>();
+        final CompletableFuture<Integer> mapped =
+            new CompletableChained<String, String, Integer>(
+                input -> origin,
+                String::length
+            ).apply("x");
+        new Assertion<>(
+            "Must not be ready before the original future",
+            mapped.isDone(),
+            new IsEqual<>(false)
+        ).affirm();
+        origin.complete("ready");
+        new Assertion<>(
+            "Must map the result when it is ready",
+            mapped.get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void failsWithExceptionOfMapping() {
+        new Assertion<>(
+            "Must fail with the exception of the mapping func",
+            () -> new CompletableChained<String, String, String>(
+                new Completable<>(String::trim),
+                input -> {
+                    throw new IOException("No mapping");
+                }
+            ).apply("x").get(),
+            new Throws<>("java.io.IOException: No mapping", ExecutionException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CompletableComposed}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CompletableComposedTest {
+
+    @Test
+    void composesFuncs() throws Exception {
+        new Assertion<>(
+            "Must give the result of the first func to the second one",
+            new CompletableComposed<String, String, Integer>(
+                new Completable<>(String::trim),
+                new Completable<>(String::length)
+            ).apply(" five  ").get(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void skipsSecondFuncOnFailure() {
+        new Assertion<>(
+            "Must fail with the exception of the first func",
+            () -> new CompletableComposed<String, String, Integer>(
+                input -> {
+                    final CompletableFuture<String> failed =
+                        new CompletableFuture<>();
+                    failed.completeExceptionally(new IOException("First"));
+                    return failed;
+                },
+                new Completable<>(String::length)
+            ).apply("x").get(),
+            new Throws<>("java.io.IOException: First", ExecutionException.class)
+        ).affirm();
+    }
+}
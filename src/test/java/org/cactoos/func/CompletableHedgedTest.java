@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CompletableHedged}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CompletableHedgedTest {
+
+    @Test
+    void doesNotHedgeFastAttempt() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must return the result of the only attempt",
+            new CompletableHedged<String, Integer>(
+                input -> CompletableFuture.completedFuture(
+                    calls.incrementAndGet()
+                ),
+                Duration.ofMillis(50L)
+            ).apply("x").get(1L, TimeUnit.MINUTES),
+            new IsEqual<>(1)
+        ).affirm();
+        TimeUnit.MILLISECONDS.sleep(100L);
+        new Assertion<>(
+            "Must not start the hedged attempt",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void returnsHedgedResultAndInterruptsSlowAttempt() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must return the result of the hedged attempt",
+            new CompletableHedged<String, String>(
+                new Completable<>(
+                    input -> {
+                        String result = "hedged";
+                        if (calls.incrementAndGet() == 1) {
+                            try {
+                                new CountDownLatch(1).await();
+                            } catch (final InterruptedException ex) {
+                                interrupted.countDown();
+                            }
+                            result = "stuck";
+                        }
+                        return result;
+                    }
+                ),
+                Duration.ofMillis(10L)
+            ).apply("x").get(1L, TimeUnit.MINUTES),
+            new IsEqual<>("hedged")
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the thread of the slow attempt",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void waitsForHedgeWhenFirstFails() throws Exception {
+        final CompletableFuture<String> first = new CompletableFuture<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<String> result =
+            new CompletableHedged<String, String>(
+                input -> {
+                    final CompletableFuture<String> future;
+                    if (calls.incrementAndGet() == 1) {
+                        future = first;
+                    } else {
+                        future = new Completable<String, String>(
+                            text -> {
+                                TimeUnit.MILLISECONDS.sleep(50L);
+                                return text;
+                            }
+                        ).apply("second");
+                    }
+                    return future;
+                },
+                Duration.ofMillis(10L)
+            ).apply("x");
+        while (calls.get() < 2) {
+            TimeUnit.MILLISECONDS.sleep(1L);
+        }
+        first.completeExceptionally(new IOException("First failed"));
+        new Assertion<>(
+            "Must return the result of the hedged attempt",
+            result.get(1L, TimeUnit.MINUTES),
+            new IsEqual<>("second")
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenFirstFailsBeforeDelay() {
+        new Assertion<>(
+            "Must fail without hedging",
+            () -> new CompletableHedged<String, String>(
+                new Completable<>(
+                    input -> {
+                        throw new IOException("Fast failure");
+                    }
+                ),
+                Duration.ofMinutes(1L)
+            ).apply("x").get(1L, TimeUnit.MINUTES),
+            new Throws<>("java.io.IOException: Fast failure", ExecutionException.class)
+        ).affirm();
+    }
+}
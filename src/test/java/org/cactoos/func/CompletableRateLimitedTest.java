@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CompletableRateLimited}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CompletableRateLimitedTest {
+
+    @Test
+    void callsFuncAtOnceWithToken() throws Exception {
+        new Assertion<>(
+            "Must call the func at once",
+            new CompletableRateLimited<String, Integer>(
+                input -> CompletableFuture.completedFuture(input.length()),
+                new TokenBucket(10.0d)
+            ).apply("abcd").isDone(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void delaysCallWithoutBlocking() throws Exception {
+        final Func<String, CompletableFuture<Integer>> func =
+            new CompletableRateLimited<>(
+                input -> CompletableFuture.completedFuture(input.length()),
+                new TokenBucket(10.0d)
+            );
+        func.apply("a");
+        final CompletableFuture<Integer> delayed = func.apply("abc");
+        new Assertion<>(
+            "Must not be done before the token is available",
+            delayed.isDone(),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must call the func when the token is available",
+            delayed.get(1L, TimeUnit.MINUTES),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CompletableRetry}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CompletableRetryTest {
+
+    @Test
+    void retriesUntilSuccess() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must return the result of the successful attempt",
+            new CompletableRetry<String, Integer>(
+                new Completable<>(
+                    input -> {
+                        if (calls.incrementAndGet() < 3) {
+                            throw new IOException("Not yet");
+                        }
+                        return input.length();
+                    }
+                ),
+                5,
+                new Backoff.Fixed(Duration.ofMillis(1L))
+            ).apply("abcd").get(1L, TimeUnit.MINUTES),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterLastAttempt() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must fail with the last exception",
+            () -> new CompletableRetry<String, Integer>(
+                new Completable<>(
+                    input -> {
+                        throw new IOException(
+                            String.valueOf(calls.incrementAndGet())
+                        );
+                    }
+                ),
+                3,
+                new Backoff.Exponential(Duration.ofMillis(1L), Duration.ofMillis(4L))
+            ).apply("x").get(1L, TimeUnit.MINUTES),
+            new Throws<>("java.io.IOException: 3", ExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenBudgetIsSpent() {
+        new Assertion<>(
+            "Must fail when the next attempt is out of budget",
+            () -> new CompletableRetry<String, Integer>(
+                new Completable<>(
+                    input -> {
+                        throw new IOException("Out of budget");
+                    }
+                ),
+                Integer.MAX_VALUE,
+                new Backoff.Fixed(Duration.ofSeconds(1L)),
+                Duration.ofMillis(500L)
+            ).apply("x").get(1L, TimeUnit.MINUTES),
+            new Throws<>("java.io.IOException: Out of budget", ExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotBlockCaller() {
+        final CompletableFuture<Integer> future =
+            new CompletableRetry<String, Integer>(
+                input -> {
+                    final CompletableFuture<Integer> failed =
+                        new CompletableFuture<>();
+                    failed.completeExceptionally(new IOException("Later"));
+                    return failed;
+                },
+                2,
+                new Backoff.Fixed(Duration.ofMinutes(1L))
+            ).apply("x");
+        new Assertion<>(
+            "Must return before the delay is over",
+            future.isDone(),
+            new IsEqual<>(false)
+        ).affirm();
+        future.cancel(true);
+    }
+
+    @Test
+    void stopsAfterCancellation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<Integer> future =
+            new CompletableRetry<String, Integer>(
+                input -> {
+                    calls.incrementAndGet();
+                    final CompletableFuture<Integer> failed =
+                        new CompletableFuture<>();
+                    failed.completeExceptionally(new IOException("Again"));
+                    return failed;
+                },
+                Integer.MAX_VALUE,
+                new Backoff.Fixed(Duration.ofMillis(50L))
+            ).apply("x");
+        future.cancel(true);
+        TimeUnit.MILLISECONDS.sleep(200L);
+        new Assertion<>(
+            "Must not try again after cancellation",
+            calls.get() <= 2,
+            new IsTrue()
+        ).affirm();
+    }
+}
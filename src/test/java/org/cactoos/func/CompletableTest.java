@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Completable}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CompletableTest {
+
+    @Test
+    void runsFuncInBackground() throws Exception {
+        new Assertion<>(
+            "Must run the func in another thread",
+            new Completable<String, Thread>(
+                input -> Thread.currentThread()
+            ).apply("x").get(),
+            new IsNot<>(new IsEqual<>(Thread.currentThread()))
+        ).affirm();
+    }
+
+    @Test
+    void runsFuncInGivenExecutor() throws Exception {
+        new Assertion<>(
+            "Must run the func in the given executor",
+            new Completable<String, Integer>(String::length, Runnable::run)
+                .apply("hello").getNow(0),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void failsWithExceptionOfFunc() {
+        new Assertion<>(
+            "Must fail with the exception of the func",
+            () -> new Completable<String, String>(
+                input -> {
+                    throw new IOException("Failure");
+                }
+            ).apply("x").get(),
+            new Throws<>("java.io.IOException: Failure", ExecutionException.class)
+        ).affirm();
+    }
+}
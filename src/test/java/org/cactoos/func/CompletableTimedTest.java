@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.StringContains;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CompletableTimed}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CompletableTimedTest {
+
+    @Test
+    void returnsResultInTime() throws Exception {
+        new Assertion<>(
+            "Must return the result ready in time",
+            new CompletableTimed<String, Integer>(
+                new Completable<>(String::length),
+                Duration.ofMinutes(1L)
+            ).apply("abc").get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterTimeout() {
+        new Assertion<>(
+            "Must fail when the time is over",
+            () -> new CompletableTimed<String, Integer>(
+                input -> new CompletableFuture<>(),
+                Duration.ofMillis(10L)
+            ).apply("abc").get(),
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsOriginalAfterTimeout() throws Exception {
+        final CompletableFuture<Integer> origin = new CompletableFuture<>();
+        final CompletableFuture<Integer> timed =
+            new CompletableTimed<String, Integer>(
+                input -> origin,
+                Duration.ofMillis(10L)
+            ).apply("abc");
+        new Assertion<>(
+            "Must fail with timeout",
+            timed::get,
+            new Throws<>(
+                new StringContains("TimeoutException: Not finished in"),
+                ExecutionException.class
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must cancel the original future",
+            origin.isCancelled(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void interruptsWorkAfterTimeout() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        new CompletableTimed<String, String>(
+            new Completable<>(
+                input -> {
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (final InterruptedException ex) {
+                        interrupted.countDown();
+                    }
+                    return input;
+                }
+            ),
+            Duration.ofMillis(10L)
+        ).apply("abc");
+        new Assertion<>(
+            "Must interrupt the work when the time is over",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            new IsTrue()
+        ).affirm();
+    }
+}
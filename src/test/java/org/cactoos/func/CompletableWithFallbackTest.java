@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.cactoos.Fallback;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CompletableWithFallback}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CompletableWithFallbackTest {
+
+    @Test
+    void returnsResultWithoutFailure() throws Exception {
+        new Assertion<>(
+            "Must return the original result",
+            new CompletableWithFallback<String, String>(
+                new Completable<>(String::trim),
+                new Fallback.From<>(IOException.class, error -> "fallback")
+            ).apply(" ok ").get(),
+            new IsEqual<>("ok")
+        ).affirm();
+    }
+
+    @Test
+    void usesMostSuitableFallback() throws Exception {
+        new Assertion<>(
+            "Must use the fallback of the closest exception type",
+            new CompletableWithFallback<String, String>(
+                new Completable<>(
+                    input -> {
+                        throw new IOException("Broken");
+                    }
+                ),
+                new Fallback.From<>(Exception.class, error -> "generic"),
+                new Fallback.From<>(IOException.class, Throwable::getMessage)
+            ).apply("x").get(),
+            new IsEqual<>("Broken")
+        ).affirm();
+    }
+
+    @Test
+    void failsWithoutSuitableFallback() {
+        new Assertion<>(
+            "Must fail when no fallback is suitable",
+            () -> new CompletableWithFallback<String, String>(
+                new Completable<>(
+                    input -> {
+                        throw new IOException("Unexpected");
+                    }
+                ),
+                new Fallback.From<>(
+                    IllegalStateException.class, error -> "never"
+                )
+            ).apply("x").get(),
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void wrapsThrowableThatIsNeitherExceptionNorError() throws Exception {
+        new Assertion<>(
+            "Must give an odd throwable to the fallbacks, wrapped",
+            new CompletableWithFallback<String, String>(
+                input -> {
+                    final CompletableFuture<String> future =
+                        new CompletableFuture<>();
+                    future.completeExceptionally(new Throwable("Odd"));
+                    return future;
+                },
+                new Fallback.From<>(
+                    IllegalStateException.class,
+                    error -> error.getCause().getMessage()
+                )
+            ).apply("x").get(),
+            new IsEqual<>("Odd")
+        ).affirm();
+    }
+}
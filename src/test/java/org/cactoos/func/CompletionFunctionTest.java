@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CompletionFunction}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CompletionFunctionTest {
+
+    @Test
+    void appliesFunc() {
+        new Assertion<>(
+            "Must apply the func",
+            new CompletionFunction<String, Integer>(String::length).apply("abc"),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void wrapsCheckedException() {
+        new Assertion<>(
+            "Must wrap the checked exception",
+            () -> new CompletionFunction<String, String>(
+                input -> {
+                    throw new IOException("Broken");
+                }
+            ).apply("x"),
+            new Throws<>("java.io.IOException: Broken", CompletionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rethrowsUncheckedException() {
+        new Assertion<>(
+            "Must rethrow the unchecked exception as is",
+            () -> new CompletionFunction<String, String>(
+                input -> {
+                    throw new IllegalStateException("Bad");
+                }
+            ).apply("x"),
+            new Throws<>("Bad", IllegalStateException.class)
+        ).affirm();
+    }
+}
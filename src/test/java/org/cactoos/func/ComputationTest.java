@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Computation}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ComputationTest {
+
+    @Test
+    void computesOnlyOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Computation<Integer> computation = new Computation<>(
+            calls::incrementAndGet
+        );
+        computation.run();
+        computation.run();
+        new Assertion<>(
+            "Must compute only once",
+            computation.value(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must be done",
+            computation.done(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void throwsOriginalException() {
+        final Computation<Integer> computation = new Computation<>(
+            () -> {
+                throw new IOException("Original");
+            }
+        );
+        computation.run();
+        new Assertion<>(
+            "Must throw the original exception",
+            computation::value,
+            new Throws<>("Original", IOException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ExpiringFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ExpiringFuncTest {
+
+    @Test
+    void cachesUntilExpiration() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new ExpiringFunc<>(
+            x -> calls.incrementAndGet(),
+            Duration.ofHours(1L)
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must cache the value",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void recalculatesExpiredValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new ExpiringFunc<>(
+            x -> calls.incrementAndGet(),
+            Duration.ZERO
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must recalculate the expired value",
+            func.apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void returnsStaleValueWhileRefreshing() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new ExpiringFunc<>(
+            x -> calls.incrementAndGet(),
+            Duration.ofHours(1L),
+            Duration.ZERO,
+            Runnable::run
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must return the stale value",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must return the refreshed value",
+            func.apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void keepsStaleValueWhenRefreshFails() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new ExpiringFunc<>(
+            x -> {
+                if (calls.incrementAndGet() > 1) {
+                    throw new IOException("Refresh failed");
+                }
+                return x;
+            },
+            Duration.ofHours(1L),
+            Duration.ZERO,
+            Runnable::run
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must keep the stale value",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCacheFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new ExpiringFunc<>(
+            x -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("Intended to fail");
+                }
+                return x;
+            },
+            Duration.ofHours(1L)
+        );
+        new Assertion<>(
+            "Must rethrow the original exception",
+            () -> func.apply(1),
+            new Throws<>("Intended to fail", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate again after a failure",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void worksInThreads() {
+        new Assertion<>(
+            "Must work well in multiple threads",
+            func -> {
+                new Assertion<>(
+                    "Result must be cached",
+                    func.apply(true),
+                    new IsEqual<>(func.apply(true))
+                ).affirm();
+                return true;
+            },
+            new RunsInThreads<>(
+                new ExpiringFunc<>(x -> new ListOf<>(1, 2), Duration.ofHours(1L))
+            )
+        ).affirm();
+    }
+
+
+    @Test
+    void refreshesAgainAfterRejectedRefresh() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger submitted = new AtomicInteger();
+        final Func<Integer, Integer> func = new ExpiringFunc<>(
+            x -> calls.incrementAndGet(),
+            Duration.ofHours(1L),
+            Duration.ZERO,
+            task -> {
+                if (submitted.incrementAndGet() == 1) {
+                    throw new RejectedExecutionException("Busy");
+                }
+                task.run();
+            }
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must return the stale value when the refresh is rejected",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+        func.apply(1);
+        new Assertion<>(
+            "Must refresh the value after the rejected refresh",
+            func.apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Hedged}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class HedgedTest {
+
+    @Test
+    void returnsResultOfFastAttempt() throws Exception {
+        new Assertion<>(
+            "Must return the result",
+            new Hedged<String, Integer>(String::length, Duration.ofSeconds(1L))
+                .apply("hello"),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void returnsResultOfHedgedAttempt() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch never = new CountDownLatch(1);
+        new Assertion<>(
+            "Must return the result of the hedged attempt",
+            new Hedged<String, String>(
+                input -> {
+                    if (calls.incrementAndGet() == 1) {
+                        never.await();
+                    }
+                    return input;
+                },
+                Duration.ofMillis(10L),
+                Duration.ofMinutes(1L)
+            ).apply("fast"),
+            new IsEqual<>("fast")
+        ).affirm();
+    }
+
+    @Test
+    void throwsOriginalException() {
+        new Assertion<>(
+            "Must throw the exception of the func",
+            () -> new Hedged<String, String>(
+                input -> {
+                    throw new IOException("Broken lookup");
+                },
+                Duration.ofMinutes(1L)
+            ).apply("x"),
+            new Throws<>("Broken lookup", IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterTotalTimeout() {
+        new Assertion<>(
+            "Must fail after the total timeout",
+            () -> new Hedged<String, String>(
+                input -> {
+                    TimeUnit.DAYS.sleep(1L);
+                    return input;
+                },
+                Duration.ofMillis(10L),
+                Duration.ofMillis(50L)
+            ).apply("x"),
+            new Throws<>(TimeoutException.class)
+        ).affirm();
+    }
+
+
+    @Test
+    void interruptsAttemptsAfterTotalTimeout() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(2);
+        final Hedged<String, String> hedged = new Hedged<>(
+            input -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (final InterruptedException ex) {
+                    interrupted.countDown();
+                }
+                return input;
+            },
+            Duration.ofMillis(10L),
+            Duration.ofMillis(500L)
+        );
+        new Assertion<>(
+            "Must fail after the total timeout",
+            () -> hedged.apply("x"),
+            new Throws<>(TimeoutException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the threads of both attempts",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            new IsTrue()
+        ).affirm();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link IdleExpiringFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class IdleExpiringFuncTest {
+
+    @Test
+    void cachesWhileAskedFor() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new IdleExpiringFunc<>(
+            x -> calls.incrementAndGet(),
+            Duration.ofHours(1L)
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must cache the value",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void forgetsIdleValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new IdleExpiringFunc<>(
+            x -> calls.incrementAndGet(),
+            Duration.ZERO
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must recalculate the idle value",
+            func.apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link JmxCacheStats}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class JmxCacheStatsTest {
+
+    @Test
+    void exportsStatsThroughJmx() throws Exception {
+        final CacheStats stats = new CacheStats.Counting();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            x -> x, Integer.MAX_VALUE, stats
+        );
+        func.apply(1);
+        func.apply(1);
+        func.apply(2);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(
+            "org.cactoos:type=Cache,name=JmxCacheStatsTest"
+        );
+        server.registerMBean(new JmxCacheStats(stats), name);
+        try {
+            new Assertion<>(
+                "Must export the amount of misses",
+                server.getAttribute(name, "Misses"),
+                new IsEqual<>(2L)
+            ).affirm();
+            new Assertion<>(
+                "Must export the size",
+                server.getAttribute(name, "Size"),
+                new IsEqual<>(2L)
+            ).affirm();
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void readsSnapshot() {
+        final CacheStats stats = new CacheStats.Counting();
+        stats.hit();
+        stats.eviction();
+        final CacheStatsMXBean bean = new JmxCacheStats(stats);
+        new Assertion<>(
+            "Must read the snapshot",
+            bean.getHits() + bean.getEvictions() + bean.getMisses()
+                + bean.getMissNanos(),
+            new IsEqual<>(2L)
+        ).affirm();
+        new Assertion<>(
+            "Must read the hit rate",
+            bean.getHitRate(),
+            new IsEqual<>(1.0d)
+        ).affirm();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.ArrayList;
+import java.util.Map;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link LruMap}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class LruMapTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final Map<Integer, String> map = new LruMap<>(2);
+        map.put(1, "one");
+        map.put(2, "two");
+        map.get(1);
+        map.put(3, "three");
+        new Assertion<>(
+            "Must evict the least recently used entry",
+            map.keySet(),
+            new HasValues<>(1, 3)
+        ).affirm();
+    }
+
+    @Test
+    void neverGrowsBiggerThanMaximum() {
+        final Map<Integer, Integer> map = new LruMap<>(3);
+        for (int idx = 0; idx < 10; ++idx) {
+            map.put(idx, idx);
+        }
+        new Assertion<>(
+            "Must keep not more than the maximum",
+            map.size(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void keepsNothingWithZeroMaximum() {
+        final Map<Integer, Integer> map = new LruMap<>(0);
+        map.put(1, 1);
+        new Assertion<>(
+            "Must keep nothing",
+            map.isEmpty(),
+            new IsTrue()
+        ).affirm();
+    }
+
+
+    @Test
+    void keepsInsertionOrderWithoutLimit() {
+        final Map<Integer, String> map = new LruMap<>(Integer.MAX_VALUE);
+        map.put(1, "one");
+        map.put(2, "two");
+        map.get(1);
+        new Assertion<>(
+            "Must not reorder entries on reads without a limit",
+            new ArrayList<>(map.keySet()),
+            new IsEqual<>(new ListOf<>(1, 2))
+        ).affirm();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.BiFunc;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RateLimitedBiFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RateLimitedBiFuncTest {
+
+    @Test
+    void callsFuncWithinRate() throws Exception {
+        new Assertion<>(
+            "Must call the func",
+            new RateLimitedBiFunc<Integer, Integer, Integer>(
+                Integer::sum, new TokenBucket(10.0d)
+            ).apply(2, 3),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void failsFastWithoutToken() throws Exception {
+        final BiFunc<Integer, Integer, Integer> func = new RateLimitedBiFunc<>(
+            Integer::sum, new TokenBucket(1.0d), Duration.ZERO
+        );
+        func.apply(1, 1);
+        new Assertion<>(
+            "Must reject the call without a token",
+            () -> func.apply(2, 2),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RateLimitedFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RateLimitedFuncTest {
+
+    @Test
+    void callsFuncWithinRate() throws Exception {
+        new Assertion<>(
+            "Must call the func",
+            new RateLimitedFunc<String, Integer>(
+                String::length, new TokenBucket(10.0d)
+            ).apply("abc"),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void waitsForToken() throws Exception {
+        final Func<Integer, Integer> func = new RateLimitedFunc<>(
+            input -> input, new TokenBucket(20.0d)
+        );
+        final long start = System.nanoTime();
+        func.apply(1);
+        func.apply(2);
+        new Assertion<>(
+            "Must wait for the second token",
+            System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40L),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void failsFastWithoutToken() throws Exception {
+        final Func<Integer, Integer> func = new RateLimitedFunc<>(
+            input -> input, new TokenBucket(1.0d), Duration.ZERO
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must reject the call without a token",
+            () -> func.apply(2),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void sharesBucket() throws Exception {
+        final TokenBucket bucket = new TokenBucket(1.0d, 2);
+        new RateLimitedFunc<Integer, Integer>(
+            input -> input, bucket, Duration.ZERO
+        ).apply(1);
+        new RateLimitedFunc<String, String>(
+            input -> input, bucket, Duration.ZERO
+        ).apply("a");
+        new Assertion<>(
+            "Must reject the call when the shared bucket is empty",
+            () -> new RateLimitedFunc<Integer, Integer>(
+                input -> input, bucket, Duration.ZERO
+            ).apply(2),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
@@ -6,9 +6,14 @@ package org.cactoos.func;
 
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.IsApplicable;
+import org.llorllale.cactoos.matchers.IsTrue;
 import org.llorllale.cactoos.matchers.Throws;
 
 /**
@@ -79,4 +84,71 @@ final class RetryTest {
             new Throws<>("sleep interrupted", InterruptedException.class)
         ).affirm();
     }
+
+    @Test
+    void stopsWhenBudgetIsSpent() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must throw the last exception when the budget is spent",
+            () -> new Retry<>(
+                input -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("Always");
+                },
+                Integer.MAX_VALUE,
+                new Backoff.Fixed(Duration.ofMillis(20L)),
+                Duration.ofMillis(100L)
+            ).apply(true),
+            new Throws<>("Always", IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must try only while the budget lasts",
+            calls.get() <= 6,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void waitsGrowingDelays() throws Exception {
+        final List<Long> moments = new ArrayList<>(4);
+        new Retry<>(
+            input -> {
+                moments.add(System.nanoTime());
+                if (moments.size() < 4) {
+                    throw new IllegalStateException("Not yet");
+                }
+                return true;
+            },
+            4,
+            new Backoff.Exponential(Duration.ofMillis(10L), Duration.ofSeconds(1L)),
+            Duration.ofMinutes(1L)
+        ).apply(true);
+        new Assertion<>(
+            "Must wait longer before the last attempt",
+            moments.get(3) - moments.get(2)
+                >= TimeUnit.MILLISECONDS.toNanos(40L),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void doesNotWaitAfterLastAttempt() {
+        final long start = System.nanoTime();
+        new Assertion<>(
+            "Must fail after the last attempt",
+            () -> new Retry<>(
+                input -> {
+                    throw new IllegalStateException("Fails");
+                },
+                1,
+                Duration.ofMinutes(1L)
+            ).apply(true),
+            new Throws<>("Fails", IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not wait after the last attempt",
+            System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30L),
+            new IsTrue()
+        ).affirm();
+    }
 }
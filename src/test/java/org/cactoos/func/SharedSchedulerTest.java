@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link SharedScheduler}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.CloseResource")
+final class SharedSchedulerTest {
+
+    @Test
+    void runsDelayedTask() throws Exception {
+        new Assertion<>(
+            "Must run the delayed task",
+            new SharedScheduler().schedule(
+                () -> "later", 10L, TimeUnit.MILLISECONDS
+            ).get(),
+            new IsEqual<>("later")
+        ).affirm();
+    }
+
+    @Test
+    void runsTaskInDaemonThread() throws Exception {
+        new Assertion<>(
+            "Must run the task in a daemon thread",
+            new SharedScheduler().submit(
+                () -> Thread.currentThread().isDaemon()
+            ).get(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void survivesShutdown() throws Exception {
+        final ScheduledExecutorService first = new SharedScheduler();
+        first.shutdown();
+        first.shutdownNow();
+        final CountDownLatch done = new CountDownLatch(1);
+        new SharedScheduler().schedule(
+            done::countDown, 1L, TimeUnit.MILLISECONDS
+        );
+        new Assertion<>(
+            "Must keep running tasks after shutdown",
+            done.await(1L, TimeUnit.MINUTES) && !first.isShutdown(),
+            new IsTrue()
+        ).affirm();
+    }
+
+
+    @Test
+    void survivesClose() throws Exception {
+        new SharedScheduler().close();
+        final CountDownLatch done = new CountDownLatch(1);
+        new SharedScheduler().schedule(
+            done::countDown, 1L, TimeUnit.MILLISECONDS
+        );
+        new Assertion<>(
+            "Must keep running tasks after close",
+            done.await(1L, TimeUnit.MINUTES),
+            new IsTrue()
+        ).affirm();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link SharedThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.JUnitTestsShouldIncludeAssert", "PMD.CloseResource"})
+final class SharedThreadsTest {
+
+    @Test
+    void runsTasksInDaemonThreads() throws Exception {
+        new Assertion<>(
+            "Must run the task in a daemon thread",
+            new SharedThreads().submit(
+                () -> Thread.currentThread().isDaemon()
+            ).get(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void ignoresShutdown() throws Exception {
+        final ExecutorService service = new SharedThreads();
+        service.shutdown();
+        service.shutdownNow();
+        new Assertion<>(
+            "Must run tasks after shutdown",
+            service.submit(() -> "done").get(),
+            new IsEqual<>("done")
+        ).affirm();
+        new Assertion<>(
+            "Must never terminate",
+            service.isShutdown() || service.isTerminated()
+                || service.awaitTermination(1L, TimeUnit.MILLISECONDS),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+
+    @Test
+    void waitsForTerminationUntilTimeout() throws Exception {
+        final long start = System.nanoTime();
+        new SharedThreads().awaitTermination(50L, TimeUnit.MILLISECONDS);
+        new Assertion<>(
+            "Must wait for the whole timeout",
+            System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50L),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void closesWithoutWaiting() throws Exception {
+        final SharedThreads service = new SharedThreads();
+        service.close();
+        new Assertion<>(
+            "Must run tasks after close",
+            service.submit(() -> "closed").get(),
+            new IsEqual<>("closed")
+        ).affirm();
+    }
+}
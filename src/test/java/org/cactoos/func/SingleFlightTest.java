@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SingleFlight}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class SingleFlightTest {
+
+    @Test
+    void coalescesConcurrentCalls() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final Func<String, Integer> func = new SingleFlight<>(
+            input -> {
+                calls.incrementAndGet();
+                release.await();
+                return input.length();
+            }
+        );
+        final List<Future<Integer>> futures = new ArrayList<>(10);
+        for (int idx = 0; idx < 10; ++idx) {
+            futures.add(new Async<>(func).apply("key"));
+        }
+        while (calls.get() == 0) {
+            TimeUnit.MILLISECONDS.sleep(1L);
+        }
+        TimeUnit.MILLISECONDS.sleep(50L);
+        release.countDown();
+        for (final Future<Integer> future : futures) {
+            new Assertion<>(
+                "Must give the result to every caller",
+                future.get(1L, TimeUnit.MINUTES),
+                new IsEqual<>(3)
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must call the func only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCacheFinishedCalls() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new SingleFlight<>(
+            input -> calls.incrementAndGet()
+        );
+        func.apply("same");
+        new Assertion<>(
+            "Must call the func again after the call is finished",
+            func.apply("same"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void sharesFailureWithAllCallers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new SingleFlight<>(
+            input -> {
+                calls.incrementAndGet();
+                release.await();
+                throw new IOException("Shared failure");
+            }
+        );
+        final Future<Integer> first = new Async<>(func).apply("key");
+        while (calls.get() == 0) {
+            TimeUnit.MILLISECONDS.sleep(1L);
+        }
+        final Future<Integer> second = new Async<>(func).apply("key");
+        TimeUnit.MILLISECONDS.sleep(50L);
+        release.countDown();
+        for (final Future<Integer> future : new ListOf<>(first, second)) {
+            new Assertion<>(
+                "Must throw the failure to every caller",
+                () -> future.get(1L, TimeUnit.MINUTES),
+                new Throws<>(
+                    "java.io.IOException: Shared failure",
+                    ExecutionException.class
+                )
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must call the failing func only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCoalesceDifferentInputs() throws Exception {
+        final CountDownLatch both = new CountDownLatch(2);
+        final Func<String, Boolean> func = new SingleFlight<>(
+            input -> {
+                both.countDown();
+                return both.await(1L, TimeUnit.MINUTES);
+            }
+        );
+        final Future<Boolean> first = new Async<>(func).apply("a");
+        new Assertion<>(
+            "Must call the func for each input at the same time",
+            func.apply("b") && first.get(1L, TimeUnit.MINUTES),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void acceptsNullInput() throws Exception {
+        new Assertion<>(
+            "Must call the func with NULL",
+            new SingleFlight<String, Boolean>(input -> input == null).apply(null),
+            new IsTrue()
+        ).affirm();
+    }
+}
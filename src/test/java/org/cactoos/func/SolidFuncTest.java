@@ -4,13 +4,19 @@
  */
 package org.cactoos.func;
 
+import java.io.IOException;
 import java.security.SecureRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Func;
 import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link SolidFunc}.
@@ -51,4 +57,216 @@ final class SolidFuncTest {
         ).affirm();
     }
 
+    @Test
+    void calculatesOnceInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must calculate the missing value only once",
+            func -> func.apply(1) == 2,
+            new RunsInThreads<>(
+                new SolidFunc<Integer, Integer>(
+                    x -> {
+                        calls.incrementAndGet();
+                        Thread.sleep(10L);
+                        return x * 2;
+                    }
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must call the origin once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCacheFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            x -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("Intended to fail");
+                }
+                return x;
+            }
+        );
+        new Assertion<>(
+            "Must rethrow the original exception",
+            () -> func.apply(1),
+            new Throws<>("Intended to fail", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate again after a failure",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNullInput() throws Exception {
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            x -> new SecureRandom().nextInt()
+        );
+        new Assertion<>(
+            "Must cache result of NULL",
+            func.apply(null),
+            new IsEqual<>(func.apply(null))
+        ).affirm();
+    }
+
+    @Test
+    void evictsOldest() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            x -> {
+                calls.incrementAndGet();
+                return x;
+            },
+            2
+        );
+        func.apply(1);
+        func.apply(2);
+        func.apply(3);
+        func.apply(3);
+        func.apply(2);
+        func.apply(1);
+        new Assertion<>(
+            "Must evict the oldest value",
+            calls.get(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void reportsStats() throws Exception {
+        final CacheStats stats = new CacheStats.Counting();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> input, 1, stats
+        );
+        func.apply(1);
+        func.apply(1);
+        func.apply(2);
+        new Assertion<>(
+            "Must report hits, misses, evictions and size",
+            new ListOf<>(
+                stats.snapshot().hits(),
+                stats.snapshot().misses(),
+                stats.snapshot().evictions(),
+                stats.snapshot().size()
+            ),
+            new IsEqual<>(new ListOf<>(1L, 2L, 1L, 1L))
+        ).affirm();
+    }
+
+
+    @Test
+    void keepsRecentlyUsed() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            x -> {
+                calls.incrementAndGet();
+                return x;
+            },
+            2
+        );
+        func.apply(1);
+        func.apply(2);
+        func.apply(1);
+        func.apply(3);
+        func.apply(1);
+        new Assertion<>(
+            "Must evict the least recently used value",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void evictsAfterFailuresInBoundedCache() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            x -> {
+                if (x < 0) {
+                    throw new IOException("Negative");
+                }
+                calls.incrementAndGet();
+                return x;
+            },
+            2
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            new Assertion<>(
+                "Must not cache failures",
+                () -> func.apply(-1),
+                new Throws<>("Negative", IOException.class)
+            ).affirm();
+        }
+        func.apply(1);
+        func.apply(2);
+        func.apply(3);
+        func.apply(3);
+        func.apply(2);
+        new Assertion<>(
+            "Must evict the oldest value, not failed ones",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+
+    @Test
+    void cachesNothingWithZeroSize() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            x -> {
+                calls.incrementAndGet();
+                return x;
+            },
+            0
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must return the value without caching it",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate the value every time",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void evictsWhileAnotherValueIsCalculated() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            x -> {
+                if (x == 1) {
+                    started.countDown();
+                    release.await();
+                }
+                return x;
+            },
+            1
+        );
+        final Future<Integer> slow = new Async<>(func).apply(1);
+        started.await();
+        try {
+            new Assertion<>(
+                "Must not wait for the value calculated by another thread",
+                new Async<>(func).apply(2).get(1L, TimeUnit.MINUTES),
+                new IsEqual<>(2)
+            ).affirm();
+        } finally {
+            release.countDown();
+        }
+        new Assertion<>(
+            "Must return the value calculated meanwhile",
+            slow.get(1L, TimeUnit.MINUTES),
+            new IsEqual<>(1)
+        ).affirm();
+    }
 }
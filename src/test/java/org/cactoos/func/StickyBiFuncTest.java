@@ -5,7 +5,9 @@
 package org.cactoos.func;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.BiFunc;
+import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -30,4 +32,45 @@ final class StickyBiFuncTest {
         ).affirm();
     }
 
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final BiFunc<Integer, Integer, Integer> func = new StickyBiFunc<>(
+            (first, second) -> {
+                calls.incrementAndGet();
+                return first + second;
+            },
+            2
+        );
+        func.apply(1, 1);
+        func.apply(2, 2);
+        func.apply(1, 1);
+        func.apply(3, 3);
+        func.apply(1, 1);
+        new Assertion<>(
+            "Must keep the recently used result",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void reportsStats() throws Exception {
+        final CacheStats stats = new CacheStats.Counting();
+        final BiFunc<Integer, Integer, Integer> func = new StickyBiFunc<>(
+            (first, second) -> first + second, 1, stats
+        );
+        func.apply(1, 1);
+        func.apply(1, 1);
+        func.apply(2, 2);
+        new Assertion<>(
+            "Must report hits, misses and evictions",
+            new ListOf<>(
+                stats.snapshot().hits(),
+                stats.snapshot().misses(),
+                stats.snapshot().evictions()
+            ),
+            new IsEqual<>(new ListOf<>(1L, 2L, 1L))
+        ).affirm();
+    }
 }
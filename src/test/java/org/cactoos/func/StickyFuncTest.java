@@ -5,7 +5,9 @@
 package org.cactoos.func;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Func;
+import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
@@ -54,6 +56,46 @@ final class StickyFuncTest {
         ).affirm();
     }
 
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> {
+                calls.incrementAndGet();
+                return input;
+            },
+            2
+        );
+        func.apply(1);
+        func.apply(2);
+        func.apply(1);
+        func.apply(3);
+        func.apply(1);
+        new Assertion<>(
+            "Must keep the recently used result",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNullResults() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must calculate NULL only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
     @Test
     void cachesWithZeroBuffer() throws Exception {
         final Func<Boolean, Integer> func = new StickyFunc<>(
@@ -70,4 +112,24 @@ final class StickyFuncTest {
         ).affirm();
     }
 
+    @Test
+    void reportsStats() throws Exception {
+        final CacheStats stats = new CacheStats.Counting();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> input, 1, stats
+        );
+        func.apply(1);
+        func.apply(1);
+        func.apply(2);
+        new Assertion<>(
+            "Must report hits, misses, evictions and size",
+            new ListOf<>(
+                stats.snapshot().hits(),
+                stats.snapshot().misses(),
+                stats.snapshot().evictions(),
+                stats.snapshot().size()
+            ),
+            new IsEqual<>(new ListOf<>(1L, 2L, 1L, 1L))
+        ).affirm();
+    }
 }
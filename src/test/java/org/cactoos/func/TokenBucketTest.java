@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link TokenBucket}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class TokenBucketTest {
+
+    @Test
+    void givesBurstAtOnce() {
+        final TokenBucket bucket = new TokenBucket(1.0d, 3);
+        int taken = 0;
+        for (int idx = 0; idx < 10; ++idx) {
+            if (bucket.tryAcquire()) {
+                ++taken;
+            }
+        }
+        new Assertion<>(
+            "Must give the burst of tokens at once",
+            taken,
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void refillsAtRate() throws Exception {
+        final TokenBucket bucket = new TokenBucket(100.0d);
+        bucket.tryAcquire();
+        TimeUnit.MILLISECONDS.sleep(30L);
+        new Assertion<>(
+            "Must give a token after the interval",
+            bucket.tryAcquire(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void reservesTokenInFuture() {
+        final TokenBucket bucket = new TokenBucket(10.0d);
+        bucket.tryAcquire();
+        final long wait = bucket.reserve(Long.MAX_VALUE);
+        new Assertion<>(
+            "Must reserve the next token about one interval later",
+            wait > TimeUnit.MILLISECONDS.toNanos(50L)
+                && wait <= TimeUnit.MILLISECONDS.toNanos(100L),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void doesNotReserveTooLateToken() {
+        final TokenBucket bucket = new TokenBucket(1.0d);
+        bucket.tryAcquire();
+        new Assertion<>(
+            "Must not reserve the token which is not available in time",
+            bucket.reserve(TimeUnit.MILLISECONDS.toNanos(10L)),
+            new IsEqual<>(-1L)
+        ).affirm();
+    }
+
+    @Test
+    void waitsForToken() throws Exception {
+        final TokenBucket bucket = new TokenBucket(50.0d);
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < 3; ++idx) {
+            bucket.acquire();
+        }
+        new Assertion<>(
+            "Must wait for the tokens at the rate",
+            System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(35L),
+            new IsTrue()
+        ).affirm();
+    }
+
+
+    @Test
+    void rejectsRateThatIsNotPositive() {
+        new Assertion<>(
+            "Must reject the zero rate",
+            () -> new TokenBucket(0.0d),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsBurstThatIsNotPositive() {
+        new Assertion<>(
+            "Must reject the zero burst",
+            () -> new TokenBucket(10.0d, 0),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsBurstThatOverflows() {
+        new Assertion<>(
+            "Must reject the burst which doesn't fit into the nanos",
+            () -> new TokenBucket(0.001d, Integer.MAX_VALUE),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
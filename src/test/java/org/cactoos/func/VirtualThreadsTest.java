@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link VirtualThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.JUnitTestsShouldIncludeAssert", "PMD.CloseResource"})
+final class VirtualThreadsTest {
+
+    @Test
+    void runsTasksInDaemonThreads() throws Exception {
+        final ExecutorService service = new VirtualThreads();
+        try {
+            new Assertion<>(
+                "Must run the task in a daemon thread",
+                service.submit(() -> Thread.currentThread().isDaemon()).get(),
+                new IsTrue()
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void shutsDown() throws Exception {
+        final ExecutorService service = new VirtualThreads();
+        service.submit(() -> true).get();
+        service.shutdown();
+        new Assertion<>(
+            "Must terminate after shutdown",
+            service.awaitTermination(1L, TimeUnit.MINUTES)
+                && service.isShutdown() && service.isTerminated(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void shutsDownNow() {
+        final ExecutorService service = new VirtualThreads();
+        new Assertion<>(
+            "Must have no waiting tasks",
+            service.shutdownNow().isEmpty(),
+            new IsTrue()
+        ).affirm();
+    }
+}
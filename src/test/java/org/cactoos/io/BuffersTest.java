@@ -0,0 +1,147 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link Buffers}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class BuffersTest {
+
+    @Test
+    void reusesReleasedArray() {
+        final Buffers buffers = new Buffers(1 << 16, 1 << 20, true);
+        final byte[] array = buffers.array(5000);
+        buffers.release(array);
+        new Assertion<>(
+            "Must give out the released array again",
+            buffers.array(8000),
+            new IsSame<>(array)
+        ).affirm();
+    }
+
+    @Test
+    void roundsSizeUpToPowerOfTwo() {
+        new Assertion<>(
+            "Must round the size up to the pooled one",
+            new Buffers(1 << 16, 1 << 20, true).array(5000).length,
+            new IsEqual<>(8192)
+        ).affirm();
+    }
+
+    @Test
+    void roundsSmallSizeUpToSmallestOne() {
+        new Assertion<>(
+            "Must round a small size up to 1KB",
+            new Buffers(1 << 16, 1 << 20, true).array(3).length,
+            new IsEqual<>(1024)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotPoolLargerArrays() {
+        final Buffers buffers = new Buffers(1 << 12, 1 << 20, true);
+        final byte[] array = buffers.array(5000);
+        buffers.release(array);
+        new Assertion<>(
+            "Must not pool arrays larger than the largest size",
+            buffers.array(5000),
+            new IsNot<>(new IsSame<>(array))
+        ).affirm();
+    }
+
+    @Test
+    void keepsRetainedMemoryWithinLimit() {
+        final Buffers buffers = new Buffers(1 << 16, 1 << 12, true);
+        final byte[] first = buffers.array(4096);
+        final byte[] second = buffers.array(4096);
+        buffers.release(first);
+        buffers.release(second);
+        buffers.array(4096);
+        new Assertion<>(
+            "Must drop the array that doesn't fit into retained memory",
+            buffers.array(4096),
+            new IsNot<>(new IsSame<>(second))
+        ).affirm();
+    }
+
+    @Test
+    void doesNotPoolWithoutRetainedMemory() {
+        final Buffers buffers = new Buffers(1 << 16, 0L, true);
+        final byte[] array = buffers.array(1024);
+        buffers.release(array);
+        new Assertion<>(
+            "Must not pool anything without retained memory",
+            buffers.array(1024),
+            new IsNot<>(new IsSame<>(array))
+        ).affirm();
+    }
+
+    @Test
+    void reusesReleasedDirectBuffer() {
+        final Buffers buffers = new Buffers(1 << 16, 1 << 20, true);
+        final ByteBuffer buffer = buffers.buffer(2048);
+        buffer.put((byte) 1);
+        buffers.release(buffer);
+        new Assertion<>(
+            "Must give out the released buffer again",
+            buffers.buffer(2000),
+            new IsSame<>(buffer)
+        ).affirm();
+    }
+
+    @Test
+    void givesOutDirectBuffer() {
+        new Assertion<>(
+            "Must give out a direct buffer",
+            new Buffers(1 << 16, 1 << 20, true).buffer(100).isDirect(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void givesOutHeapBuffer() {
+        new Assertion<>(
+            "Must give out a heap buffer",
+            new Buffers(1 << 16, 1 << 20, false).buffer(100).hasArray(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void limitsBufferToSize() {
+        final Buffers buffers = new Buffers(1 << 16, 1 << 20, true);
+        final ByteBuffer buffer = buffers.buffer(3000);
+        buffer.position(100);
+        buffers.release(buffer);
+        new Assertion<>(
+            "Must clear the buffer and limit it to the size",
+            buffers.buffer(1500).remaining(),
+            new IsEqual<>(1500)
+        ).affirm();
+    }
+
+    @Test
+    void sharesDefaultPool() {
+        final byte[] array = new Buffers().array(1 << 18);
+        new Buffers().release(array);
+        new Assertion<>(
+            "Must share the pool between default instances",
+            new Buffers().array(1 << 18),
+            new IsSame<>(array)
+        ).affirm();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+
+/**
+ * Test case for {@link ChannelInputOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ChannelInputOfTest {
+
+    @Test
+    void readsPath(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("channel.txt");
+        Files.write(file, "Hello, channel!".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must read the file through the channel",
+            new InputOf(new ChannelInputOf(file)),
+            new HasContent("Hello, channel!")
+        ).affirm();
+    }
+
+    @Test
+    void usesChannelOfFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("file.txt");
+        Files.write(file, "file".getBytes(StandardCharsets.UTF_8));
+        try (ReadableByteChannel channel =
+            new ChannelInputOf(new InputOf(file)).channel()) {
+            new Assertion<>(
+                "Must give out the channel of the file",
+                channel,
+                new IsInstanceOf(FileChannel.class)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void givesBackChannelOfInput() throws Exception {
+        final ReadableByteChannel channel =
+            new ChannelInputOf(ByteBuffer.allocate(1)).channel();
+        new Assertion<>(
+            "Must not wrap the channel behind the input",
+            new ChannelInputOf(new InputOf(channel)).channel(),
+            new IsSame<>(channel)
+        ).affirm();
+    }
+
+    @Test
+    void readsBufferWithoutMovingIt() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(
+            "0123456789".getBytes(StandardCharsets.UTF_8)
+        );
+        buffer.position(4);
+        new Assertion<>(
+            "Must read the buffer from its position",
+            new InputOf(new ChannelInputOf(buffer)),
+            new HasContent("456789")
+        ).affirm();
+        new Assertion<>(
+            "Must not move the buffer",
+            buffer.position(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void readsDirectBuffer() throws Exception {
+        final byte[] bytes = "direct".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        new Assertion<>(
+            "Must read the direct buffer",
+            new InputOf(new ChannelInputOf(buffer)),
+            new HasContent("direct")
+        ).affirm();
+    }
+
+    @Test
+    void readsStream() {
+        new Assertion<>(
+            "Must read the stream through a channel",
+            new InputOf(
+                new ChannelInputOf(
+                    new InputOf(
+                        new ByteArrayInputStream(
+                            "stream".getBytes(StandardCharsets.UTF_8)
+                        )
+                    )
+                )
+            ),
+            new HasContent("stream")
+        ).affirm();
+    }
+
+    @Test
+    void usesChannelOfChannelInput() {
+        new Assertion<>(
+            "Must read the channel of the input itself",
+            new InputOf(
+                new ChannelInputOf(new HeadOf(new InputOf("headless"), 4))
+            ),
+            new HasContent("head")
+        ).affirm();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ChannelInputStream}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ChannelInputStreamTest {
+
+    @Test
+    void readsBytesOneByOne() throws Exception {
+        try (InputStream stream = new ChannelInputStream(
+            new ChannelInputOf(
+                ByteBuffer.wrap(new byte[] {(byte) 7, (byte) -2})
+            ).channel()
+        )) {
+            new Assertion<>(
+                "Must read unsigned bytes and then the end",
+                new int[] {stream.read(), stream.read(), stream.read()},
+                new IsEqual<>(new int[] {7, 254, -1})
+            ).affirm();
+        }
+    }
+
+    @Test
+    void readsIntoArray() throws Exception {
+        final byte[] buf = new byte[8];
+        try (InputStream stream = new ChannelInputStream(
+            new ChannelInputOf(
+                ByteBuffer.wrap("abc".getBytes(StandardCharsets.UTF_8))
+            ).channel()
+        )) {
+            new Assertion<>(
+                "Must read into the middle of the array",
+                new String(
+                    buf, 2, stream.read(buf, 2, 6), StandardCharsets.UTF_8
+                ),
+                new IsEqual<>("abc")
+            ).affirm();
+        }
+    }
+
+    @Test
+    void closesChannel() throws Exception {
+        final ReadableByteChannel channel = new ChannelInputOf(
+            ByteBuffer.allocate(0)
+        ).channel();
+        new ChannelInputStream(channel).close();
+        new Assertion<>(
+            "Must close the channel",
+            !channel.isOpen(),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void showsWhatIsLeftInFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("left.txt");
+        Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+        try (InputStream stream = new InputOf(new ChannelInputOf(file))
+            .stream()) {
+            stream.skip(3L);
+            new Assertion<>(
+                "Must show how many bytes are left in the file",
+                stream.available(),
+                new IsEqual<>(7)
+            ).affirm();
+        }
+    }
+
+
+    @Test
+    void rejectsNonBlockingChannel() throws Exception {
+        final Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        try {
+            new Assertion<>(
+                "Must not spin on a non-blocking channel",
+                () -> new ChannelInputStream(pipe.source()).read(),
+                new Throws<>(IllegalBlockingModeException.class)
+            ).affirm();
+        } finally {
+            pipe.source().close();
+            pipe.sink().close();
+        }
+    }
+}
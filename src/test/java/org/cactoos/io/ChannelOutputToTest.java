@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+
+/**
+ * Test case for {@link ChannelOutputTo}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ChannelOutputToTest {
+
+    @Test
+    void writesIntoPath(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("a/b/channel.txt");
+        try (WritableByteChannel channel =
+            new ChannelOutputTo(file).channel()) {
+            channel.write(
+                ByteBuffer.wrap("Hello, path!".getBytes(StandardCharsets.UTF_8))
+            );
+        }
+        new Assertion<>(
+            "Must write into the file through the channel",
+            new InputOf(file),
+            new HasContent("Hello, path!")
+        ).affirm();
+    }
+
+    @Test
+    void usesChannelOfFile(@TempDir final Path wdir) throws Exception {
+        try (WritableByteChannel channel =
+            new ChannelOutputTo(wdir.resolve("file.txt")).channel()) {
+            new Assertion<>(
+                "Must give out the channel of the file",
+                channel,
+                new IsInstanceOf(FileChannel.class)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void givesBackChannelOfOutput() throws Exception {
+        final WritableByteChannel channel = Channels.newChannel(
+            new ByteArrayOutputStream()
+        );
+        new Assertion<>(
+            "Must not wrap the channel behind the output",
+            new ChannelOutputTo(new OutputTo(channel)).channel(),
+            new IsSame<>(channel)
+        ).affirm();
+    }
+
+    @Test
+    void writesIntoStream() throws Exception {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try (WritableByteChannel channel =
+            new ChannelOutputTo(new OutputTo(stream)).channel()) {
+            channel.write(
+                ByteBuffer.wrap("stream".getBytes(StandardCharsets.UTF_8))
+            );
+        }
+        new Assertion<>(
+            "Must write into the stream through a channel",
+            new String(stream.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>("stream")
+        ).affirm();
+    }
+}
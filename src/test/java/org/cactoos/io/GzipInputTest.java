@@ -13,8 +13,10 @@ import java.io.Writer;
 import java.util.zip.GZIPOutputStream;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
 import org.llorllale.cactoos.matchers.IsText;
 import org.llorllale.cactoos.matchers.Throws;
 
@@ -59,4 +61,54 @@ final class GzipInputTest {
             new Throws<>(EOFException.class)
         ).affirm();
     }
+
+    @Test
+    void readFromGzipChannel() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (
+            Writer writer = new OutputStreamWriter(new GZIPOutputStream(out))
+        ) {
+            writer.write("Hello, channel!");
+        }
+        new Assertion<>(
+            "Can't read from a gzip channel",
+            new InputOf(new GzipInput(new InputOf(out.toByteArray()))),
+            new HasContent("Hello, channel!")
+        ).affirm();
+    }
+
+
+    @Test
+    void readsGzipInputTwiceWithPooledBuffer() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (
+            Writer writer = new OutputStreamWriter(new GZIPOutputStream(out))
+        ) {
+            writer.write(
+                new TextOf(
+                    new ResourceOf("org/cactoos/large-text.txt")
+                ).asString()
+            );
+        }
+        final GzipInput input = new GzipInput(
+            new InputOf(out.toByteArray()), 1500
+        );
+        final String first = new TextOf(input).asString();
+        new Assertion<>(
+            "Must read the same content with a reused buffer",
+            new TextOf(input).asString(),
+            new IsEqual<>(first)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonPositiveBufferSize() {
+        new Assertion<>(
+            "Must reject a buffer size that is not positive",
+            () -> new LengthOf(
+                new GzipInput(new InputOf(new byte[0]), 0)
+            ).value(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
 }
@@ -7,6 +7,7 @@ package org.cactoos.io;
 import org.cactoos.text.TextOf;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
 import org.llorllale.cactoos.matchers.HasString;
 
 /**
@@ -60,4 +61,22 @@ final class HeadOfTest {
             new HasString(input)
         ).affirm();
     }
+
+    @Test
+    void limitsChannel() {
+        new Assertion<>(
+            "Must limit the channel of the input",
+            new InputOf(new HeadOf(new InputOf("readChannel"), 4)),
+            new HasContent("read")
+        ).affirm();
+    }
+
+    @Test
+    void limitsChannelLongerThanInput() {
+        new Assertion<>(
+            "Must read the whole input through the channel",
+            new InputOf(new HeadOf(new InputOf("short"), 100)),
+            new HasContent("short")
+        ).affirm();
+    }
 }
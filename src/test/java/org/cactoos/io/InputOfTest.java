@@ -11,6 +11,7 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -297,4 +298,29 @@ final class InputOfTest {
         ).affirm();
     }
 
+    @Test
+    void readsChannelInput() {
+        new Assertion<>(
+            "Must read from the channel input",
+            new InputOf(
+                new ChannelInputOf(
+                    ByteBuffer.wrap("buffer".getBytes(StandardCharsets.UTF_8))
+                )
+            ),
+            new HasContent("buffer")
+        ).affirm();
+    }
+
+    @Test
+    void readsChannel() throws Exception {
+        new Assertion<>(
+            "Must read from the channel",
+            new InputOf(
+                new ChannelInputOf(
+                    ByteBuffer.wrap("chnl".getBytes(StandardCharsets.UTF_8))
+                ).channel()
+            ),
+            new HasContent("chnl")
+        ).affirm();
+    }
 }
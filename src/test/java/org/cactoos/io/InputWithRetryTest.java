@@ -7,6 +7,7 @@ package org.cactoos.io;
 
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.func.Backoff;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -57,4 +58,24 @@ final class InputWithRetryTest {
             new Throws<>(IllegalArgumentException.class)
         ).affirm();
     }
+
+    @Test
+    void retriesWithBackoff() throws Exception {
+        final AtomicInteger cnt = new AtomicInteger(0);
+        new Assertion<>(
+            "should read after retries with backoff",
+            new InputWithRetry(
+                () -> {
+                    if (cnt.getAndIncrement() < 2) {
+                        throw new IllegalArgumentException("Test exception");
+                    }
+                    return new DeadInputStream();
+                },
+                3,
+                new Backoff.Decorrelated(Duration.ofMillis(1L), Duration.ofMillis(10L)),
+                Duration.ofMinutes(1L)
+            ).stream().read(),
+            new IsEqual<>(-1)
+        ).affirm();
+    }
 }
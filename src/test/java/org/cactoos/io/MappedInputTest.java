@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link MappedInput}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedInputTest {
+
+    @Test
+    void readsFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("mapped.txt");
+        Files.write(file, "Hello, mapped!".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must read the mapped file",
+            new MappedInput(file),
+            new HasContent("Hello, mapped!")
+        ).affirm();
+    }
+
+    @Test
+    void readsFileInRegions(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("regions.txt");
+        Files.write(file, "abcdefgh".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must read all the regions, one after another",
+            new MappedInput(file, 3),
+            new HasContent("abcdefgh")
+        ).affirm();
+    }
+
+    @Test
+    void mapsFileInRegions(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("sizes.txt");
+        Files.write(file, "abcdefgh".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must map the file in regions of the given size",
+            new Mapped<>(
+                ByteBuffer::remaining,
+                new MappedInput(file, 3).buffers()
+            ),
+            new HasValues<>(3, 3, 2)
+        ).affirm();
+    }
+
+    @Test
+    void readsEmptyFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("empty.txt");
+        Files.write(file, new byte[0]);
+        new Assertion<>(
+            "Must read nothing from an empty file",
+            new LengthOf(new InputOf(new MappedInput(file).stream())).value(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void readsBytesOneByOne(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("single.bin");
+        Files.write(file, new byte[] {(byte) 1, (byte) -1});
+        try (InputStream stream = new MappedInput(file, 1).stream()) {
+            new Assertion<>(
+                "Must read unsigned bytes and then the end",
+                new int[] {stream.read(), stream.read(), stream.read()},
+                new IsEqual<>(new int[] {1, 255, -1})
+            ).affirm();
+        }
+    }
+
+    @Test
+    void skipsBytes(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("skip.txt");
+        Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+        try (InputStream stream = new MappedInput(file, 4).stream()) {
+            stream.skip(6L);
+            new Assertion<>(
+                "Must skip the bytes in the regions",
+                (char) stream.read(),
+                new IsEqual<>('6')
+            ).affirm();
+        }
+    }
+
+    @Test
+    void rejectsEmptyRegions(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("zero.txt");
+        Files.write(file, "x".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must reject regions of zero size",
+            () -> new MappedInput(file, 0).buffers(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void tellsAvailableBytes(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("available.txt");
+        Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+        try (InputStream stream = new MappedInput(file, 4).stream()) {
+            stream.skip(3L);
+            new Assertion<>(
+                "Must tell how many bytes are left in all the regions",
+                stream.available(),
+                new IsEqual<>(7)
+            ).affirm();
+        }
+    }
+}
@@ -5,8 +5,10 @@
 package org.cactoos.io;
 
 import java.io.StringWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.cactoos.scalar.LengthOf;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -34,6 +36,28 @@ final class OutputToTest {
         ).affirm();
     }
 
+    @Test
+    void writesIntoChannel(@TempDir final Path wdir) throws Exception {
+        final Path path = wdir.resolve("channel.txt");
+        final String txt = "Hello, channel!";
+        new LengthOf(
+            new TeeInput(
+                txt,
+                new OutputTo(
+                    FileChannel.open(
+                        path, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE
+                    )
+                )
+            )
+        ).value();
+        new Assertion<>(
+            "Must write into channel",
+            new InputOf(path),
+            new HasContent(txt)
+        ).affirm();
+    }
+
     @Test
     void writesIntoFile(@TempDir final Path wdir) throws Exception {
         final Path path = wdir.resolve("a/b/c/file.txt");
@@ -155,4 +179,18 @@ final class OutputToTest {
             new HasContent(txt)
         ).affirm();
     }
+
+    @Test
+    void writesIntoChannelOutput(@TempDir final Path wdir) throws Exception {
+        final Path path = wdir.resolve("x/output.txt");
+        final String txt = "Hello, channel output!";
+        new LengthOf(
+            new TeeInput(txt, new OutputTo(new ChannelOutputTo(path)))
+        ).value();
+        new Assertion<>(
+            "Must write into channel output",
+            new InputOf(path),
+            new HasContent(txt)
+        ).affirm();
+    }
 }
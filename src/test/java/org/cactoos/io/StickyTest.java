@@ -7,7 +7,9 @@ package org.cactoos.io;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import org.cactoos.Input;
 import org.cactoos.bytes.BytesOf;
+import org.cactoos.func.CacheStats;
 import org.cactoos.func.Repeated;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
@@ -90,4 +92,16 @@ final class StickyTest {
         ).affirm();
     }
 
+    @Test
+    void reportsStats() throws Exception {
+        final CacheStats stats = new CacheStats.Counting();
+        final Input input = new Sticky(new InputOf("Hello"), stats);
+        new TextOf(input).asString();
+        new TextOf(input).asString();
+        new Assertion<>(
+            "Must report one hit",
+            stats.snapshot().hits(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
 }
@@ -4,11 +4,14 @@
  */
 package org.cactoos.io;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Random;
 import org.cactoos.bytes.BytesOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.Throws;
 
@@ -130,4 +133,52 @@ final class TailOfTest {
         new Random().nextBytes(bytes);
         return bytes;
     }
+
+    @Test
+    void tailsChannelOfFile(@TempDir final Path wdir) throws Exception {
+        final byte[] bytes = this.generate(100);
+        final Path file = wdir.resolve("tail.bin");
+        Files.write(file, bytes);
+        new Assertion<>(
+            "Can't tail the channel of a file",
+            new BytesOf(new InputOf(new TailOf(new InputOf(file), 10)))
+                .asBytes(),
+            new IsEqual<>(Arrays.copyOfRange(bytes, 90, 100))
+        ).affirm();
+    }
+
+    @Test
+    void tailsChannelOfStream() throws Exception {
+        final byte[] bytes = this.generate(100);
+        new Assertion<>(
+            "Can't tail the channel of a stream",
+            new BytesOf(
+                new InputOf(
+                    new TailOf(new InputOf(new BytesOf(bytes)), 10, 16)
+                )
+            ).asBytes(),
+            new IsEqual<>(Arrays.copyOfRange(bytes, 90, 100))
+        ).affirm();
+    }
+
+    @Test
+    void tailsChannelOfShortStream() throws Exception {
+        final byte[] bytes = this.generate(5);
+        new Assertion<>(
+            "Can't tail the channel of a short stream",
+            new BytesOf(
+                new InputOf(new TailOf(new InputOf(new BytesOf(bytes)), 10))
+            ).asBytes(),
+            new IsEqual<>(bytes)
+        ).affirm();
+    }
+
+    @Test
+    void failsOnChannelWithSmallBuffer() {
+        new Assertion<>(
+            "Must fail on the channel with a buffer smaller than the tail",
+            () -> new TailOf(new InputOf("whatever"), 10, 5).channel(),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
 }
@@ -4,10 +4,12 @@
  */
 package org.cactoos.io;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -165,4 +167,35 @@ final class TeeInputFromInputTest {
             new HasContent(input)
         ).affirm();
     }
+
+    @Test
+    void copiesThroughChannel(@TempDir final Path wdir) throws Exception {
+        final String input = "Hello, channel äÄ üÜ öÖ and ß";
+        final Path output = wdir.resolve("channel.txt");
+        new Assertion<>(
+            "Must read the input through the channel",
+            new InputOf(new TeeInput(new InputOf(input), output)),
+            new HasContent(input)
+        ).affirm();
+        new Assertion<>(
+            "Must copy the input to the output through the channel",
+            new InputOf(output),
+            new HasContent(input)
+        ).affirm();
+    }
+
+    @Test
+    void copiesThroughChannelIntoStream() throws Exception {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new LengthOf(
+            new InputOf(
+                new TeeInput(new InputOf("to stream"), new OutputTo(stream))
+            )
+        ).value();
+        new Assertion<>(
+            "Must copy the input through the channel into a stream",
+            new String(stream.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>("to stream")
+        ).affirm();
+    }
 }
@@ -7,14 +7,24 @@ package org.cactoos.io;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.IsTrue;
 
 /**
  * Test case for {@link TeeInputStream}.
@@ -65,6 +75,85 @@ final class TeeInputStreamTest {
         }
     }
 
+    @Test
+    void pumpsFileIntoFile(@TempDir final Path wdir) throws Exception {
+        final Path input = wdir.resolve("pump-in.bin");
+        final byte[] content = new byte[100_000];
+        new Random(0L).nextBytes(content);
+        Files.write(input, content);
+        final Path output = wdir.resolve("pump-out.bin");
+        try (TeeInputStream tee = new TeeInputStream(
+            new InputOf(input).stream(), new OutputTo(output).stream()
+        )) {
+            tee.pump();
+        }
+        new Assertion<>(
+            "Must transfer the whole file into the other file",
+            Arrays.equals(Files.readAllBytes(output), content),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void pumpsRestOfFileAfterRead(@TempDir final Path wdir) throws Exception {
+        final Path input = wdir.resolve("rest-in.txt");
+        Files.write(input, "abcdef".getBytes(StandardCharsets.UTF_8));
+        final Path output = wdir.resolve("rest-out.txt");
+        final long pumped;
+        try (TeeInputStream tee = new TeeInputStream(
+            new InputOf(input).stream(), new OutputTo(output).stream()
+        )) {
+            tee.read(new byte[2]);
+            pumped = tee.pump();
+        }
+        new Assertion<>(
+            "Must copy what was read and then the rest",
+            new String(Files.readAllBytes(output), StandardCharsets.UTF_8)
+                + pumped,
+            new IsEqual<>("abcdef4")
+        ).affirm();
+    }
+
+    @Test
+    void pumpsFileIntoChannel(@TempDir final Path wdir) throws Exception {
+        final Path input = wdir.resolve("chnl-in.txt");
+        Files.write(input, "channel".getBytes(StandardCharsets.UTF_8));
+        final Path output = wdir.resolve("chnl-out.txt");
+        try (TeeInputStream tee = new TeeInputStream(
+            new InputOf(input).stream(),
+            new OutputTo(
+                FileChannel.open(
+                    output, StandardOpenOption.CREATE, StandardOpenOption.WRITE
+                )
+            ).stream()
+        )) {
+            tee.pump();
+        }
+        new Assertion<>(
+            "Must transfer the file into the channel",
+            new InputOf(output),
+            new HasContent("channel")
+        ).affirm();
+    }
+
+    @Test
+    void pumpsStreamIntoStream() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (TeeInputStream tee = new TeeInputStream(
+            new ByteArrayInputStream(
+                "streams".getBytes(StandardCharsets.UTF_8)
+            ),
+            baos
+        )) {
+            tee.pump();
+        }
+        new Assertion<>(
+            "Must copy the stream through a buffer",
+            new String(baos.toByteArray(), StandardCharsets.UTF_8),
+            new IsEqual<>("streams")
+        ).affirm();
+    }
+
     /**
      * Mock object around StringWriter for checking closing state.
      * @since 0.1
@@ -84,4 +173,25 @@ final class TeeInputStreamTest {
             return this.closed.get();
         }
     }
+
+    @Test
+    void pumpsChannelIntoChannel() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final long pumped;
+        try (TeeInputStream tee = new TeeInputStream(
+            new InputOf(
+                new ChannelInputOf(
+                    ByteBuffer.wrap("channels".getBytes(StandardCharsets.UTF_8))
+                )
+            ).stream(),
+            new OutputTo(new ChannelOutputTo(new OutputTo(baos))).stream()
+        )) {
+            pumped = tee.pump();
+        }
+        new Assertion<>(
+            "Must copy one channel into another",
+            new String(baos.toByteArray(), StandardCharsets.UTF_8) + pumped,
+            new IsEqual<>("channels8")
+        ).affirm();
+    }
 }
@@ -7,6 +7,7 @@ package org.cactoos.io;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasContent;
 import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link WriterAsOutputStream}.
@@ -106,4 +108,22 @@ final class WriterAsOutputStreamTest {
             new IsNot<>(new IsTrue())
         ).affirm();
     }
+
+
+    @Test
+    void refusesToWriteAfterClose() throws IOException {
+        final WriterAsOutputStream stream = new WriterAsOutputStream(
+            new StringWriter()
+        );
+        stream.close();
+        stream.close();
+        new Assertion<>(
+            "Must not write into a closed stream",
+            () -> {
+                stream.write(1);
+                return stream;
+            },
+            new Throws<>("Stream closed", IOException.class)
+        ).affirm();
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+
+/**
+ * Test case for {@link FilteredDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FilteredDoublesTest {
+
+    @Test
+    void filtersElements() {
+        new Assertion<>(
+            "Must return only the elements that fit",
+            new FilteredDoubles(x -> x > 2.0d, 1.0d, 2.0d, 3.0d, 4.0d),
+            new HasValues<>(3.0d, 4.0d)
+        ).affirm();
+    }
+
+    @Test
+    void filtersMappedElements() {
+        new Assertion<>(
+            "Must filter the elements of another primitive iterable",
+            new ListOf<>(
+                new FilteredDoubles(
+                    x -> x > 3.0d,
+                    new MappedDoubles(x -> x * 2, 1.0d, 2.0d, 3.0d)
+                )
+            ),
+            new IsEqual<>(new ListOf<Double>(4.0d, 6.0d))
+        ).affirm();
+    }
+}
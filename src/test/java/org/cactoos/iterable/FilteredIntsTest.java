@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+
+/**
+ * Test case for {@link FilteredInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FilteredIntsTest {
+
+    @Test
+    void filtersElements() {
+        new Assertion<>(
+            "Must return only the elements that fit",
+            new FilteredInts(x -> x > 2, 1, 2, 3, 4),
+            new HasValues<>(3, 4)
+        ).affirm();
+    }
+
+    @Test
+    void filtersMappedElements() {
+        new Assertion<>(
+            "Must filter the elements of another primitive iterable",
+            new ListOf<>(
+                new FilteredInts(
+                    x -> x > 3,
+                    new MappedInts(x -> x * 2, 1, 2, 3)
+                )
+            ),
+            new IsEqual<>(new ListOf<Integer>(4, 6))
+        ).affirm();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+
+/**
+ * Test case for {@link FilteredLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FilteredLongsTest {
+
+    @Test
+    void filtersElements() {
+        new Assertion<>(
+            "Must return only the elements that fit",
+            new FilteredLongs(x -> x > 2L, 1L, 2L, 3L, 4L),
+            new HasValues<>(3L, 4L)
+        ).affirm();
+    }
+
+    @Test
+    void filtersMappedElements() {
+        new Assertion<>(
+            "Must filter the elements of another primitive iterable",
+            new ListOf<>(
+                new FilteredLongs(
+                    x -> x > 3L,
+                    new MappedLongs(x -> x * 2, 1L, 2L, 3L)
+                )
+            ),
+            new IsEqual<>(new ListOf<Long>(4L, 6L))
+        ).affirm();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link MappedDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedDoublesTest {
+
+    @Test
+    void mapsElements() {
+        new Assertion<>(
+            "Must map all elements",
+            new MappedDoubles(x -> x * 2, 1.0d, 2.0d),
+            new HasValues<>(2.0d, 4.0d)
+        ).affirm();
+    }
+
+    @Test
+    void iteratesManyTimes() {
+        final Iterable<Double> items = new MappedDoubles(
+            x -> x + 1.0d, new ListOf<Double>(1.0d, 2.0d)
+        );
+        new ListOf<>(items);
+        new Assertion<>(
+            "Must return the same elements again",
+            new ListOf<>(items),
+            new IsEqual<>(new ListOf<Double>(2.0d, 3.0d))
+        ).affirm();
+    }
+
+    @Test
+    void returnsPrimitiveIterator() {
+        new Assertion<>(
+            "Must return a primitive iterator",
+            new MappedDoubles(x -> x, 1.0d).iterator()
+                instanceof PrimitiveIterator.OfDouble,
+            new IsTrue()
+        ).affirm();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link MappedInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedIntsTest {
+
+    @Test
+    void mapsElements() {
+        new Assertion<>(
+            "Must map all elements",
+            new MappedInts(x -> x * 2, 1, 2),
+            new HasValues<>(2, 4)
+        ).affirm();
+    }
+
+    @Test
+    void iteratesManyTimes() {
+        final Iterable<Integer> items = new MappedInts(
+            x -> x + 1, new ListOf<Integer>(1, 2)
+        );
+        new ListOf<>(items);
+        new Assertion<>(
+            "Must return the same elements again",
+            new ListOf<>(items),
+            new IsEqual<>(new ListOf<Integer>(2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void returnsPrimitiveIterator() {
+        new Assertion<>(
+            "Must return a primitive iterator",
+            new MappedInts(x -> x, 1).iterator()
+                instanceof PrimitiveIterator.OfInt,
+            new IsTrue()
+        ).affirm();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.PrimitiveIterator;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.IsTrue;
+
+/**
+ * Test case for {@link MappedLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedLongsTest {
+
+    @Test
+    void mapsElements() {
+        new Assertion<>(
+            "Must map all elements",
+            new MappedLongs(x -> x * 2, 1L, 2L),
+            new HasValues<>(2L, 4L)
+        ).affirm();
+    }
+
+    @Test
+    void iteratesManyTimes() {
+        final Iterable<Long> items = new MappedLongs(
+            x -> x + 1L, new ListOf<Long>(1L, 2L)
+        );
+        new ListOf<>(items);
+        new Assertion<>(
+            "Must return the same elements again",
+            new ListOf<>(items),
+            new IsEqual<>(new ListOf<Long>(2L, 3L))
+        ).affirm();
+    }
+
+    @Test
+    void returnsPrimitiveIterator() {
+        new Assertion<>(
+            "Must return a primitive iterator",
+            new MappedLongs(x -> x, 1L).iterator()
+                instanceof PrimitiveIterator.OfLong,
+            new IsTrue()
+        ).affirm();
+    }
+}
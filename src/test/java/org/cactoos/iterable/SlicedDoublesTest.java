@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SlicedDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SlicedDoublesTest {
+
+    @Test
+    void returnsSlice() {
+        new Assertion<>(
+            "Must return the slice",
+            new ListOf<>(new SlicedDoubles(1, 2, 1.0d, 2.0d, 3.0d, 4.0d)),
+            new IsEqual<>(new ListOf<Double>(2.0d, 3.0d))
+        ).affirm();
+    }
+
+    @Test
+    void returnsSliceOfBoxedIterable() {
+        new Assertion<>(
+            "Must return the slice of a boxed iterable",
+            new ListOf<>(
+                new SlicedDoubles(2, 5, new ListOf<Double>(1.0d, 2.0d, 3.0d))
+            ),
+            new IsEqual<>(new ListOf<Double>(3.0d))
+        ).affirm();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SlicedInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SlicedIntsTest {
+
+    @Test
+    void returnsSlice() {
+        new Assertion<>(
+            "Must return the slice",
+            new ListOf<>(new SlicedInts(1, 2, 1, 2, 3, 4)),
+            new IsEqual<>(new ListOf<Integer>(2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void returnsSliceOfBoxedIterable() {
+        new Assertion<>(
+            "Must return the slice of a boxed iterable",
+            new ListOf<>(
+                new SlicedInts(2, 5, new ListOf<Integer>(1, 2, 3))
+            ),
+            new IsEqual<>(new ListOf<Integer>(3))
+        ).affirm();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SlicedLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SlicedLongsTest {
+
+    @Test
+    void returnsSlice() {
+        new Assertion<>(
+            "Must return the slice",
+            new ListOf<>(new SlicedLongs(1, 2, 1L, 2L, 3L, 4L)),
+            new IsEqual<>(new ListOf<Long>(2L, 3L))
+        ).affirm();
+    }
+
+    @Test
+    void returnsSliceOfBoxedIterable() {
+        new Assertion<>(
+            "Must return the slice of a boxed iterable",
+            new ListOf<>(
+                new SlicedLongs(2, 5, new ListOf<Long>(1L, 2L, 3L))
+            ),
+            new IsEqual<>(new ListOf<Long>(3L))
+        ).affirm();
+    }
+}
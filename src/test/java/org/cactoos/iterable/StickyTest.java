@@ -6,6 +6,7 @@ package org.cactoos.iterable;
 
 import java.util.Collections;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.func.CacheStats;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.LengthOf;
 import org.hamcrest.collection.IsEmptyIterable;
@@ -53,4 +54,19 @@ final class StickyTest {
             new IsEqual<>(new IterableOf<>(1, 2))
         ).affirm();
     }
+
+    @Test
+    void reportsStats() {
+        final CacheStats stats = new CacheStats.Counting();
+        final Iterable<Integer> iterable = new Sticky<>(
+            new ListOf<>(1, 2), stats
+        );
+        iterable.iterator();
+        iterable.iterator();
+        new Assertion<>(
+            "Must report one hit",
+            stats.snapshot().hits(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FilteredDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FilteredDoublesTest {
+
+    @Test
+    void filtersElements() {
+        new Assertion<>(
+            "Must return only the elements that fit",
+            new ListOf<>(
+                new FilteredDoubles(
+                    x -> x % 2 == 0,
+                    new IteratorOfDoubles(1.0d, 2.0d, 3.0d, 4.0d)
+                )
+            ),
+            new IsEqual<>(new ListOf<Double>(2.0d, 4.0d))
+        ).affirm();
+    }
+
+    @Test
+    void checksEveryElementOnce() {
+        final FilteredDoubles items = new FilteredDoubles(
+            x -> x > 1.0d, new IteratorOfDoubles(1.0d, 2.0d, 3.0d)
+        );
+        items.hasNext();
+        items.hasNext();
+        new Assertion<>(
+            "Must not skip elements on repeated hasNext()",
+            items.nextDouble(),
+            new IsEqual<>(2.0d)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenNothingFits() {
+        new Assertion<>(
+            "Must throw when no element fits",
+            new FilteredDoubles(
+                x -> x > 10.0d, new IteratorOfDoubles(1.0d, 2.0d)
+            )::nextDouble,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
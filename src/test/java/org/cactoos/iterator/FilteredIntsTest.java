@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FilteredInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FilteredIntsTest {
+
+    @Test
+    void filtersElements() {
+        new Assertion<>(
+            "Must return only the elements that fit",
+            new ListOf<>(
+                new FilteredInts(
+                    x -> x % 2 == 0,
+                    new IteratorOfInts(1, 2, 3, 4)
+                )
+            ),
+            new IsEqual<>(new ListOf<Integer>(2, 4))
+        ).affirm();
+    }
+
+    @Test
+    void checksEveryElementOnce() {
+        final FilteredInts items = new FilteredInts(
+            x -> x > 1, new IteratorOfInts(1, 2, 3)
+        );
+        items.hasNext();
+        items.hasNext();
+        new Assertion<>(
+            "Must not skip elements on repeated hasNext()",
+            items.nextInt(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenNothingFits() {
+        new Assertion<>(
+            "Must throw when no element fits",
+            new FilteredInts(
+                x -> x > 10, new IteratorOfInts(1, 2)
+            )::nextInt,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FilteredLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FilteredLongsTest {
+
+    @Test
+    void filtersElements() {
+        new Assertion<>(
+            "Must return only the elements that fit",
+            new ListOf<>(
+                new FilteredLongs(
+                    x -> x % 2 == 0,
+                    new IteratorOfLongs(1L, 2L, 3L, 4L)
+                )
+            ),
+            new IsEqual<>(new ListOf<Long>(2L, 4L))
+        ).affirm();
+    }
+
+    @Test
+    void checksEveryElementOnce() {
+        final FilteredLongs items = new FilteredLongs(
+            x -> x > 1L, new IteratorOfLongs(1L, 2L, 3L)
+        );
+        items.hasNext();
+        items.hasNext();
+        new Assertion<>(
+            "Must not skip elements on repeated hasNext()",
+            items.nextLong(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenNothingFits() {
+        new Assertion<>(
+            "Must throw when no element fits",
+            new FilteredLongs(
+                x -> x > 10L, new IteratorOfLongs(1L, 2L)
+            )::nextLong,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -65,4 +65,15 @@ final class IteratorOfDoublesTest {
         iterator.next();
         return iterator;
     }
+
+    @Test
+    void returnsPrimitives() {
+        final IteratorOfDoubles iterator = new IteratorOfDoubles(1.0d, 2.0d);
+        iterator.nextDouble();
+        new Assertion<>(
+            "Must return the next item without boxing",
+            iterator.nextDouble(),
+            new IsEqual<>(2.0d)
+        ).affirm();
+    }
 }
@@ -59,4 +59,15 @@ final class IteratorOfIntsTest {
             new Throws<>(NoSuchElementException.class)
         ).affirm();
     }
+
+    @Test
+    void returnsPrimitives() {
+        final IteratorOfInts iterator = new IteratorOfInts(1, 2);
+        iterator.nextInt();
+        new Assertion<>(
+            "Must return the next item without boxing",
+            iterator.nextInt(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
 }
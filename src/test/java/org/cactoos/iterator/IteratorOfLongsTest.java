@@ -59,4 +59,15 @@ final class IteratorOfLongsTest {
             new Throws<>(NoSuchElementException.class)
         ).affirm();
     }
+
+    @Test
+    void returnsPrimitives() {
+        final IteratorOfLongs iterator = new IteratorOfLongs(1L, 2L);
+        iterator.nextLong();
+        new Assertion<>(
+            "Must return the next item without boxing",
+            iterator.nextLong(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
 }
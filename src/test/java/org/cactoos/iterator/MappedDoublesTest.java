@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link MappedDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedDoublesTest {
+
+    @Test
+    void mapsElements() {
+        new Assertion<>(
+            "Must map all elements",
+            new ListOf<>(
+                new MappedDoubles(
+                    x -> x * 2, new IteratorOfDoubles(1.0d, 2.0d, 3.0d)
+                )
+            ),
+            new IsEqual<>(new ListOf<Double>(2.0d, 4.0d, 6.0d))
+        ).affirm();
+    }
+
+    @Test
+    void mapsBoxedElements() {
+        final MappedDoubles items = new MappedDoubles(
+            x -> x + 1.0d, new ListOf<Double>(1.0d, 2.0d).iterator()
+        );
+        items.nextDouble();
+        new Assertion<>(
+            "Must map the unboxed element",
+            items.nextDouble(),
+            new IsEqual<>(3.0d)
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterLastElement() {
+        final MappedDoubles items = new MappedDoubles(
+            x -> x, new IteratorOfDoubles(1.0d)
+        );
+        items.nextDouble();
+        new Assertion<>(
+            "Must throw after the last element",
+            items::nextDouble,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
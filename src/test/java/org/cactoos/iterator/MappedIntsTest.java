@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link MappedInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedIntsTest {
+
+    @Test
+    void mapsElements() {
+        new Assertion<>(
+            "Must map all elements",
+            new ListOf<>(
+                new MappedInts(
+                    x -> x * 2, new IteratorOfInts(1, 2, 3)
+                )
+            ),
+            new IsEqual<>(new ListOf<Integer>(2, 4, 6))
+        ).affirm();
+    }
+
+    @Test
+    void mapsBoxedElements() {
+        final MappedInts items = new MappedInts(
+            x -> x + 1, new ListOf<Integer>(1, 2).iterator()
+        );
+        items.nextInt();
+        new Assertion<>(
+            "Must map the unboxed element",
+            items.nextInt(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterLastElement() {
+        final MappedInts items = new MappedInts(
+            x -> x, new IteratorOfInts(1)
+        );
+        items.nextInt();
+        new Assertion<>(
+            "Must throw after the last element",
+            items::nextInt,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
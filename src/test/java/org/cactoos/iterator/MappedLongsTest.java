@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link MappedLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedLongsTest {
+
+    @Test
+    void mapsElements() {
+        new Assertion<>(
+            "Must map all elements",
+            new ListOf<>(
+                new MappedLongs(
+                    x -> x * 2, new IteratorOfLongs(1L, 2L, 3L)
+                )
+            ),
+            new IsEqual<>(new ListOf<Long>(2L, 4L, 6L))
+        ).affirm();
+    }
+
+    @Test
+    void mapsBoxedElements() {
+        final MappedLongs items = new MappedLongs(
+            x -> x + 1L, new ListOf<Long>(1L, 2L).iterator()
+        );
+        items.nextLong();
+        new Assertion<>(
+            "Must map the unboxed element",
+            items.nextLong(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterLastElement() {
+        final MappedLongs items = new MappedLongs(
+            x -> x, new IteratorOfLongs(1L)
+        );
+        items.nextLong();
+        new Assertion<>(
+            "Must throw after the last element",
+            items::nextLong,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
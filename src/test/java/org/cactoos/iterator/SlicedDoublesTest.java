@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SlicedDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SlicedDoublesTest {
+
+    @Test
+    void returnsSliceInTheMiddle() {
+        new Assertion<>(
+            "Must return the slice in the middle",
+            new ListOf<>(
+                new SlicedDoubles(
+                    1, 2, new IteratorOfDoubles(1.0d, 2.0d, 3.0d, 4.0d)
+                )
+            ),
+            new IsEqual<>(new ListOf<Double>(2.0d, 3.0d))
+        ).affirm();
+    }
+
+    @Test
+    void returnsTailFromStart() {
+        new Assertion<>(
+            "Must return all elements after the start",
+            new ListOf<>(
+                new SlicedDoubles(
+                    2, new IteratorOfDoubles(1.0d, 2.0d, 3.0d, 4.0d)
+                )
+            ),
+            new IsEqual<>(new ListOf<Double>(3.0d, 4.0d))
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterSlice() {
+        final SlicedDoubles items = new SlicedDoubles(
+            0, 1, new IteratorOfDoubles(1.0d, 2.0d)
+        );
+        items.nextDouble();
+        new Assertion<>(
+            "Must throw after the last element of the slice",
+            items::nextDouble,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
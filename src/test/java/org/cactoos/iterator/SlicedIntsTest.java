@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SlicedInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SlicedIntsTest {
+
+    @Test
+    void returnsSliceInTheMiddle() {
+        new Assertion<>(
+            "Must return the slice in the middle",
+            new ListOf<>(
+                new SlicedInts(
+                    1, 2, new IteratorOfInts(1, 2, 3, 4)
+                )
+            ),
+            new IsEqual<>(new ListOf<Integer>(2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void returnsTailFromStart() {
+        new Assertion<>(
+            "Must return all elements after the start",
+            new ListOf<>(
+                new SlicedInts(
+                    2, new IteratorOfInts(1, 2, 3, 4)
+                )
+            ),
+            new IsEqual<>(new ListOf<Integer>(3, 4))
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterSlice() {
+        final SlicedInts items = new SlicedInts(
+            0, 1, new IteratorOfInts(1, 2)
+        );
+        items.nextInt();
+        new Assertion<>(
+            "Must throw after the last element of the slice",
+            items::nextInt,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SlicedLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SlicedLongsTest {
+
+    @Test
+    void returnsSliceInTheMiddle() {
+        new Assertion<>(
+            "Must return the slice in the middle",
+            new ListOf<>(
+                new SlicedLongs(
+                    1, 2, new IteratorOfLongs(1L, 2L, 3L, 4L)
+                )
+            ),
+            new IsEqual<>(new ListOf<Long>(2L, 3L))
+        ).affirm();
+    }
+
+    @Test
+    void returnsTailFromStart() {
+        new Assertion<>(
+            "Must return all elements after the start",
+            new ListOf<>(
+                new SlicedLongs(
+                    2, new IteratorOfLongs(1L, 2L, 3L, 4L)
+                )
+            ),
+            new IsEqual<>(new ListOf<Long>(3L, 4L))
+        ).affirm();
+    }
+
+    @Test
+    void failsAfterSlice() {
+        final SlicedLongs items = new SlicedLongs(
+            0, 1, new IteratorOfLongs(1L, 2L)
+        );
+        items.nextLong();
+        new Assertion<>(
+            "Must throw after the last element of the slice",
+            items::nextLong,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
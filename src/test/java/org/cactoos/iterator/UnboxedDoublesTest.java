@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link UnboxedDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class UnboxedDoublesTest {
+
+    @Test
+    void unboxesElementsOfBoxedIterator() {
+        final UnboxedDoubles items = new UnboxedDoubles(
+            new ListOf<Double>(1.0d, 2.0d).iterator()
+        );
+        items.next();
+        new Assertion<>(
+            "Must unbox the next element of the origin",
+            items.nextDouble(),
+            new IsEqual<>(2.0d)
+        ).affirm();
+    }
+
+    @Test
+    void endsWithOrigin() {
+        final UnboxedDoubles items = new UnboxedDoubles(
+            new ListOf<Double>(1.0d).iterator()
+        );
+        items.nextDouble();
+        new Assertion<>(
+            "Must not have more elements than the origin",
+            items.hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link UnboxedInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class UnboxedIntsTest {
+
+    @Test
+    void unboxesElementsOfBoxedIterator() {
+        final UnboxedInts items = new UnboxedInts(
+            new ListOf<Integer>(1, 2).iterator()
+        );
+        items.next();
+        new Assertion<>(
+            "Must unbox the next element of the origin",
+            items.nextInt(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void endsWithOrigin() {
+        final UnboxedInts items = new UnboxedInts(
+            new ListOf<Integer>(1).iterator()
+        );
+        items.nextInt();
+        new Assertion<>(
+            "Must not have more elements than the origin",
+            items.hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+}
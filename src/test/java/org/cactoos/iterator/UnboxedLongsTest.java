@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link UnboxedLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class UnboxedLongsTest {
+
+    @Test
+    void unboxesElementsOfBoxedIterator() {
+        final UnboxedLongs items = new UnboxedLongs(
+            new ListOf<Long>(1L, 2L).iterator()
+        );
+        items.next();
+        new Assertion<>(
+            "Must unbox the next element of the origin",
+            items.nextLong(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    void endsWithOrigin() {
+        final UnboxedLongs items = new UnboxedLongs(
+            new ListOf<Long>(1L).iterator()
+        );
+        items.nextLong();
+        new Assertion<>(
+            "Must not have more elements than the origin",
+            items.hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfInts;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CountOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CountOfTest {
+
+    @Test
+    void countsNumbers() {
+        new Assertion<>(
+            "Must count the numbers",
+            new CountOf(1, 2.5d, 3L).longValue(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+
+    @Test
+    void countsPrimitives() {
+        new Assertion<>(
+            "Must count the numbers of a primitive iterable",
+            new CountOf(new IterableOfInts(1, 2, 3, 4)).intValue(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void countsNothing() {
+        new Assertion<>(
+            "Must count no numbers in an empty iterable",
+            new CountOf(new ListOf<Integer>()).longValue(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfLongs;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link DoubleAvgOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class DoubleAvgOfTest {
+
+    @Test
+    void averagesDoubles() {
+        new Assertion<>(
+            "Must find the average of doubles",
+            new DoubleAvgOf(1.0d, 2.0d, 4.5d).doubleValue(),
+            new IsEqual<>(2.5d)
+        ).affirm();
+    }
+
+    @Test
+    void averagesPrimitiveLongs() {
+        new Assertion<>(
+            "Must find the average of a primitive iterable",
+            new DoubleAvgOf(new IterableOfLongs(1L, 2L)).doubleValue(),
+            new IsEqual<>(1.5d)
+        ).affirm();
+    }
+
+    @Test
+    void averagesNothing() {
+        new Assertion<>(
+            "Must return zero for no numbers",
+            new DoubleAvgOf(new ListOf<Number>()).doubleValue(),
+            new IsEqual<>(0.0d)
+        ).affirm();
+    }
+}
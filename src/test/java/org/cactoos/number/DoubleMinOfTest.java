@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOfInts;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link DoubleMinOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class DoubleMinOfTest {
+
+    @Test
+    void findsMinOfDoubles() {
+        new Assertion<>(
+            "Must find the min of doubles",
+            new DoubleMinOf(3.0d, 4.0d, 2.5d).doubleValue(),
+            new IsEqual<>(2.5d)
+        ).affirm();
+    }
+
+    @Test
+    void findsMinOfPrimitiveInts() {
+        new Assertion<>(
+            "Must find the min of a primitive iterable",
+            new DoubleMinOf(new IterableOfInts(5, -1, 7, 0)).doubleValue(),
+            new IsEqual<>(-1.0d)
+        ).affirm();
+    }
+
+    @Test
+    void returnsNanForNan() {
+        new Assertion<>(
+            "Must return NaN when there is NaN among the numbers",
+            Double.isNaN(
+                new DoubleMinOf(1.0d, Double.NaN, 2.0d).doubleValue()
+            ),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void failsForNoNumbers() {
+        new Assertion<>(
+            "Must fail when there are no numbers",
+            () -> new DoubleMinOf().doubleValue(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.Arrays;
+import org.cactoos.iterable.IterableOfInts;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link DoubleSumOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class DoubleSumOfTest {
+
+    @Test
+    void sumsDoubles() {
+        new Assertion<>(
+            "Must sum the doubles",
+            new DoubleSumOf(1.5d, 2.0d, 3.25d).doubleValue(),
+            new IsEqual<>(6.75d)
+        ).affirm();
+    }
+
+    @Test
+    void compensatesRoundingErrors() {
+        final double[] tenths = new double[1000];
+        Arrays.fill(tenths, 0.1d);
+        new Assertion<>(
+            "Must not accumulate rounding errors",
+            new DoubleSumOf(tenths).doubleValue(),
+            new IsEqual<>(100.0d)
+        ).affirm();
+    }
+
+    @Test
+    void keepsSmallNumbersNextToBigOnes() {
+        new Assertion<>(
+            "Must not lose small numbers added to big ones",
+            new DoubleSumOf(1.0d, 1.0e100d, 1.0d, -1.0e100d).doubleValue(),
+            new IsEqual<>(2.0d)
+        ).affirm();
+    }
+
+    @Test
+    void returnsInfinityOnOverflow() {
+        new Assertion<>(
+            "Must return infinity when the sum overflows",
+            new DoubleSumOf(Double.MAX_VALUE, Double.MAX_VALUE).doubleValue(),
+            new IsEqual<>(Double.POSITIVE_INFINITY)
+        ).affirm();
+    }
+
+    @Test
+    void sumsPrimitiveInts() {
+        new Assertion<>(
+            "Must sum the numbers of a primitive iterable",
+            new DoubleSumOf(new IterableOfInts(1, 2)).doubleValue(),
+            new IsEqual<>(3.0d)
+        ).affirm();
+    }
+
+    @Test
+    void sumsBoxedNumbers() {
+        new Assertion<>(
+            "Must sum the boxed numbers",
+            new DoubleSumOf(new ListOf<Number>(1, 0.5d, 2L)).doubleValue(),
+            new IsEqual<>(3.5d)
+        ).affirm();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOfInts;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link LongMaxOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LongMaxOfTest {
+
+    @Test
+    void findsMaxOfLongs() {
+        new Assertion<>(
+            "Must find the max of longs",
+            new LongMaxOf(3L, 4L, 2L).longValue(),
+            new IsEqual<>(4L)
+        ).affirm();
+    }
+
+    @Test
+    void findsMaxOfPrimitiveInts() {
+        new Assertion<>(
+            "Must find the max of a primitive iterable",
+            new LongMaxOf(new IterableOfInts(5, -1, 7, 0)).intValue(),
+            new IsEqual<>(7)
+        ).affirm();
+    }
+
+    @Test
+    void findsMaxOfBoxedNumbers() {
+        new Assertion<>(
+            "Must find the max of boxed numbers",
+            new LongMaxOf(new ListOf<Number>(5, -1L, 7.0d, 0)).longValue(),
+            new IsEqual<>((long) 7)
+        ).affirm();
+    }
+
+    @Test
+    void failsForNoNumbers() {
+        new Assertion<>(
+            "Must fail when there are no numbers",
+            () -> new LongMaxOf().longValue(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
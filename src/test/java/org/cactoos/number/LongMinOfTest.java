@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOfInts;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link LongMinOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LongMinOfTest {
+
+    @Test
+    void findsMinOfLongs() {
+        new Assertion<>(
+            "Must find the min of longs",
+            new LongMinOf(3L, 4L, 2L).longValue(),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    void findsMinOfPrimitiveInts() {
+        new Assertion<>(
+            "Must find the min of a primitive iterable",
+            new LongMinOf(new IterableOfInts(5, -1, 7, 0)).intValue(),
+            new IsEqual<>(-1)
+        ).affirm();
+    }
+
+    @Test
+    void findsMinOfBoxedNumbers() {
+        new Assertion<>(
+            "Must find the min of boxed numbers",
+            new LongMinOf(new ListOf<Number>(5, -1L, 7.0d, 0)).longValue(),
+            new IsEqual<>((long) -1)
+        ).affirm();
+    }
+
+    @Test
+    void failsForNoNumbers() {
+        new Assertion<>(
+            "Must fail when there are no numbers",
+            () -> new LongMinOf().longValue(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfInts;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link LongSumOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LongSumOfTest {
+
+    @Test
+    void sumsLongs() {
+        new Assertion<>(
+            "Must sum the longs",
+            new LongSumOf(1L, 2L, 3L).longValue(),
+            new IsEqual<>(6L)
+        ).affirm();
+    }
+
+    @Test
+    void sumsPrimitiveInts() {
+        new Assertion<>(
+            "Must sum the ints of a primitive iterable",
+            new LongSumOf(new IterableOfInts(Integer.MAX_VALUE, 1)).longValue(),
+            new IsEqual<>(2_147_483_648L)
+        ).affirm();
+    }
+
+    @Test
+    void sumsBoxedNumbersAsLongs() {
+        new Assertion<>(
+            "Must take every number as a long",
+            new LongSumOf(new ListOf<Number>(1, 2.7d, 3L)).intValue(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void sumsNothing() {
+        new Assertion<>(
+            "Must return zero for no numbers",
+            new LongSumOf().longValue(),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+
+    @Test
+    void failsOnOverflow() {
+        new Assertion<>(
+            "Must fail when the sum doesn't fit into a long",
+            () -> new LongSumOf(Long.MAX_VALUE, 1L).longValue(),
+            new Throws<>(ArithmeticException.class)
+        ).affirm();
+    }
+}
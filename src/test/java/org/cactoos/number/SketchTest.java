@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Sketch}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SketchTest {
+
+    @Test
+    void findsPercentilesOfNegativeNumbers() {
+        final Sketch sketch = new Sketch(0.01d);
+        for (int idx = 1; idx <= 100; ++idx) {
+            sketch.add(-idx);
+        }
+        new Assertion<>(
+            "Must find the percentile of negative numbers within accuracy",
+            Math.abs(sketch.percentile(0.1d) + 91.0d) <= 0.91d,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void findsZeroBetweenNegativesAndPositives() {
+        final Sketch sketch = new Sketch(0.05d);
+        sketch.add(-1.0d);
+        sketch.add(0.0d);
+        sketch.add(1.0d);
+        new Assertion<>(
+            "Must find the zero in the middle",
+            sketch.percentile(0.5d) == 0.0d,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void mergesSketches() {
+        final Sketch first = new Sketch(0.01d);
+        final Sketch second = new Sketch(0.01d);
+        for (int idx = 1; idx <= 50; ++idx) {
+            first.add(idx);
+            second.add(idx + 50);
+        }
+        new Assertion<>(
+            "Must find the percentile of the numbers of both sketches",
+            Math.abs(first.merged(second).percentile(0.9d) - 90.0d) <= 0.9d,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void skipsNanAndInfinities() {
+        final Sketch sketch = new Sketch(0.01d);
+        sketch.add(Double.NaN);
+        sketch.add(Double.POSITIVE_INFINITY);
+        sketch.add(10.0d);
+        new Assertion<>(
+            "Must count only the finite numbers",
+            Math.abs(sketch.percentile(1.0d) - 10.0d) <= 0.1d,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void refusesWrongAccuracy() {
+        new Assertion<>(
+            "Must refuse the accuracy out of the range",
+            () -> new Sketch(1.5d),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void refusesWrongQuantile() {
+        final Sketch sketch = new Sketch(0.01d);
+        sketch.add(1.0d);
+        new Assertion<>(
+            "Must refuse the quantile out of the range",
+            () -> sketch.percentile(2.0d),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
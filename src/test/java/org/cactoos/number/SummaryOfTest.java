@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfInts;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SummaryOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class SummaryOfTest {
+
+    @Test
+    void countsNumbers() {
+        new Assertion<>(
+            "Must count the numbers",
+            new SummaryOf(2.0d, 4.0d, 4.0d, 4.0d, 5.0d, 5.0d, 7.0d, 9.0d)
+                .value().count(),
+            new IsEqual<>(8L)
+        ).affirm();
+    }
+
+    @Test
+    void sumsNumbers() {
+        new Assertion<>(
+            "Must sum the numbers",
+            new SummaryOf(new IterableOfInts(1, 2, 3, 4)).value().sum(),
+            new IsEqual<>(10.0d)
+        ).affirm();
+    }
+
+    @Test
+    void findsMinAndMax() {
+        final Summary summary = new SummaryOf(
+            new ListOf<Number>(3, -2.5d, 7L, 0)
+        ).value();
+        new Assertion<>(
+            "Must find the minimum and the maximum",
+            summary.min() == -2.5d && summary.max() == 7.0d,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void findsMeanAndVariance() {
+        final Summary summary = new SummaryOf(
+            2.0d, 4.0d, 4.0d, 4.0d, 5.0d, 5.0d, 7.0d, 9.0d
+        ).value();
+        new Assertion<>(
+            "Must find the mean and the variance",
+            summary.mean() == 5.0d && summary.variance() == 4.0d,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void goesThroughNumbersOnce() {
+        final int[] reads = new int[1];
+        final Iterable<Integer> source = () -> {
+            reads[0] += 1;
+            return new IterableOfInts(1, 2, 3).iterator();
+        };
+        new SummaryOf(0.01d, source).value();
+        new Assertion<>(
+            "Must iterate the source only once",
+            reads[0],
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void findsPercentilesWithinAccuracy() {
+        final int[] items = new int[10_000];
+        for (int idx = 0; idx < items.length; ++idx) {
+            items[idx] = idx + 1;
+        }
+        final Summary summary = new SummaryOf(
+            0.01d, new IterableOfInts(items)
+        ).value();
+        new Assertion<>(
+            "Must find the median and the 99th percentile within 1%",
+            Math.abs(summary.percentile(0.5d) - 5000.0d) <= 50.0d
+                && Math.abs(summary.percentile(0.99d) - 9900.0d) <= 99.0d,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void findsExtremePercentiles() {
+        final Summary summary = new SummaryOf(
+            0.01d, new ListOf<Number>(-4.0d, 0, 8.0d)
+        ).value();
+        new Assertion<>(
+            "Must return the minimum and the maximum as extreme percentiles",
+            summary.percentile(0.0d) == -4.0d
+                && summary.percentile(1.0d) == 8.0d,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void refusesPercentilesWhenNotCollected() {
+        new Assertion<>(
+            "Must fail when percentiles are not collected",
+            () -> new SummaryOf(1.0d, 2.0d).value().percentile(0.5d),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    void summarizesNothing() {
+        final Summary summary = new SummaryOf().value();
+        new Assertion<>(
+            "Must return zeros for no numbers",
+            summary.count() == 0L && summary.sum() == 0.0d
+                && summary.mean() == 0.0d && summary.variance() == 0.0d,
+            new IsTrue()
+        ).affirm();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOfInts;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Summary}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SummaryTest {
+
+    @Test
+    void mergesIntoSummaryOfAll() {
+        final Summary merged = new SummaryOf(
+            0.01d, new IterableOfInts(1, 2, 3, 4)
+        ).value().merged(
+            new SummaryOf(0.01d, new IterableOfInts(5, 6, 7, 8, 9)).value()
+        );
+        final Summary all = new SummaryOf(
+            0.01d, new IterableOfInts(1, 2, 3, 4, 5, 6, 7, 8, 9)
+        ).value();
+        new Assertion<>(
+            "Must be the same as the summary of all numbers",
+            merged.count() == all.count() && merged.sum() == all.sum()
+                && merged.min() == all.min() && merged.max() == all.max()
+                && Math.abs(merged.mean() - all.mean()) < 1.0e-12d
+                && Math.abs(merged.variance() - all.variance()) < 1.0e-12d
+                && merged.percentile(0.5d) == all.percentile(0.5d),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void mergesWithEmptySummary() {
+        new Assertion<>(
+            "Must not change when merged with an empty summary",
+            new SummaryOf(2.0d, 4.0d).value().merged(
+                new SummaryOf().value()
+            ).mean(),
+            new IsEqual<>(3.0d)
+        ).affirm();
+    }
+
+    @Test
+    void refusesToMergeDifferentAccuracy() {
+        new Assertion<>(
+            "Must fail to merge percentiles of different accuracy",
+            () -> new SummaryOf(0.01d, new IterableOfInts(1)).value().merged(
+                new SummaryOf(0.02d, new IterableOfInts(2)).value()
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsToFindMinOfNothing() {
+        new Assertion<>(
+            "Must fail to find the minimum of no numbers",
+            () -> new SummaryOf().value().min(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.number;
+
+import org.cactoos.iterable.IterableOfInts;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link VarianceOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class VarianceOfTest {
+
+    @Test
+    void findsVarianceOfPopulation() {
+        new Assertion<>(
+            "Must find the variance of the population",
+            new VarianceOf(2.0d, 4.0d, 4.0d, 4.0d, 5.0d, 5.0d, 7.0d, 9.0d)
+                .doubleValue(),
+            new IsEqual<>(4.0d)
+        ).affirm();
+    }
+
+    @Test
+    void findsVarianceOfSample() {
+        new Assertion<>(
+            "Must find the variance of the sample",
+            new VarianceOf(true, new IterableOfInts(1, 2, 3, 4)).doubleValue(),
+            new IsEqual<>(5.0d / 3.0d)
+        ).affirm();
+    }
+
+    @Test
+    void keepsPrecisionOfBigNumbers() {
+        new Assertion<>(
+            "Must not lose precision when the numbers are big",
+            new VarianceOf(1.0e9d + 4.0d, 1.0e9d + 7.0d, 1.0e9d + 13.0d)
+                .doubleValue(),
+            new IsEqual<>(14.0d)
+        ).affirm();
+    }
+
+    @Test
+    void returnsZeroForOneNumberSample() {
+        new Assertion<>(
+            "Must return zero when there are not enough numbers",
+            new VarianceOf(true, new IterableOfInts(42)).doubleValue(),
+            new IsEqual<>(0.0d)
+        ).affirm();
+    }
+}
@@ -4,13 +4,26 @@
  */
 package org.cactoos.proc;
 
+import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.Endless;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
 import org.cactoos.list.ListOf;
 import org.cactoos.list.Synced;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link ForEachInThreads}.
@@ -47,4 +60,140 @@ final class ForEachInThreadsTest {
         ).affirm();
     }
 
+    @Test
+    void keepsLimitedAmountOfElementsInProgress() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger most = new AtomicInteger();
+        new ForEachInThreads<Integer>(
+            item -> {
+                most.accumulateAndGet(running.incrementAndGet(), Math::max);
+                TimeUnit.MILLISECONDS.sleep(1L);
+                running.decrementAndGet();
+            },
+            3
+        ).exec(new RangeOf<>(1, 50, x -> x + 1));
+        new Assertion<>(
+            "Must not process more elements at once than allowed",
+            most.get() <= 3,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void processesElementsInBatches() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final ExecutorService service = Executors.newFixedThreadPool(
+            2,
+            runnable -> new Thread(
+                runnable,
+                new StringBuilder("batch-")
+                    .append(created.incrementAndGet())
+                    .toString()
+            )
+        );
+        try {
+            final List<String> threads = new Synced<>(new ListOf<>());
+            new ForEachInThreads<Integer>(
+                service,
+                item -> threads.add(Thread.currentThread().getName()),
+                2,
+                10,
+                false
+            ).exec(new RangeOf<>(1, 10, x -> x + 1));
+            new Assertion<>(
+                "Must process a batch in one thread",
+                new HashSet<>(threads).size(),
+                new IsEqual<>(1)
+            ).affirm();
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void processesAllElementsInOrder() throws Exception {
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            final List<Integer> list = new Synced<>(new ListOf<>());
+            new ForEachInThreads<Integer>(service, list::add, 1, 3, true).exec(
+                new RangeOf<>(1, 7, x -> x + 1)
+            );
+            new Assertion<>(
+                "Must process all elements",
+                list,
+                new IsEqual<>(new ListOf<>(1, 2, 3, 4, 5, 6, 7))
+            ).affirm();
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void stopsPullingElementsAfterFailure() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            new Assertion<>(
+                "Must fail on an endless iterable",
+                () -> {
+                    new ForEachInThreads<Integer>(
+                        service,
+                        item -> {
+                            if (item == 5) {
+                                throw new IOException("Stop");
+                            }
+                        },
+                        2, 1, true
+                    ).exec(
+                        new Mapped<>(
+                            x -> pulled.incrementAndGet(),
+                            new Endless<>(0)
+                        )
+                    );
+                    return true;
+                },
+                new Throws<>(
+                    "java.io.IOException: Stop", ExecutionException.class
+                )
+            ).affirm();
+        } finally {
+            service.shutdownNow();
+        }
+        new Assertion<>(
+            "Must pull only a few elements ahead of the failed one",
+            pulled.get() <= 7,
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void throwsFirstFailure() {
+        new Assertion<>(
+            "Must throw the failure of the proc",
+            () -> {
+                new ForEachInThreads<Integer>(
+                    item -> {
+                        throw new IOException("Failed");
+                    },
+                    2
+                ).exec(new IterableOf<>(1, 2, 3));
+                return true;
+            },
+            new Throws<>("java.io.IOException: Failed", ExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNonPositiveAmountOfThreads() {
+        new Assertion<>(
+            "Must reject zero threads",
+            () -> {
+                new ForEachInThreads<Integer>(item -> { }, 0).exec(
+                    new IterableOf<>(1)
+                );
+                return true;
+            },
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
 }
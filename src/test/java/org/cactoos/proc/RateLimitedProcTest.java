@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Proc;
+import org.cactoos.func.TokenBucket;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link RateLimitedProc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class RateLimitedProcTest {
+
+    @Test
+    void executesProcWithinRate() throws Exception {
+        final AtomicInteger total = new AtomicInteger();
+        new RateLimitedProc<Integer>(
+            total::addAndGet, new TokenBucket(10.0d, 2)
+        ).exec(5);
+        new Assertion<>(
+            "Must execute the proc",
+            total.get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void failsFastWithoutToken() throws Exception {
+        final Proc<Integer> proc = new RateLimitedProc<>(
+            input -> { }, new TokenBucket(1.0d), Duration.ZERO
+        );
+        proc.exec(1);
+        new Assertion<>(
+            "Must reject the call without a token",
+            () -> {
+                proc.exec(2);
+                return true;
+            },
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
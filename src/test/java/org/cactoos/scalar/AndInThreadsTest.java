@@ -4,9 +4,13 @@
  */
 package org.cactoos.scalar;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
@@ -20,6 +24,8 @@ import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.IsTrue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link AndInThreads}.
@@ -220,4 +226,50 @@ final class AndInThreadsTest {
         ).affirm();
     }
 
+    @Test
+    void returnsFalseBeforeSlowScalarsFinish() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        new Assertion<>(
+            "Must return FALSE as soon as it is known",
+            new AndInThreads(
+                () -> {
+                    started.countDown();
+                    try {
+                        TimeUnit.DAYS.sleep(1L);
+                    } catch (final InterruptedException ex) {
+                        cancelled.countDown();
+                    }
+                    return true;
+                },
+                () -> {
+                    started.await();
+                    return false;
+                }
+            ),
+            new HasValue<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must cancel the slow scalar",
+            cancelled.await(1L, TimeUnit.MINUTES),
+            new IsTrue()
+        ).affirm();
+    }
+
+    @Test
+    void throwsFirstFailure() {
+        new Assertion<>(
+            "Must throw the failure as soon as it happens",
+            () -> new AndInThreads(
+                () -> {
+                    TimeUnit.DAYS.sleep(1L);
+                    return true;
+                },
+                () -> {
+                    throw new IOException("Failed");
+                }
+            ).value(),
+            new Throws<>("java.io.IOException: Failed", ExecutionException.class)
+        ).affirm();
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Expiring}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ExpiringTest {
+
+    @Test
+    void cachesUntilExpiration() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ofHours(1L)
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must cache the value",
+            scalar.value(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void recalculatesExpiredValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ZERO
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must recalculate the expired value",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void refreshesAhead() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet,
+            Duration.ofHours(1L),
+            Duration.ZERO,
+            Runnable::run
+        );
+        scalar.value();
+        scalar.value();
+        new Assertion<>(
+            "Must return the refreshed value",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.MappedDoubles;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link FoldedDoubles}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FoldedDoublesTest {
+
+    @Test
+    void foldsElements() {
+        new Assertion<>(
+            "Must fold all elements",
+            new FoldedDoubles(0.0d, (acc, x) -> acc + x, 1.0d, 2.0d, 3.0d)
+                .asDouble(),
+            new IsEqual<>(6.0d)
+        ).affirm();
+    }
+
+    @Test
+    void foldsBoxedElements() {
+        new Assertion<>(
+            "Must fold the elements of a boxed iterable",
+            new FoldedDoubles(
+                1.0d, (acc, x) -> acc * x, new ListOf<Double>(2.0d, 3.0d)
+            ),
+            new HasValue<>(6.0d)
+        ).affirm();
+    }
+
+    @Test
+    void foldsMappedElements() {
+        new Assertion<>(
+            "Must fold the elements of a mapped iterable",
+            new FoldedDoubles(
+                0.0d,
+                (acc, x) -> acc + x,
+                new MappedDoubles(x -> x * 2, 1.0d, 2.0d)
+            ).asDouble(),
+            new IsEqual<>(6.0d)
+        ).affirm();
+    }
+
+    @Test
+    void returnsInitialValueOfEmptyIterable() {
+        new Assertion<>(
+            "Must return the initial value",
+            new FoldedDoubles(10.0d, (acc, x) -> acc + x).asDouble(),
+            new IsEqual<>(10.0d)
+        ).affirm();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.MappedInts;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link FoldedInts}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FoldedIntsTest {
+
+    @Test
+    void foldsElements() {
+        new Assertion<>(
+            "Must fold all elements",
+            new FoldedInts(0, (acc, x) -> acc + x, 1, 2, 3)
+                .asInt(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void foldsBoxedElements() {
+        new Assertion<>(
+            "Must fold the elements of a boxed iterable",
+            new FoldedInts(
+                1, (acc, x) -> acc * x, new ListOf<Integer>(2, 3)
+            ),
+            new HasValue<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void foldsMappedElements() {
+        new Assertion<>(
+            "Must fold the elements of a mapped iterable",
+            new FoldedInts(
+                0,
+                (acc, x) -> acc + x,
+                new MappedInts(x -> x * 2, 1, 2)
+            ).asInt(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void returnsInitialValueOfEmptyIterable() {
+        new Assertion<>(
+            "Must return the initial value",
+            new FoldedInts(10, (acc, x) -> acc + x).asInt(),
+            new IsEqual<>(10)
+        ).affirm();
+    }
+}
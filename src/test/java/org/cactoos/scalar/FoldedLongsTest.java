@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.MappedLongs;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link FoldedLongs}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FoldedLongsTest {
+
+    @Test
+    void foldsElements() {
+        new Assertion<>(
+            "Must fold all elements",
+            new FoldedLongs(0L, (acc, x) -> acc + x, 1L, 2L, 3L)
+                .asLong(),
+            new IsEqual<>(6L)
+        ).affirm();
+    }
+
+    @Test
+    void foldsBoxedElements() {
+        new Assertion<>(
+            "Must fold the elements of a boxed iterable",
+            new FoldedLongs(
+                1L, (acc, x) -> acc * x, new ListOf<Long>(2L, 3L)
+            ),
+            new HasValue<>(6L)
+        ).affirm();
+    }
+
+    @Test
+    void foldsMappedElements() {
+        new Assertion<>(
+            "Must fold the elements of a mapped iterable",
+            new FoldedLongs(
+                0L,
+                (acc, x) -> acc + x,
+                new MappedLongs(x -> x * 2, 1L, 2L)
+            ).asLong(),
+            new IsEqual<>(6L)
+        ).affirm();
+    }
+
+    @Test
+    void returnsInitialValueOfEmptyIterable() {
+        new Assertion<>(
+            "Must return the initial value",
+            new FoldedLongs(10L, (acc, x) -> acc + x).asLong(),
+            new IsEqual<>(10L)
+        ).affirm();
+    }
+}
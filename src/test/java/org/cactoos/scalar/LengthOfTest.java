@@ -5,11 +5,19 @@
 
 package org.cactoos.scalar;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.io.HeadOf;
 import org.cactoos.io.InputOf;
+import org.cactoos.io.MappedInput;
+import org.cactoos.io.TeeInput;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.text.TextOf;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
 import org.llorllale.cactoos.matchers.HasValue;
 import org.llorllale.cactoos.matchers.Throws;
 
@@ -103,4 +111,44 @@ final class LengthOfTest {
             new HasValue<>(12L)
         ).affirm();
     }
+
+    @Test
+    void lengthOfFileCopiedThroughTee(@TempDir final Path wdir)
+        throws Exception {
+        final Path input = wdir.resolve("tee-in.txt");
+        Files.write(input, "Hello, tee!".getBytes(StandardCharsets.UTF_8));
+        final Path output = wdir.resolve("tee-out.txt");
+        new Assertion<>(
+            "Must calculate length of file copied into another file",
+            new LengthOf(new TeeInput(input, output)),
+            new HasValue<>(11L)
+        ).affirm();
+        new Assertion<>(
+            "Must copy the whole file through tee",
+            new InputOf(output),
+            new HasContent("Hello, tee!")
+        ).affirm();
+    }
+
+    @Test
+    void lengthOfMappedFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("mapped.txt");
+        Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must sum up the regions of a mapped file",
+            new LengthOf(new MappedInput(file, 4)),
+            new HasValue<>(10L)
+        ).affirm();
+    }
+
+    @Test
+    void lengthOfHeadOfMappedFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("head.txt");
+        Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must count the head of a mapped file",
+            new LengthOf(new HeadOf(new MappedInput(file, 4), 7)),
+            new HasValue<>(7L)
+        ).affirm();
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2025 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link OrInThreads}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings({"PMD.JUnitTestsShouldIncludeAssert", "unchecked"})
+final class OrInThreadsTest {
+
+    @Test
+    void allFalse() {
+        new Assertion<>(
+            "Must be FALSE when all are FALSE",
+            new OrInThreads(
+                new False(),
+                new False(),
+                new False()
+            ),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void oneTrue() {
+        new Assertion<>(
+            "Must be TRUE when one is TRUE",
+            new OrInThreads(
+                new False(),
+                new True(),
+                new False()
+            ),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void emptyIterable() {
+        new Assertion<>(
+            "Must be FALSE when empty",
+            new OrInThreads(new ListOf<>()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithFunc() {
+        new Assertion<>(
+            "Must apply the func",
+            new OrInThreads(
+                input -> input > 2,
+                1, 2, 3
+            ),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithExecService() {
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            new Assertion<>(
+                "Must run in the given service",
+                new OrInThreads(
+                    service,
+                    input -> input > 5,
+                    1, 2, 3
+                ),
+                new HasValue<>(false)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void returnsTrueBeforeSlowScalarsFinish() {
+        new Assertion<>(
+            "Must return TRUE as soon as it is known",
+            new OrInThreads(
+                () -> {
+                    TimeUnit.DAYS.sleep(1L);
+                    return false;
+                },
+                new True()
+            ),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void throwsFirstFailure() {
+        new Assertion<>(
+            "Must throw the failure as soon as it happens",
+            () -> new OrInThreads(
+                () -> {
+                    TimeUnit.DAYS.sleep(1L);
+                    return true;
+                },
+                () -> {
+                    throw new IOException("Failed");
+                }
+            ).value(),
+            new Throws<>("java.io.IOException: Failed", ExecutionException.class)
+        ).affirm();
+    }
+}
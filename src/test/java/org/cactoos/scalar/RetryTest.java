@@ -11,6 +11,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.func.Backoff;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -107,4 +108,24 @@ final class RetryTest {
             ).affirm();
         }
     }
+
+    @Test
+    void runsScalarWithBackoff() throws Exception {
+        final AtomicInteger tries = new AtomicInteger(0);
+        new Assertion<>(
+            "Must return the value after retries with backoff",
+            new Retry<>(
+                () -> {
+                    if (tries.getAndIncrement() < 2) {
+                        throw new IllegalArgumentException("Not yet");
+                    }
+                    return 7;
+                },
+                5,
+                new Backoff.Exponential(Duration.ofMillis(1L), Duration.ofMillis(8L)),
+                Duration.ofMinutes(1L)
+            ),
+            new HasValue<>(7)
+        ).affirm();
+    }
 }
@@ -6,6 +6,7 @@ package org.cactoos.scalar;
 
 import java.security.SecureRandom;
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -30,4 +31,16 @@ final class StickyTest {
         ).affirm();
     }
 
+    @Test
+    void reportsStats() throws Exception {
+        final CacheStats stats = new CacheStats.Counting();
+        final Scalar<Integer> scalar = new Sticky<>(() -> 1, stats);
+        scalar.value();
+        scalar.value();
+        new Assertion<>(
+            "Must report one miss",
+            stats.snapshot().misses(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
 }
@@ -9,7 +9,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.io.HeadOf;
 import org.cactoos.io.InputOf;
+import org.cactoos.io.MappedInput;
 import org.cactoos.iterable.IterableOfChars;
 import org.cactoos.iterator.IteratorOfChars;
 import org.hamcrest.core.AllOf;
@@ -17,6 +21,7 @@ import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.EndsWith;
 import org.llorllale.cactoos.matchers.HasString;
@@ -384,4 +389,44 @@ final class TextOfTest {
             new IsEqual<>(hash.hashCode())
         ).affirm();
     }
+
+    @Test
+    void readsMappedFileWithCharsSplitBetweenRegions(
+        @TempDir final Path wdir
+    ) throws Exception {
+        final Path file = wdir.resolve("split.txt");
+        final String content = "Привет, мир! 😀 done";
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must decode characters split between mapped regions",
+            new TextOf(new MappedInput(file, 3)),
+            new HasString(content)
+        ).affirm();
+    }
+
+    @Test
+    void readsMappedFileWithMalformedBytes(@TempDir final Path wdir)
+        throws Exception {
+        final Path file = wdir.resolve("malformed.bin");
+        final byte[] content = {
+            (byte) 'a', (byte) 0xD0, (byte) 'b', (byte) 0xE2,
+        };
+        Files.write(file, content);
+        new Assertion<>(
+            "Must replace malformed bytes, as String does",
+            new TextOf(new MappedInput(file, 2)).asString(),
+            new IsEqual<>(new String(content, StandardCharsets.UTF_8))
+        ).affirm();
+    }
+
+    @Test
+    void readsHeadOfMappedFile(@TempDir final Path wdir) throws Exception {
+        final Path file = wdir.resolve("head.txt");
+        Files.write(file, "Привет, мир!".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "Must decode the head of a mapped file",
+            new TextOf(new HeadOf(new MappedInput(file, 3), 12)),
+            new HasString("Привет")
+        ).affirm();
+    }
 }